@@ -0,0 +1,58 @@
+package io.github.gone.analyzer;
+
+import io.github.gone.utils.AliasTable;
+import io.github.gone.utils.GameRandom;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts how often each species drops from one loot table over a number of casts.
+ *
+ * The work is split in halves until it is small enough for one thread, each half
+ * drawing from its own split of the random stream. The split tree only depends on
+ * the number of casts, so a seed gives the same counts on any number of cores.
+ */
+class DropRateTask extends RecursiveTask<long[]> {
+    // Casts handled by one leaf, large enough to hide the fork overhead
+    private static final long LEAF_CASTS = 1 << 20;
+    private static final int BATCH_SIZE = 4096;
+
+    private final AliasTable table;
+    private final long casts;
+    private final GameRandom random;
+
+    DropRateTask(AliasTable table, long casts, GameRandom random) {
+        this.table = table;
+        this.casts = casts;
+        this.random = random;
+    }
+
+    @Override
+    protected long[] compute() {
+        if (casts > LEAF_CASTS) {
+            long half = casts / 2;
+            DropRateTask first = new DropRateTask(table, half, random.split());
+            DropRateTask second = new DropRateTask(table, casts - half, random.split());
+            first.fork();
+            long[] counts = second.compute();
+            long[] firstCounts = first.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += firstCounts[i];
+            }
+            return counts;
+        }
+
+        long[] counts = new long[table.size()];
+        int[] batch = new int[BATCH_SIZE];
+        long remaining = casts;
+        while (remaining > 0) {
+            int n = (int) Math.min(remaining, BATCH_SIZE);
+            table.sample(n, random, batch);
+            for (int i = 0; i < n; i++) {
+                counts[batch[i]]++;
+            }
+            remaining -= n;
+        }
+        return counts;
+    }
+}
\ No newline at end of file
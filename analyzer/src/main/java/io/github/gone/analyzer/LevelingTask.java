@@ -0,0 +1,83 @@
+package io.github.gone.analyzer;
+
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.progression.ProgressionManager;
+import io.github.gone.utils.AliasTable;
+import io.github.gone.utils.GameRandom;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays simulated players from a fresh save to the max level and records after how
+ * many casts each of them reached every level.
+ *
+ * Every player draws from the sub-stream of its index, so results don't depend on
+ * how the players are spread over the threads.
+ */
+class LevelingTask extends RecursiveAction {
+    private static final int LEAF_PLAYERS = 256;
+    // Stops a player that can't level up, e.g. with a catch rate close to 0
+    private static final int MAX_CASTS = 10_000_000;
+
+    private final AliasTable[][] tables;
+    private final int[] experienceById;
+    private final ThrowSkill skill;
+    private final float catchRate;
+    private final GameRandom random;
+    private final int[][] castsToLevel;
+    private final int from;
+    private final int to;
+
+    /**
+     * @param tables loot tables indexed by level - 1 and SuccessLevel
+     * @param experienceById experience for a catch of each species
+     * @param castsToLevel output, casts needed by each player indexed by level and player
+     */
+    LevelingTask(AliasTable[][] tables, int[] experienceById, ThrowSkill skill, float catchRate,
+                 GameRandom random, int[][] castsToLevel, int from, int to) {
+        this.tables = tables;
+        this.experienceById = experienceById;
+        this.skill = skill;
+        this.catchRate = catchRate;
+        this.random = random;
+        this.castsToLevel = castsToLevel;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from > LEAF_PLAYERS) {
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new LevelingTask(tables, experienceById, skill, catchRate, random, castsToLevel, from, middle),
+                new LevelingTask(tables, experienceById, skill, catchRate, random, castsToLevel, middle, to));
+            return;
+        }
+
+        int maxLevel = ProgressionManager.getMaxLevel();
+        for (int player = from; player < to; player++) {
+            GameRandom playerRandom = random.derive(player);
+            int level = 1;
+            int exp = 0;
+            int casts = 0;
+            while (level < maxLevel && casts < MAX_CASTS) {
+                casts++;
+                ThrowMinigame.SuccessLevel successLevel = skill.sample(playerRandom);
+                int speciesId = tables[level - 1][successLevel.ordinal()].sample(playerRandom);
+                if (playerRandom.nextFloat() >= catchRate) continue;
+
+                exp += experienceById[speciesId];
+                int newLevel = ProgressionManager.getLevelForExperience(exp);
+                for (int reached = level + 1; reached <= newLevel; reached++) {
+                    castsToLevel[reached][player] = casts;
+                }
+                level = newLevel;
+            }
+            // Levels never reached count as the cast limit
+            for (int reached = level + 1; reached <= maxLevel; reached++) {
+                castsToLevel[reached][player] = MAX_CASTS;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,314 @@
+package io.github.gone.analyzer;
+
+import com.badlogic.gdx.files.FileHandle;
+import io.github.gone.fish.Fish;
+import io.github.gone.fish.FishLootTable;
+import io.github.gone.fish.LootTuning;
+import io.github.gone.fish.SpeciesCatalog;
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.progression.ProgressionManager;
+import io.github.gone.utils.AliasTable;
+import io.github.gone.utils.GameRandom;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line Monte Carlo analyzer for the loot tables and the progression pacing.
+ *
+ * Runs the game's own FishLootTable and ProgressionManager rules over millions of
+ * simulated casts on every core, and prints the drop rate of each species with its
+ * 95% confidence interval, the experience per cast, the casts needed for each level
+ * and how these change with the player's throw skill. Run it with ./gradlew analyzer:run
+ * and pass options with --args, e.g. --args="--casts 100000000 --seed 1".
+ */
+public class LootAnalyzer {
+    private static final float[] SENSITIVITY_SKILLS = {0f, 0.25f, 0.5f, 0.75f, 1f};
+    private static final ThrowMinigame.SuccessLevel[] SUCCESS_LEVELS = ThrowMinigame.SuccessLevel.values();
+    private static final String[] TIER_NAMES = {"trash", "common", "rare", "legendary"};
+    // Two-sided 95% confidence
+    private static final double Z = 1.96;
+
+    private final SpeciesCatalog catalog;
+    private final FishLootTable lootTable;
+    private final ForkJoinPool pool;
+    private final GameRandom random;
+    private final int[] experienceById;
+
+    // Options
+    private long casts = 10_000_000;
+    private int players = 20_000;
+    private float skill = 0.5f;
+    private float catchRate = 1f;
+    private float secondsPerCast = 10f;
+
+    // Drop counts indexed by level - 1, SuccessLevel and species id
+    private long[][][] counts;
+
+    LootAnalyzer(SpeciesCatalog catalog, LootTuning tuning, long seed, int threads) {
+        this.catalog = catalog;
+        this.random = new GameRandom(seed);
+        this.lootTable = new FishLootTable(catalog, tuning, random.derive(0));
+        this.pool = new ForkJoinPool(threads);
+        this.experienceById = new int[catalog.size()];
+        for (int id = 0; id < catalog.size(); id++) {
+            experienceById[id] = ProgressionManager.getExperienceForCatch(catalog.get(id).getRarity());
+        }
+    }
+
+    public static void main(String[] args) {
+        String catalogPath = SpeciesCatalog.FILE;
+        long seed = GameRandom.newSeed();
+        int threads = Runtime.getRuntime().availableProcessors();
+        long casts = -1;
+        int players = -1;
+        float skill = -1, catchRate = -1, secondsPerCast = -1;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help") || option.equals("-h")) {
+                printUsage();
+                return;
+            }
+            if (i + 1 >= args.length) {
+                fail("Missing value for " + option);
+            }
+            String value = args[++i];
+            try {
+                switch (option) {
+                    case "--casts": casts = Long.parseLong(value); break;
+                    case "--players": players = Integer.parseInt(value); break;
+                    case "--skill": skill = Float.parseFloat(value); break;
+                    case "--catch-rate": catchRate = Float.parseFloat(value); break;
+                    case "--seconds-per-cast": secondsPerCast = Float.parseFloat(value); break;
+                    case "--seed": seed = Long.parseLong(value); break;
+                    case "--threads": threads = Integer.parseInt(value); break;
+                    case "--catalog": catalogPath = value; break;
+                    default: fail("Unknown option " + option);
+                }
+            } catch (NumberFormatException e) {
+                fail("Not a number for " + option + ": " + value);
+            }
+        }
+
+        File catalogFile = new File(catalogPath);
+        if (!catalogFile.isFile()) {
+            fail("Species catalog not found: " + catalogFile.getAbsolutePath());
+        }
+
+        LootAnalyzer analyzer = new LootAnalyzer(SpeciesCatalog.load(new FileHandle(catalogFile)),
+            LootTuning.DEFAULT, seed, threads);
+        if (casts > 0) analyzer.casts = casts;
+        if (players > 0) analyzer.players = players;
+        if (skill >= 0) analyzer.skill = Math.min(skill, 1f);
+        if (catchRate > 0) analyzer.catchRate = Math.min(catchRate, 1f);
+        if (secondsPerCast > 0) analyzer.secondsPerCast = secondsPerCast;
+
+        System.out.printf(Locale.ROOT, "Gone Fishing loot analyzer: %d species, seed %d, %d threads%n",
+            analyzer.catalog.size(), seed, threads);
+        analyzer.run();
+    }
+
+    void run() {
+        long start = System.nanoTime();
+        simulateDrops();
+        double dropSeconds = (System.nanoTime() - start) / 1e9;
+        long totalCasts = casts * ProgressionManager.getMaxLevel() * SUCCESS_LEVELS.length;
+        System.out.printf(Locale.ROOT, "Simulated %,d casts in %.2fs (%,.0f casts/s)%n%n",
+            totalCasts, dropSeconds, totalCasts / dropSeconds);
+
+        printDropRates();
+        printExperiencePerCast();
+
+        start = System.nanoTime();
+        printTimeToLevel();
+        printSensitivity();
+        System.out.printf(Locale.ROOT, "Simulated %,d players per skill in %.2fs%n",
+            players, (System.nanoTime() - start) / 1e9);
+        pool.shutdown();
+    }
+
+    /**
+     * Fills the drop counts for every level and throw
+     */
+    private void simulateDrops() {
+        int maxLevel = ProgressionManager.getMaxLevel();
+        counts = new long[maxLevel][SUCCESS_LEVELS.length][];
+        for (int level = 1; level <= maxLevel; level++) {
+            for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+                AliasTable table = lootTable.getTable(level, successLevel);
+                GameRandom cellRandom = random.derive(level * 16L + successLevel.ordinal());
+                counts[level - 1][successLevel.ordinal()] = pool.invoke(new DropRateTask(table, casts, cellRandom));
+            }
+        }
+    }
+
+    private void printDropRates() {
+        for (int level = 1; level <= counts.length; level++) {
+            System.out.printf(Locale.ROOT, "Drop rates at level %d (%,d casts per throw, 95%% confidence)%n", level, casts);
+            System.out.printf(Locale.ROOT, "  %-20s %-10s", "Species", "Tier");
+            for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+                System.out.printf(Locale.ROOT, " %20s", successLevel.name());
+            }
+            System.out.println();
+            for (Fish species : catalog.getAll()) {
+                System.out.printf(Locale.ROOT, "  %-20s %-10s", species.getName(), TIER_NAMES[species.getTier()]);
+                for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+                    double p = (double) counts[level - 1][successLevel.ordinal()][species.getId()] / casts;
+                    double margin = Z * Math.sqrt(p * (1 - p) / casts);
+                    System.out.printf(Locale.ROOT, " %9.4f%% +-%7.4f%%", p * 100, margin * 100);
+                }
+                System.out.println();
+            }
+            System.out.println();
+        }
+    }
+
+    private void printExperiencePerCast() {
+        System.out.printf(Locale.ROOT, "Experience per cast (catch rate %.0f%%, 95%% confidence)%n", catchRate * 100);
+        System.out.printf(Locale.ROOT, "  %-6s", "Level");
+        for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+            System.out.printf(Locale.ROOT, " %16s", successLevel.name());
+        }
+        System.out.printf(Locale.ROOT, " %16s%n", String.format(Locale.ROOT, "skill %.2f", skill));
+
+        ThrowSkill throwSkill = new ThrowSkill(skill);
+        for (int level = 1; level <= counts.length; level++) {
+            System.out.printf(Locale.ROOT, "  %-6d", level);
+            double mixedMean = 0, mixedVariance = 0;
+            for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+                double[] estimate = experienceEstimate(counts[level - 1][successLevel.ordinal()]);
+                System.out.printf(Locale.ROOT, " %8.3f +-%6.3f", estimate[0], Z * estimate[1]);
+                double chance = throwSkill.getChance(successLevel);
+                mixedMean += chance * estimate[0];
+                mixedVariance += chance * chance * estimate[1] * estimate[1];
+            }
+            System.out.printf(Locale.ROOT, " %8.3f +-%6.3f%n", mixedMean, Z * Math.sqrt(mixedVariance));
+        }
+        System.out.println();
+    }
+
+    /**
+     * Mean experience per cast and its standard error, with missed catches giving nothing
+     */
+    private double[] experienceEstimate(long[] dropCounts) {
+        double sum = 0, sumOfSquares = 0;
+        for (int id = 0; id < dropCounts.length; id++) {
+            sum += (double) dropCounts[id] * experienceById[id];
+            sumOfSquares += (double) dropCounts[id] * experienceById[id] * experienceById[id];
+        }
+        double mean = catchRate * sum / casts;
+        double variance = catchRate * sumOfSquares / casts - mean * mean;
+        return new double[] {mean, Math.sqrt(Math.max(variance, 0) / casts)};
+    }
+
+    private void printTimeToLevel() {
+        int[][] castsToLevel = simulateLeveling(new ThrowSkill(skill));
+        System.out.printf(Locale.ROOT, "Time to level (skill %.2f, catch rate %.0f%%, %.0fs per cast, %,d players)%n",
+            skill, catchRate * 100, secondsPerCast, players);
+        System.out.printf(Locale.ROOT, "  %-6s %8s %16s %8s %8s %10s%n", "Level", "XP", "Mean casts", "p50", "p90", "Minutes");
+        for (int level = 2; level < castsToLevel.length; level++) {
+            int[] sorted = castsToLevel[level].clone();
+            Arrays.sort(sorted);
+            double mean = 0, meanOfSquares = 0;
+            for (int c : sorted) {
+                mean += c;
+                meanOfSquares += (double) c * c;
+            }
+            mean /= sorted.length;
+            meanOfSquares /= sorted.length;
+            double margin = Z * Math.sqrt(Math.max(meanOfSquares - mean * mean, 0) / sorted.length);
+            System.out.printf(Locale.ROOT, "  %-6d %8d %8.1f +-%6.2f %8d %8d %10.1f%n",
+                level, ProgressionManager.getRequiredExperience(level), mean, margin,
+                percentile(sorted, 0.5), percentile(sorted, 0.9), mean * secondsPerCast / 60);
+        }
+        System.out.println();
+    }
+
+    private void printSensitivity() {
+        int maxLevel = ProgressionManager.getMaxLevel();
+        System.out.printf(Locale.ROOT, "Sensitivity to throw skill (catch rate %.0f%%)%n", catchRate * 100);
+        System.out.printf(Locale.ROOT, "  %-6s %-20s", "Skill", "MISS/GOOD/GREAT");
+        for (int level = 1; level <= maxLevel; level++) {
+            System.out.printf(Locale.ROOT, " %8s", "XP@L" + level);
+        }
+        System.out.printf(Locale.ROOT, " %14s %14s%n", "Casts to L" + maxLevel, "Legendary/100");
+
+        for (float value : SENSITIVITY_SKILLS) {
+            ThrowSkill throwSkill = new ThrowSkill(value);
+            System.out.printf(Locale.ROOT, "  %-6.2f %-20s", value, String.format(Locale.ROOT, "%.2f/%.2f/%.2f",
+                throwSkill.getChance(ThrowMinigame.SuccessLevel.MISS),
+                throwSkill.getChance(ThrowMinigame.SuccessLevel.GOOD),
+                throwSkill.getChance(ThrowMinigame.SuccessLevel.GREAT)));
+            for (int level = 1; level <= maxLevel; level++) {
+                double mean = 0;
+                for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+                    mean += throwSkill.getChance(successLevel) * experienceEstimate(counts[level - 1][successLevel.ordinal()])[0];
+                }
+                System.out.printf(Locale.ROOT, " %8.2f", mean);
+            }
+
+            int[][] castsToLevel = simulateLeveling(throwSkill);
+            double meanCasts = 0;
+            for (int c : castsToLevel[maxLevel]) {
+                meanCasts += c;
+            }
+            meanCasts /= players;
+
+            // Legendary catches per 100 casts once the player is at the max level
+            double legendary = 0;
+            for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+                long[] dropCounts = counts[maxLevel - 1][successLevel.ordinal()];
+                long legendaryCount = 0;
+                for (int id = catalog.getTierStart(3); id < catalog.getTierEnd(3); id++) {
+                    legendaryCount += dropCounts[id];
+                }
+                legendary += throwSkill.getChance(successLevel) * legendaryCount / casts;
+            }
+            System.out.printf(Locale.ROOT, " %14.1f %14.2f%n", meanCasts, legendary * 100 * catchRate);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Casts each simulated player needed to reach every level, indexed by level and player
+     */
+    private int[][] simulateLeveling(ThrowSkill throwSkill) {
+        int maxLevel = ProgressionManager.getMaxLevel();
+        AliasTable[][] tables = new AliasTable[maxLevel][SUCCESS_LEVELS.length];
+        for (int level = 1; level <= maxLevel; level++) {
+            for (ThrowMinigame.SuccessLevel successLevel : SUCCESS_LEVELS) {
+                tables[level - 1][successLevel.ordinal()] = lootTable.getTable(level, successLevel);
+            }
+        }
+        int[][] castsToLevel = new int[maxLevel + 1][players];
+        // The same players for every skill, so the skills are compared on equal luck
+        GameRandom levelingRandom = random.derive(-1);
+        pool.invoke(new LevelingTask(tables, experienceById, throwSkill, catchRate, levelingRandom, castsToLevel, 0, players));
+        return castsToLevel;
+    }
+
+    private static int percentile(int[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (fraction * sorted.length))];
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: LootAnalyzer [options]");
+        System.out.println("  --casts <n>             casts per level and throw for the drop rates (default 10000000)");
+        System.out.println("  --players <n>           simulated players for the time to level (default 20000)");
+        System.out.println("  --skill <0..1>          throw skill for the time to level (default 0.5)");
+        System.out.println("  --catch-rate <0..1>     chance of winning the catch minigame (default 1)");
+        System.out.println("  --seconds-per-cast <s>  length of a cast, for the time to level (default 10)");
+        System.out.println("  --seed <n>              seed of the simulation, random by default");
+        System.out.println("  --threads <n>           worker threads (default: all cores)");
+        System.out.println("  --catalog <file>        species catalog (default data/species.json)");
+    }
+
+    private static void fail(String message) {
+        System.err.println(message);
+        printUsage();
+        System.exit(1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package io.github.gone.analyzer;
+
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.utils.AliasTable;
+
+import java.util.Random;
+
+/**
+ * How well a simulated player throws, from 0 (always misses) to 1 (always great).
+ *
+ * A skill of s gives GREAT with chance s², GOOD with 2s(1 - s) and MISS with (1 - s)²,
+ * as if the player had two tries at hitting the success zone.
+ */
+public final class ThrowSkill {
+    private static final ThrowMinigame.SuccessLevel[] SUCCESS_LEVELS = ThrowMinigame.SuccessLevel.values();
+
+    private final float skill;
+    private final float[] chances;
+    private final AliasTable table;
+
+    public ThrowSkill(float skill) {
+        if (skill < 0 || skill > 1) throw new IllegalArgumentException("Skill must be between 0 and 1: " + skill);
+        this.skill = skill;
+        this.chances = new float[SUCCESS_LEVELS.length];
+        chances[ThrowMinigame.SuccessLevel.MISS.ordinal()] = (1 - skill) * (1 - skill);
+        chances[ThrowMinigame.SuccessLevel.GOOD.ordinal()] = 2 * skill * (1 - skill);
+        chances[ThrowMinigame.SuccessLevel.GREAT.ordinal()] = skill * skill;
+        this.table = new AliasTable(chances);
+    }
+
+    public float getSkill() {
+        return skill;
+    }
+
+    /**
+     * Chance of a throw ending with the given success level
+     */
+    public float getChance(ThrowMinigame.SuccessLevel successLevel) {
+        return chances[successLevel.ordinal()];
+    }
+
+    public ThrowMinigame.SuccessLevel sample(Random random) {
+        return SUCCESS_LEVELS[table.sample(random)];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package io.github.gone.benchmarks;
+
+import io.github.gone.entities.Gallery;
+import io.github.gone.fish.FishCatch;
+import io.github.gone.fish.SpeciesCatalog;
+import io.github.gone.game.GameEventBus;
+import io.github.gone.game.SessionStats;
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.progression.AchievementTracker;
+import io.github.gone.progression.ProgressionManager;
+import io.github.gone.utils.GameLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What rewarding a catch costs the render thread now that it only publishes it:
+ * the gallery, progression, achievements and stats consume the events on their own threads.
+ * Publishing as fast as possible keeps the ring full, so this is the worst case.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EventBusBenchmark {
+    private GameEventBus events;
+    private FishCatch[] catches;
+    private int catchIndex;
+
+    @Setup
+    public void setUp() {
+        StubApplication.install();
+        GameLog.getInstance().setLevel(GameLog.Level.OFF);
+        events = GameEventBus.getInstance();
+        events.addConsumer("gallery", Gallery.getInstance());
+        events.addConsumer("progression", ProgressionManager.getInstance());
+        events.addConsumer("achievements", AchievementTracker.getInstance());
+        events.addConsumer("stats", new SessionStats());
+        events.start();
+
+        SpeciesCatalog catalog = SpeciesCatalog.getInstance();
+        catches = new FishCatch[catalog.size()];
+        for (int id = 0; id < catches.length; id++) {
+            catches[id] = new FishCatch(catalog.get(id), 1.5f);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        events.dispose();
+    }
+
+    @Benchmark
+    public boolean publishCatch() {
+        catchIndex = (catchIndex + 1) % catches.length;
+        return events.publishCatch(catches[catchIndex], ThrowMinigame.SuccessLevel.GOOD);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package io.github.gone.benchmarks;
+
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Preferences kept in memory. flush() serializes them to XML like the desktop backend
+ * does, but into a reused buffer instead of a file, so the benchmarks include the
+ * cost of persisting without depending on the disk.
+ */
+class InMemoryPreferences implements Preferences {
+    private final Properties properties = new Properties();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+
+    @Override
+    public Preferences putBoolean(String key, boolean val) {
+        properties.put(key, Boolean.toString(val));
+        return this;
+    }
+
+    @Override
+    public Preferences putInteger(String key, int val) {
+        properties.put(key, Integer.toString(val));
+        return this;
+    }
+
+    @Override
+    public Preferences putLong(String key, long val) {
+        properties.put(key, Long.toString(val));
+        return this;
+    }
+
+    @Override
+    public Preferences putFloat(String key, float val) {
+        properties.put(key, Float.toString(val));
+        return this;
+    }
+
+    @Override
+    public Preferences putString(String key, String val) {
+        properties.put(key, val);
+        return this;
+    }
+
+    @Override
+    public Preferences put(Map<String, ?> vals) {
+        for (Map.Entry<String, ?> val : vals.entrySet()) {
+            properties.put(val.getKey(), String.valueOf(val.getValue()));
+        }
+        return this;
+    }
+
+    @Override
+    public boolean getBoolean(String key) {
+        return getBoolean(key, false);
+    }
+
+    @Override
+    public int getInteger(String key) {
+        return getInteger(key, 0);
+    }
+
+    @Override
+    public long getLong(String key) {
+        return getLong(key, 0);
+    }
+
+    @Override
+    public float getFloat(String key) {
+        return getFloat(key, 0);
+    }
+
+    @Override
+    public String getString(String key) {
+        return getString(key, "");
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defValue) {
+        return Boolean.parseBoolean(properties.getProperty(key, Boolean.toString(defValue)));
+    }
+
+    @Override
+    public int getInteger(String key, int defValue) {
+        return Integer.parseInt(properties.getProperty(key, Integer.toString(defValue)));
+    }
+
+    @Override
+    public long getLong(String key, long defValue) {
+        return Long.parseLong(properties.getProperty(key, Long.toString(defValue)));
+    }
+
+    @Override
+    public float getFloat(String key, float defValue) {
+        return Float.parseFloat(properties.getProperty(key, Float.toString(defValue)));
+    }
+
+    @Override
+    public String getString(String key, String defValue) {
+        return properties.getProperty(key, defValue);
+    }
+
+    @Override
+    public Map<String, ?> get() {
+        Map<String, Object> map = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+            map.put((String) entry.getKey(), entry.getValue());
+        }
+        return map;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return properties.containsKey(key);
+    }
+
+    @Override
+    public void clear() {
+        properties.clear();
+    }
+
+    @Override
+    public void remove(String key) {
+        properties.remove(key);
+    }
+
+    @Override
+    public void flush() {
+        buffer.reset();
+        try {
+            properties.storeToXML(buffer, null);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't serialize preferences", e);
+        }
+    }
+}
\ No newline at end of file
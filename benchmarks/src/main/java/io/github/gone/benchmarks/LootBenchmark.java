@@ -0,0 +1,78 @@
+package io.github.gone.benchmarks;
+
+import io.github.gone.fish.Fish;
+import io.github.gone.fish.FishCatch;
+import io.github.gone.fish.FishFactory;
+import io.github.gone.fish.FishLootTable;
+import io.github.gone.fish.SpeciesCatalog;
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.utils.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rolling a catch: the loot table, the fish factory and species lookups by name
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LootBenchmark {
+    private FishLootTable lootTable;
+    private FishFactory fishFactory;
+    private String[] names;
+    private int nameIndex;
+    private int fishType;
+
+    /**
+     * Throw quality for the loot table, the tables differ per throw
+     */
+    @State(Scope.Thread)
+    public static class Throw {
+        @Param({"MISS", "GOOD", "GREAT"})
+        public ThrowMinigame.SuccessLevel successLevel;
+    }
+
+    @Setup
+    public void setUp() {
+        StubApplication.install();
+        lootTable = new FishLootTable(new GameRandom(1));
+        fishFactory = new FishFactory(new GameRandom(2));
+
+        SpeciesCatalog catalog = SpeciesCatalog.getInstance();
+        names = new String[catalog.size()];
+        for (Fish species : catalog.getAll()) {
+            names[species.getId()] = species.getName();
+        }
+    }
+
+    @Benchmark
+    public FishCatch determineFish(Throw state) {
+        return lootTable.determineFish(state.successLevel);
+    }
+
+    @Benchmark
+    public FishCatch generateFish() {
+        fishType = (fishType + 1) % (FishFactory.LEGENDARY_FISH + 1);
+        return fishFactory.generateFish(fishType);
+    }
+
+    @Benchmark
+    public Fish createFishByName() {
+        nameIndex = (nameIndex + 1) % names.length;
+        return fishFactory.createFishByName(names[nameIndex]);
+    }
+}
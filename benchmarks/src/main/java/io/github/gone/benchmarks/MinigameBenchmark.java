@@ -0,0 +1,67 @@
+package io.github.gone.benchmarks;
+
+import io.github.gone.minigames.CatchMinigame;
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.utils.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-step minigame logic, without drawing
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MinigameBenchmark {
+    // One simulation step at 60 steps per second
+    private static final float STEP = 1f / 60f;
+    // Steps between presses, roughly a player tapping a few times per second
+    private static final int STEPS_PER_PRESS = 20;
+
+    private CatchMinigame catchMinigame;
+    private ThrowMinigame throwMinigame;
+    private int steps;
+    private float angle;
+
+    @Setup
+    public void setUp() {
+        StubApplication.install();
+        catchMinigame = new CatchMinigame(0, 0, new GameRandom(1));
+        catchMinigame.setDifficulty(CatchMinigame.FishDifficulty.HARD);
+        throwMinigame = new ThrowMinigame(0, 0, new GameRandom(2));
+        throwMinigame.start();
+    }
+
+    @Benchmark
+    public void catchUpdate() {
+        // Restart once a round ends, the restarts are part of playing the minigame
+        if (!catchMinigame.isActive() && !catchMinigame.isShowingResult()) {
+            catchMinigame.start();
+        }
+        if (++steps % STEPS_PER_PRESS == 0) {
+            catchMinigame.togglePressed();
+        }
+        catchMinigame.update(STEP);
+    }
+
+    @Benchmark
+    public ThrowMinigame.SuccessLevel checkSuccessZone() {
+        // Sweep the pointer around the circle so every zone gets hit
+        angle += 7.3f;
+        if (angle >= 360f) angle -= 360f;
+        return throwMinigame.checkSuccessZone(angle);
+    }
+}
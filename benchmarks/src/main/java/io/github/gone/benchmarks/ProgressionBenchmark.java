@@ -0,0 +1,65 @@
+package io.github.gone.benchmarks;
+
+import io.github.gone.entities.Gallery;
+import io.github.gone.fish.FishCatch;
+import io.github.gone.fish.SpeciesCatalog;
+import io.github.gone.progression.ProgressionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rewarding a catch: the gallery and the experience, both saved on every call
+ * by storing the changed counters into their memory-mapped slots
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProgressionBenchmark {
+    private Gallery gallery;
+    private ProgressionManager progressionManager;
+    private FishCatch[] catches;
+    private int catchIndex;
+
+    @Setup
+    public void setUp() {
+        StubApplication.install();
+        gallery = Gallery.getInstance();
+        progressionManager = ProgressionManager.getInstance();
+
+        // One catch of every species, so the gallery holds the whole catalog
+        SpeciesCatalog catalog = SpeciesCatalog.getInstance();
+        catches = new FishCatch[catalog.size()];
+        for (int id = 0; id < catches.length; id++) {
+            catches[id] = new FishCatch(catalog.get(id), 1.5f);
+        }
+    }
+
+    private FishCatch nextCatch() {
+        catchIndex = (catchIndex + 1) % catches.length;
+        return catches[catchIndex];
+    }
+
+    @Benchmark
+    public void updateGallery() {
+        gallery.updateGallery(nextCatch());
+    }
+
+    @Benchmark
+    public void addExperienceForFish() {
+        FishCatch fish = nextCatch();
+        progressionManager.addExperienceForFish(fish.getRarity(), fish.getWeight());
+    }
+}
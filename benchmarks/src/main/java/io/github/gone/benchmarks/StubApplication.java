@@ -0,0 +1,300 @@
+package io.github.gone.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.ApplicationLogger;
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.Net;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Clipboard;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.gone.progression.JournalPersistenceFramework;
+import io.github.gone.progression.WriteBehindPersistenceFramework;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Just enough of a libGDX application for the game logic to run in a benchmark:
+ * in-memory preferences, files relative to the working directory and a logger that
+ * drops everything, so the benchmarks measure the game and not the console.
+ * Graphics, audio and input don't exist, code that needs them can't be benchmarked here.
+ */
+class StubApplication implements Application {
+    private final Map<String, InMemoryPreferences> preferences = new HashMap<>();
+    private final Files files = new StubFiles();
+    private ApplicationLogger logger = new SilentLogger();
+    private int logLevel = LOG_NONE;
+
+    /**
+     * Installs a stub application into Gdx. Does nothing if one is already installed.
+     */
+    static synchronized void install() {
+        if (Gdx.app instanceof StubApplication) return;
+        StubApplication app = new StubApplication();
+        Gdx.app = app;
+        Gdx.files = app.files;
+        // Saves go to a fresh directory, so runs don't see each other's or the player's
+        File saves = new File(System.getProperty("java.io.tmpdir"), "gone-fishing-bench-" + ProcessHandle.current().pid());
+        // deleteOnExit() skips directories that aren't empty, so the hook deletes the whole tree
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteSaves(saves), "Delete benchmark saves"));
+        JournalPersistenceFramework.setSaveDirectory(app.files.absolute(saves.getPath()));
+    }
+
+    /**
+     * Writes what is left and deletes the save directory with everything in it
+     */
+    private static void deleteSaves(File saves) {
+        WriteBehindPersistenceFramework.shutdown();
+        JournalPersistenceFramework.closeAll();
+        delete(saves);
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    @Override
+    public ApplicationListener getApplicationListener() {
+        return null;
+    }
+
+    @Override
+    public Graphics getGraphics() {
+        return null;
+    }
+
+    @Override
+    public Audio getAudio() {
+        return null;
+    }
+
+    @Override
+    public Input getInput() {
+        return null;
+    }
+
+    @Override
+    public Files getFiles() {
+        return files;
+    }
+
+    @Override
+    public Net getNet() {
+        return null;
+    }
+
+    @Override
+    public void log(String tag, String message) {
+        if (logLevel >= LOG_INFO) logger.log(tag, message);
+    }
+
+    @Override
+    public void log(String tag, String message, Throwable exception) {
+        if (logLevel >= LOG_INFO) logger.log(tag, message, exception);
+    }
+
+    @Override
+    public void error(String tag, String message) {
+        if (logLevel >= LOG_ERROR) logger.error(tag, message);
+    }
+
+    @Override
+    public void error(String tag, String message, Throwable exception) {
+        if (logLevel >= LOG_ERROR) logger.error(tag, message, exception);
+    }
+
+    @Override
+    public void debug(String tag, String message) {
+        if (logLevel >= LOG_DEBUG) logger.debug(tag, message);
+    }
+
+    @Override
+    public void debug(String tag, String message, Throwable exception) {
+        if (logLevel >= LOG_DEBUG) logger.debug(tag, message, exception);
+    }
+
+    @Override
+    public void setLogLevel(int logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    @Override
+    public int getLogLevel() {
+        return logLevel;
+    }
+
+    @Override
+    public void setApplicationLogger(ApplicationLogger applicationLogger) {
+        this.logger = applicationLogger;
+    }
+
+    @Override
+    public ApplicationLogger getApplicationLogger() {
+        return logger;
+    }
+
+    @Override
+    public ApplicationType getType() {
+        return ApplicationType.HeadlessDesktop;
+    }
+
+    @Override
+    public int getVersion() {
+        return 0;
+    }
+
+    @Override
+    public long getJavaHeap() {
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+
+    @Override
+    public long getNativeHeap() {
+        return getJavaHeap();
+    }
+
+    @Override
+    public synchronized Preferences getPreferences(String name) {
+        return preferences.computeIfAbsent(name, key -> new InMemoryPreferences());
+    }
+
+    @Override
+    public Clipboard getClipboard() {
+        return null;
+    }
+
+    @Override
+    public void postRunnable(Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public void exit() {
+    }
+
+    @Override
+    public void addLifecycleListener(LifecycleListener listener) {
+    }
+
+    @Override
+    public void removeLifecycleListener(LifecycleListener listener) {
+    }
+
+    private static class SilentLogger implements ApplicationLogger {
+        @Override
+        public void log(String tag, String message) {
+        }
+
+        @Override
+        public void log(String tag, String message, Throwable exception) {
+        }
+
+        @Override
+        public void error(String tag, String message) {
+        }
+
+        @Override
+        public void error(String tag, String message, Throwable exception) {
+        }
+
+        @Override
+        public void debug(String tag, String message) {
+        }
+
+        @Override
+        public void debug(String tag, String message, Throwable exception) {
+        }
+    }
+
+    /**
+     * Resolves internal and local files against the working directory, which the jmh task sets to assets
+     */
+    private static class StubFiles implements Files {
+        @Override
+        public FileHandle getFileHandle(String path, FileType type) {
+            return new StubFileHandle(path, type);
+        }
+
+        @Override
+        public FileHandle classpath(String path) {
+            return new StubFileHandle(path, FileType.Classpath);
+        }
+
+        @Override
+        public FileHandle internal(String path) {
+            return new StubFileHandle(path, FileType.Internal);
+        }
+
+        @Override
+        public FileHandle external(String path) {
+            throw new GdxRuntimeException("No external storage in benchmarks: " + path);
+        }
+
+        @Override
+        public FileHandle absolute(String path) {
+            return new StubFileHandle(path, FileType.Absolute);
+        }
+
+        @Override
+        public FileHandle local(String path) {
+            return new StubFileHandle(path, FileType.Local);
+        }
+
+        @Override
+        public String getExternalStoragePath() {
+            return null;
+        }
+
+        @Override
+        public boolean isExternalStorageAvailable() {
+            return false;
+        }
+
+        @Override
+        public String getLocalStoragePath() {
+            return new File("").getAbsolutePath();
+        }
+
+        @Override
+        public boolean isLocalStorageAvailable() {
+            return true;
+        }
+    }
+
+    private static class StubFileHandle extends FileHandle {
+        StubFileHandle(String path, FileType type) {
+            super(new File(path), type);
+        }
+
+        @Override
+        public FileHandle child(String name) {
+            return new StubFileHandle(new File(file, name).getPath(), type);
+        }
+
+        @Override
+        public FileHandle sibling(String name) {
+            return new StubFileHandle(new File(file.getParentFile(), name).getPath(), type);
+        }
+
+        @Override
+        public FileHandle parent() {
+            File parent = file.getParentFile();
+            return new StubFileHandle(parent == null ? "" : parent.getPath(), type);
+        }
+    }
+}
\ No newline at end of file
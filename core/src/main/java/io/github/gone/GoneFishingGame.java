@@ -1,31 +1,131 @@
 package io.github.gone;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.gone.entities.Gallery;
+import io.github.gone.game.GameEventBus;
+import io.github.gone.game.SessionStats;
+import io.github.gone.progression.AchievementTracker;
+import io.github.gone.progression.JournalPersistenceFramework;
+import io.github.gone.progression.MappedCounterStore;
+import io.github.gone.progression.ProgressionManager;
+import io.github.gone.progression.WriteBehindPersistenceFramework;
 import io.github.gone.screens.GameScreen;
+import io.github.gone.screens.LoadingScreen;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.GameLog;
+import io.github.gone.utils.RenderContext;
 
 public class GoneFishingGame extends Game {
     private SpriteBatch batch;
+    private AssetManager assets;
+    
+    // Startup timing, reported once the game screen drew its first frame
+    private long createTime;
+    private long firstFrameTime;
+    private int loadingFrames;
+    private boolean awaitingInteractiveFrame;
     
     @Override
     public void create() {
-        batch = new SpriteBatch();
-        setScreen(new GameScreen(this));
+        createTime = TimeUtils.nanoTime();
+        if (Gdx.app.getType() == Application.ApplicationType.Desktop) {
+            GameLog.getInstance().setFile(Gdx.files.external(".gone-fishing/gone-fishing.log"));
+        }
+        batch = RenderContext.acquire().getBatch();
+        assets = new AssetManager();
+        // Everything else loads behind the loading screen
+        setScreen(new LoadingScreen(this));
     }
     
     @Override
     public void render() {
+        // Set during an earlier frame, so this frame is drawn by the game screen
+        boolean interactiveFrame = awaitingInteractiveFrame;
         super.render();
+        if (firstFrameTime == 0) {
+            firstFrameTime = TimeUtils.nanoTime();
+        }
+        if (interactiveFrame) {
+            awaitingInteractiveFrame = false;
+            reportStartup();
+        }
+    }
+    
+    /**
+     * Switches from the loading screen to the game, called by the loading screen when it is done
+     */
+    public void showGame(GameScreen gameScreen, int loadingFrames) {
+        this.loadingFrames = loadingFrames;
+        // The consumers are loaded now, catches can start flowing
+        startEventBus();
+        setScreen(gameScreen);
+        awaitingInteractiveFrame = true;
+    }
+    
+    /**
+     * Logs the time to the first frame and to the first frame the player can interact with
+     */
+    private void reportStartup() {
+        long now = TimeUtils.nanoTime();
+        GameLog.getInstance().info("GoneFishingGame", "Startup")
+            .with("firstFrameMs", TimeUtils.nanosToMillis(firstFrameTime - createTime))
+            .with("interactiveMs", TimeUtils.nanosToMillis(now - createTime))
+            .with("loadingFrames", loadingFrames)
+            .log();
+    }
+    
+    @Override
+    public void pause() {
+        super.pause();
+        // The app might not come back, make sure the catches are saved and the log is written
+        GameEventBus.getInstance().flush();
+        WriteBehindPersistenceFramework.flushAll();
+        MappedCounterStore.forceAll();
+        GameLog.getInstance().flush();
     }
     
     @Override
     public void dispose() {
-        batch.dispose();
-        getScreen().dispose();
+        Screen screen = getScreen();
+        if (screen != null) {
+            screen.dispose();
+        }
+        assets.dispose();
+        FontService.getInstance().dispose();
+        RenderContext.release();
+        GameEventBus.getInstance().dispose();
+        WriteBehindPersistenceFramework.shutdown();
+        JournalPersistenceFramework.closeAll();
+        MappedCounterStore.forceAll();
+        GameLog.getInstance().dispose();
+    }
+    
+    /**
+     * Hands the gameplay events to the systems that react to them, each on its own thread
+     */
+    private void startEventBus() {
+        GameEventBus events = GameEventBus.getInstance();
+        events.addConsumer("gallery", Gallery.getInstance());
+        events.addConsumer("progression", ProgressionManager.getInstance());
+        events.addConsumer("achievements", AchievementTracker.getInstance());
+        events.addConsumer("stats", new SessionStats());
+        events.start();
     }
     
     public SpriteBatch getBatch() {
         return batch;
     }
+    
+    /**
+     * Textures and other GL assets, loaded by the loading screen
+     */
+    public AssetManager getAssets() {
+        return assets;
+    }
 } 
\ No newline at end of file
@@ -24,6 +24,16 @@ public class Main extends ApplicationAdapter {
         game.resize(width, height);
     }
 
+    @Override
+    public void pause() {
+        game.pause();
+    }
+
+    @Override
+    public void resume() {
+        game.resume();
+    }
+
     @Override
     public void dispose() {
         game.dispose();
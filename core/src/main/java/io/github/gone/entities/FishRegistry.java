@@ -1,13 +1,35 @@
 package io.github.gone.entities;
 
 import io.github.gone.fish.Fish;
+import io.github.gone.fish.SpeciesCatalog;
 
+/**
+ * A gallery entry. Loading keeps only the name and the count,
+ * the species is looked up the first time it is asked for.
+ */
 public class FishRegistry {
-    public Fish fishInfo;
+    public final String fishName;
     public int nCaught;
+    private Fish fishInfo;
 
     public FishRegistry(Fish fishInfo) {
+        this.fishName = fishInfo.getName();
         this.fishInfo = fishInfo;
         nCaught = 1;
     }
-}
+
+    public FishRegistry(String fishName, int nCaught) {
+        this.fishName = fishName;
+        this.nCaught = nCaught;
+    }
+
+    /**
+     * The species of the entry, null if the catalog doesn't have it anymore
+     */
+    public Fish getFishInfo() {
+        if (fishInfo == null) {
+            fishInfo = SpeciesCatalog.getInstance().get(fishName);
+        }
+        return fishInfo;
+    }
+}
\ No newline at end of file
@@ -2,17 +2,19 @@ package io.github.gone.entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import io.github.gone.utils.ShapeRendererManager;
+import io.github.gone.utils.ActivityRegistry;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.FontService.FontSize;
 import io.github.gone.minigames.MinigameManager;
 import io.github.gone.minigames.ThrowMinigame;
-import io.github.gone.fish.Fish;
-import io.github.gone.fish.FishLootTable;
+import io.github.gone.fish.FishCatch;
+import io.github.gone.game.FishingSession;
 import io.github.gone.ui.FishCaughtScreen;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 
 public class FishingRod {
     private final Vector2 position;
@@ -21,10 +23,6 @@ public class FishingRod {
     private final float buttonRadius = 40f;
     private final Vector2 buttonPosition; // New position for the button
     
-    // Line speed variables
-    private final float lineExtensionBaseSpeed = 300f; // Base speed for extending line
-    private final float lineReelBaseSpeed = 350f;     // Base speed for reeling in line
-    
     // Colors
     private static final Color ROD_HANDLE_COLOR = new Color(0.6f, 0.4f, 0.2f, 1);
     private static final Color ROD_SHAFT_COLOR = new Color(0.8f, 0.6f, 0.3f, 1);
@@ -32,102 +30,62 @@ public class FishingRod {
     private static final Color REEL_DETAIL_COLOR = new Color(0.5f, 0.5f, 0.5f, 1);
     private static final Color BUTTON_COLOR = new Color(1f, 0.8f, 0.2f, 1f);
     private static final Color LINE_COLOR = Color.WHITE;
+    private static final Color READY_COLOR = new Color(0.1f, 0.9f, 0.1f, 1.0f);
     
-    private boolean isFishing;
-    private float lineLength;
-    private final float maxLineLength = 300f;
-    private final float goodBonusLineLength = 50f; // Additional length for "Good" success
-    private final float greatBonusLineLength = 100f; // Additional length for "Great" success
-    private boolean isReeling;
+    // Fishing rules and state, the rod only draws them
+    private final FishingSession session;
     
     // Animation
     private float rodSwayAngle = 0f;
     private float lineSwayFactor = 0f;
     
-    private final ShapeRendererManager shapeRenderer;
-    private Fish caughtFish;
-    private ThrowMinigame.SuccessLevel currentMinigameSuccessLevel; // New field to store the success level
+    // State at the previous simulation step, draw() interpolates towards the current one
+    private float previousLineLength;
+    private float previousRodSwayAngle;
+    private float previousLineSwayFactor;
+    private final ActivityRegistry.Activity lineActivity = this::isLineMoving;
+    private final ActivityRegistry.Activity swayActivity = this::isSwaying;
+    
+    // Reused by drawFishingLine to return the bait position
+    private final Vector2 baitPosition = new Vector2();
     
     // Fish caught screen
     private final FishCaughtScreen fishCaughtScreen;
     
     // For button text
-    private final BitmapFont buttonFont;
-    private final GlyphLayout buttonLayout;
-    
-    // States for fishing process
-    public enum FishingState {
-        IDLE,
-        THROW_MINIGAME,
-        CASTING,
-        CATCH_MINIGAME,
-        CAUGHT_FISH
-    }
-    
-    private FishingState currentState;
+    private final CachedText castLabel;
+    private final CachedText reelLabel;
     
-    public FishingRod(Vector2 position) {
+    public FishingRod(Vector2 position, FishingSession session) {
         // Position the rod on the left side
         this.position = new Vector2(position.x * 0.3f, position.y + 50);
         
         // Position the button at the bottom center
         this.buttonPosition = new Vector2(position.x, position.y - 100);
         
-        this.isFishing = false;
-        this.lineLength = 0;
-        this.isReeling = false;
-        this.shapeRenderer = new ShapeRendererManager();
-        this.currentState = FishingState.IDLE;
+        this.session = session;
         this.fishCaughtScreen = new FishCaughtScreen();
         
         // Initialize text rendering
-        this.buttonFont = new BitmapFont();
-        this.buttonFont.setColor(Color.BLACK);
-        this.buttonLayout = new GlyphLayout();
+        BitmapFont buttonFont = FontService.getInstance().get(FontSize.BODY);
+        this.castLabel = new CachedText(buttonFont, "CAST", Color.BLACK);
+        this.reelLabel = new CachedText(buttonFont, "REEL!", Color.GREEN);
         
-        // Create throw minigame at the center of the screen
-        // this.minigameManager = new MinigameManager(position.x, position.y + 150); // REMOVE
-        // this.minigameManager.getThrowMinigame().setListener(new ThrowMinigame.ThrowMinigameListener() { // REMOVE
-        //     @Override // REMOVE
-        //     public void onThrowComplete(ThrowMinigame.SuccessLevel successLevel) { // REMOVE
-        //         onThrowMinigameFinished(successLevel); // REMOVE
-        //     } // REMOVE
-        // }); // REMOVE
+        // The line moving needs every frame, the sway is only decoration
+        ActivityRegistry.getInstance().register(lineActivity);
+        ActivityRegistry.getInstance().registerAmbient(swayActivity);
     }
     
     /**
-     * Called when the throw minigame finishes
+     * Animates the rod, call before the session is updated for the same step
      */
-    private void onThrowMinigameFinished(ThrowMinigame.SuccessLevel successLevel) {
-        // Start fishing with appropriate bonus based on success level
-        currentState = FishingState.CASTING;
-        isFishing = true;
-        isReeling = false;
-        lineLength = 0;
-        this.currentMinigameSuccessLevel = successLevel; // Store the success level
-        
-        // Determine what fish will be caught using the loot table
-        // REMOVE: caughtFish = fishLootTable.determineFish(successLevel);
-        
-        // Log fishing start information
-        Gdx.app.log("FishingRod", "===============================================");
-        Gdx.app.log("FishingRod", "FISHING STARTED");
-        Gdx.app.log("FishingRod", "Success Level: " + successLevel);
-        Gdx.app.log("FishingRod", "Max Reachable Length: " + getMaxReachableLength());
-        Gdx.app.log("FishingRod", "Base Max Length: " + maxLineLength);
-        if (caughtFish != null) {
-            Gdx.app.log("FishingRod", "Potential Fish: " + caughtFish.getName());
-            Gdx.app.log("FishingRod", "Fish Rarity: " + caughtFish.getRarity());
-            Gdx.app.log("FishingRod", "Fish Weight: " + caughtFish.getWeight());
-        } else {
-            Gdx.app.log("FishingRod", "No fish determined (null)");
-        }
-        Gdx.app.log("FishingRod", "===============================================");
-    }
-    
     public void update(float delta) {
+        previousLineLength = session.getLineLength();
+        previousRodSwayAngle = rodSwayAngle;
+        previousLineSwayFactor = lineSwayFactor;
+        
         // Animate the rod with a gentle sway when idle or fishing
-        if (currentState == FishingState.IDLE || currentState == FishingState.CASTING) {
+        if (isSwaying()) {
             rodSwayAngle += delta * 1.5f;
             if (rodSwayAngle > 2 * Math.PI) {
                 rodSwayAngle -= (float) (2 * Math.PI);
@@ -135,200 +93,116 @@ public class FishingRod {
         }
         
         // Calculate line sway factor for animation
-        if (isFishing && lineLength > 50) {
+        if (session.isLineOut() && session.getLineLength() > 50) {
             lineSwayFactor = (float) Math.sin(rodSwayAngle * 0.7f) * 15;
         } else {
             lineSwayFactor = 0;
         }
         
-        // Update throw minigame if active
-        // minigameManager.update(delta); // REMOVE
-        
         // Update fish caught screen if active
         fishCaughtScreen.update(delta);
-        
-        // If fish caught screen is active, don't update anything else
-        if (fishCaughtScreen.isActive()) {
-            return;
-        }
-        
-        if (currentState == FishingState.THROW_MINIGAME) {
-            // Wait for throw minigame to complete
-            return;
-        }
-        
-        if (isFishing && !isReeling) {
-            // Extend the fishing line
-            float maxLength = getMaxReachableLength();
-            if (lineLength < maxLength) {
-                // Adjust extension speed based on success level
-                float extensionSpeed = switch (this.currentMinigameSuccessLevel) { // Use the stored success level
-                    case GREAT -> lineExtensionBaseSpeed * 1.3f * delta; // Fastest for "Great"
-                    case GOOD -> lineExtensionBaseSpeed * 1.15f * delta; // Medium for "Good"
-                    default -> lineExtensionBaseSpeed * delta; // Base speed for "Miss"
-                };
-
-                lineLength += extensionSpeed;
-                if (lineLength > maxLength) {
-                    lineLength = maxLength;
-                }
-            }
-        } else if (isReeling) {
-            // Reel in the line
-            lineLength -= lineReelBaseSpeed * delta;
-            if (lineLength <= 0) {
-                lineLength = 0;
-                isReeling = false;
-                
-                // Log reeling completion
-                Gdx.app.log("FishingRod", "===============================================");
-                Gdx.app.log("FishingRod", "REELING COMPLETED");
-                Gdx.app.log("FishingRod", "Success Level: " + this.currentMinigameSuccessLevel); // Use the stored success level
-                if (caughtFish != null) {
-                    Gdx.app.log("FishingRod", "Fish: " + caughtFish.getName());
-                    Gdx.app.log("FishingRod", "Fish Type: " + caughtFish.getClass().getSimpleName());
-                    Gdx.app.log("FishingRod", "Fish Rarity: " + caughtFish.getRarity());
-                    Gdx.app.log("FishingRod", "Fish Weight: " + caughtFish.getWeight());
-                } else {
-                    Gdx.app.log("FishingRod", "No fish caught (null)");
-                }
-                Gdx.app.log("FishingRod", "===============================================");
-                
-                // If we have a fish (always true if determineFish return is not null)
-                if (caughtFish != null) {
-                    currentState = FishingState.CAUGHT_FISH;
-                    
-                    // Show the fish caught screen with a callback for when it's closed
-                    fishCaughtScreen.show(caughtFish, new FishCaughtScreen.Callback() {
-                        @Override
-                        public void onClose() {
-                            // Reset to idle state after fish is caught and screen is closed
-                            currentState = FishingState.IDLE;
-                            isFishing = false;
-                            caughtFish = null;
-                        }
-                    });
-                } else {
-                    // Reset if no fish was caught (should not happen normally)
-                    isFishing = false;
-                    currentState = FishingState.IDLE;
-                    caughtFish = null;
-                }
-            }
-        }
     }
     
-    public void draw(SpriteBatch batch) {
+    /**
+     * Queues the rod, blending the last two simulation steps by alpha
+     */
+    public void draw(DrawQueue queue, float alpha) {
         // If fish caught screen is active, draw it and nothing else
         if (fishCaughtScreen.isActive()) {
-            fishCaughtScreen.draw(batch);
+            fishCaughtScreen.draw(queue, alpha);
             return;
         }
         
-        // If throw minigame is active, draw it and return
-        // if (currentState == FishingState.THROW_MINIGAME) { // REMOVE
-        //     minigameManager.draw(batch); // REMOVE
-        //     return; // REMOVE
-        // } // REMOVE
-        
-        // End SpriteBatch to use ShapeRenderer
-        batch.end();
+        boolean lineOut = session.isLineOut();
+        boolean readyToReel = session.getState() == FishingSession.State.WAITING;
+        ThrowMinigame.SuccessLevel successLevel = session.getSuccessLevel();
         
-        // Begin a single ShapeRenderer session for filled shapes
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        queue.setLayer(DrawQueue.LAYER_WORLD);
+        queue.setShapeType(ShapeRenderer.ShapeType.Filled);
         
         // Calculate rod angle based on sway
-        float rodAngle = (float) Math.sin(rodSwayAngle) * 5; // -5 to 5 degrees
+        float rodAngle = MathUtils.lerp((float) Math.sin(previousRodSwayAngle), (float) Math.sin(rodSwayAngle), alpha) * 5; // -5 to 5 degrees
         
         // Draw fishing rod (a better-looking rod)
-        drawImprovedRod(rodAngle);
+        drawImprovedRod(queue, rodAngle);
         
         // Draw fishing line if fishing
-        if (isFishing || isReeling) {
+        if (lineOut) {
             // Calculate rod tip position
             float tipX = position.x + (float) Math.sin(rodAngle * Math.PI / 180) * rodLength;
             float tipY = position.y + (float) Math.cos(rodAngle * Math.PI / 180) * rodLength;
             
-            // End filled shapes and begin line shapes for the fishing line
-            shapeRenderer.end();
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+            // Draw the fishing line with line shapes
+            queue.setShapeType(ShapeRenderer.ShapeType.Line);
             
             // Draw line with parabolic curve and get bait position
-            Vector2 baitPosition = drawFishingLine(tipX, tipY);
+            Vector2 baitPosition = drawFishingLine(queue, tipX, tipY,
+                MathUtils.lerp(previousLineLength, session.getLineLength(), alpha),
+                MathUtils.lerp(previousLineSwayFactor, lineSwayFactor, alpha));
             
-            // Go back to filled shapes for the bait circle
-            shapeRenderer.end();
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+            // Go back to filled shapes for the bait circle, drawn after the line so it covers it
+            queue.setShapeType(ShapeRenderer.ShapeType.Filled);
             
             // Draw a small circle at the end of the line (the bait) at the exact endpoint of the curve
             // Change color and size based on success level
             // ThrowMinigame.SuccessLevel successLevel = minigameManager.getThrowMinigame() != null ? minigameManager.getThrowMinigame().getSuccessLevel() : ThrowMinigame.SuccessLevel.MISS; // REMOVE
-            if (this.currentMinigameSuccessLevel == ThrowMinigame.SuccessLevel.GREAT) {
-                shapeRenderer.setColor(Color.GREEN);
-                shapeRenderer.getShapeRenderer().circle(baitPosition.x, baitPosition.y, 7);
-            } else if (this.currentMinigameSuccessLevel == ThrowMinigame.SuccessLevel.GOOD) {
-                shapeRenderer.setColor(Color.YELLOW);
-                shapeRenderer.getShapeRenderer().circle(baitPosition.x, baitPosition.y, 6);
+            if (successLevel == ThrowMinigame.SuccessLevel.GREAT) {
+                queue.setColor(Color.GREEN);
+                queue.circle(baitPosition.x, baitPosition.y, 7);
+            } else if (successLevel == ThrowMinigame.SuccessLevel.GOOD) {
+                queue.setColor(Color.YELLOW);
+                queue.circle(baitPosition.x, baitPosition.y, 6);
             } else {
-                shapeRenderer.setColor(Color.RED);
-                shapeRenderer.getShapeRenderer().circle(baitPosition.x, baitPosition.y, 5);
+                queue.setColor(Color.RED);
+                queue.circle(baitPosition.x, baitPosition.y, 5);
             }
         }
         
         // Draw button for casting or reeling
-        if (!isFishing) {
-            shapeRenderer.setColor(Color.YELLOW);
-        } else if (isFishing && lineLength >= getMaxReachableLength() && !isReeling) {
+        queue.setLayer(DrawQueue.LAYER_HUD);
+        if (!lineOut) {
+            queue.setColor(Color.YELLOW);
+        } else if (readyToReel) {
             // Visual indicator for when to reel - make button pulse when ready to reel
             float pulse = (float) (0.7f + 0.3f * Math.sin(System.currentTimeMillis() / 200.0));
-            shapeRenderer.setColor(new Color(0.2f, 0.8f, 0.2f * pulse, 1.0f)); // Pulsing green
+            queue.setColor(0.2f, 0.8f, 0.2f * pulse, 1.0f); // Pulsing green
         } else {
-            shapeRenderer.setColor(Color.GRAY);
+            queue.setColor(Color.GRAY);
         }
-        shapeRenderer.getShapeRenderer().circle(buttonPosition.x, buttonPosition.y, buttonRadius);
+        queue.circle(buttonPosition.x, buttonPosition.y, buttonRadius);
         
         // Draw button decoration
-        if (!isFishing) {
-            shapeRenderer.setColor(BUTTON_COLOR);
-            shapeRenderer.getShapeRenderer().circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.8f);
+        if (!lineOut) {
+            queue.setColor(BUTTON_COLOR);
+            queue.circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.8f);
             
             // Draw fishing icon on button
-            shapeRenderer.setColor(Color.BLACK);
+            queue.setColor(Color.BLACK);
             // Draw a simple fishing hook icon
-            shapeRenderer.getShapeRenderer().arc(buttonPosition.x, buttonPosition.y, buttonRadius * 0.4f, 180, 180);
-            shapeRenderer.getShapeRenderer().rect(buttonPosition.x - 2, buttonPosition.y, 4, buttonRadius * 0.4f);
-        } else if (isFishing && lineLength >= getMaxReachableLength() && !isReeling) {
+            queue.arc(buttonPosition.x, buttonPosition.y, buttonRadius * 0.4f, 180, 180);
+            queue.rect(buttonPosition.x - 2, buttonPosition.y, 4, buttonRadius * 0.4f);
+        } else if (readyToReel) {
             // Ready to reel - draw a visual indicator
-            shapeRenderer.setColor(new Color(0.1f, 0.9f, 0.1f, 1.0f));
-            shapeRenderer.getShapeRenderer().circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.8f);
+            queue.setColor(READY_COLOR);
+            queue.circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.8f);
             
             // Draw reel icon
-            shapeRenderer.setColor(Color.BLACK);
-            shapeRenderer.getShapeRenderer().circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.5f, 12);
-            shapeRenderer.setColor(new Color(0.1f, 0.9f, 0.1f, 1.0f));
-            shapeRenderer.getShapeRenderer().circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.3f);
+            queue.setColor(Color.BLACK);
+            queue.circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.5f, 12);
+            queue.setColor(READY_COLOR);
+            queue.circle(buttonPosition.x, buttonPosition.y, buttonRadius * 0.3f);
         }
         
-        // End ShapeRenderer session
-        shapeRenderer.end();
-        
-        // Begin SpriteBatch again
-        batch.begin();
-        
         // Draw button text
-        if (!isFishing) {
-            buttonLayout.setText(buttonFont, "CAST");
-            buttonFont.draw(batch, "CAST", 
-                buttonPosition.x - buttonLayout.width / 2, 
+        if (!lineOut) {
+            queue.text(castLabel, 
+                buttonPosition.x - castLabel.getWidth() / 2, 
                 buttonPosition.y - buttonRadius - 10);
-        } else if (isFishing && lineLength >= getMaxReachableLength() && !isReeling) {
+        } else if (readyToReel) {
             // Show "REEL!" text when ready to reel
-            buttonFont.setColor(Color.GREEN);
-            buttonLayout.setText(buttonFont, "REEL!");
-            buttonFont.draw(batch, "REEL!", 
-                buttonPosition.x - buttonLayout.width / 2, 
+            queue.text(reelLabel, 
+                buttonPosition.x - reelLabel.getWidth() / 2, 
                 buttonPosition.y - buttonRadius - 10);
-            buttonFont.setColor(Color.BLACK); // Reset color
         }
         
         // Draw throw minigame result message if needed
@@ -340,7 +214,7 @@ public class FishingRod {
     /**
      * Draws an improved fishing rod with handle and reel
      */
-    private void drawImprovedRod(float angle) {
+    private void drawImprovedRod(DrawQueue queue, float angle) {
         // Save original position
         float originalX = position.x;
         float originalY = position.y;
@@ -350,10 +224,10 @@ public class FishingRod {
         float endY = position.y + (float) Math.cos(angle * Math.PI / 180) * rodLength;
         
         // Draw rod handle (brown)
-        shapeRenderer.setColor(ROD_HANDLE_COLOR);
+        queue.setColor(ROD_HANDLE_COLOR);
         
         // Draw handle base
-        shapeRenderer.getShapeRenderer().rect(
+        queue.rect(
             position.x - rodWidth * 1.5f, 
             position.y - rodLength * 0.2f, 
             rodWidth * 3, 
@@ -361,26 +235,26 @@ public class FishingRod {
         );
         
         // Draw the rod shaft - more realistic with a slight taper
-        shapeRenderer.setColor(ROD_SHAFT_COLOR);
+        queue.setColor(ROD_SHAFT_COLOR);
         
         // Instead of using polygon which requires different ShapeType, draw as a simple rectangle
-        shapeRenderer.getShapeRenderer().rectLine(
+        queue.rectLine(
             position.x, position.y,
             endX, endY,
             rodWidth
         );
         
         // Draw fishing reel
-        shapeRenderer.setColor(REEL_COLOR);
-        shapeRenderer.getShapeRenderer().circle(
+        queue.setColor(REEL_COLOR);
+        queue.circle(
             position.x + rodWidth * 2, 
             position.y + rodLength * 0.1f, 
             rodWidth * 2
         );
         
         // Draw reel details
-        shapeRenderer.setColor(REEL_DETAIL_COLOR);
-        shapeRenderer.getShapeRenderer().circle(
+        queue.setColor(REEL_DETAIL_COLOR);
+        queue.circle(
             position.x + rodWidth * 2, 
             position.y + rodLength * 0.1f, 
             rodWidth
@@ -388,7 +262,7 @@ public class FishingRod {
         
         // Draw rod guides (line holders)
         float guideSpacing = rodLength / 6;
-        shapeRenderer.setColor(Color.DARK_GRAY);
+        queue.setColor(Color.DARK_GRAY);
         
         for (int i = 1; i <= 5; i++) {
             float ratio = i / 6f;
@@ -396,17 +270,18 @@ public class FishingRod {
             float guideY = position.y + (endY - position.y) * ratio;
             float guideSize = rodWidth * (1 - ratio * 0.5f);
             
-            shapeRenderer.getShapeRenderer().circle(guideX, guideY, guideSize);
+            queue.circle(guideX, guideY, guideSize);
         }
     }
     
     /**
      * Draws the fishing line with a parabolic curve towards the middle of the screen (sea) when casting
      * and a realistic curve back to the rod when reeling in
+     * The length and sway are already interpolated between simulation steps
      * Returns the coordinates of the bait position for drawing
      */
-    private Vector2 drawFishingLine(float startX, float startY) {
-        shapeRenderer.setColor(LINE_COLOR);
+    private Vector2 drawFishingLine(DrawQueue queue, float startX, float startY, float length, float sway) {
+        queue.setColor(LINE_COLOR);
         
         // For a parabolic curve towards the sea (middle of screen)
         int segments = 20;
@@ -415,22 +290,22 @@ public class FishingRod {
         
         // Define the initial casting target based on the minigame success level
         // This represents where the bait would land after a full cast if the line extended fully.
-        float initialCastTargetX = switch (this.currentMinigameSuccessLevel) {
+        float initialCastTargetX = switch (session.getSuccessLevel()) {
             case GREAT -> 280f; // Farther right for great casts
             case GOOD -> 260f; // Moderate distance for good casts
             default -> 220f; // Shorter for misses
         };
         // The Y coordinate where the line would land at its maximum length.
-        float initialCastTargetY = startY - getMaxReachableLength() * 0.5f;
+        float initialCastTargetY = startY - session.getMaxReachableLength() * 0.5f;
         
         // Store the bait position (last point of our curve)
-        Vector2 baitPosition = new Vector2(lastX, lastY);
+        baitPosition.set(lastX, lastY);
         
         // Use different curve based on whether we're casting or reeling
-        if (isReeling) {
+        if (session.getState() == FishingSession.State.REELING) {
             // When reeling in, create a more realistic curve that comes up from the water
             // Calculate how far along the reeling process we are (0.0 = just started, 1.0 = almost done)
-            float reelingProgress = 1.0f - (lineLength / getMaxReachableLength());
+            float reelingProgress = 1.0f - (length / session.getMaxReachableLength());
             
             // Interpolate the bait's current target position from its initial cast position back to the rod tip
             float currentBaitTargetX = initialCastTargetX * (1 - reelingProgress) + startX * reelingProgress;
@@ -452,12 +327,12 @@ public class FishingRod {
                 float segmentX = (1-t)*(1-t)*startX + 2*(1-t)*t*controlX + t*t*currentBaitTargetX;
                 float segmentY = (1-t)*(1-t)*startY + 2*(1-t)*t*controlY + t*t*currentBaitTargetY;
                 
-                // Add some gentle sway based on lineSwayFactor and reeling
-                float swayAmount = lineSwayFactor * (float) Math.sin(t * Math.PI) * 0.3f;
+                // Add some gentle sway based on the line sway factor and reeling
+                float swayAmount = sway * (float) Math.sin(t * Math.PI) * 0.3f;
                 swayAmount *= (1 - reelingProgress); // Less sway as we reel in
                 segmentX += swayAmount;
                 
-                shapeRenderer.getShapeRenderer().line(lastX, lastY, segmentX, segmentY);
+                queue.line(lastX, lastY, segmentX, segmentY);
                 lastX = segmentX;
                 lastY = segmentY;
                 
@@ -468,7 +343,7 @@ public class FishingRod {
             }
         } else {
             // Regular casting curve
-            float targetDistance = lineLength;
+            float targetDistance = length;
             
             // Adjust target position based on success level for more realistic casting
             float targetX = initialCastTargetX;
@@ -485,10 +360,10 @@ public class FishingRod {
                 float segmentX = (1-t)*(1-t)*startX + 2*(1-t)*t*controlX + t*t*targetX;
                 float segmentY = (1-t)*(1-t)*startY + 2*(1-t)*t*controlY + t*t*targetY;
                 
-                // Add some gentle sway based on lineSwayFactor
-                segmentX += lineSwayFactor * (float) Math.sin(t * Math.PI) * 0.3f;
+                // Add some gentle sway based on the line sway factor
+                segmentX += sway * (float) Math.sin(t * Math.PI) * 0.3f;
                 
-                shapeRenderer.getShapeRenderer().line(lastX, lastY, segmentX, segmentY);
+                queue.line(lastX, lastY, segmentX, segmentY);
                 lastX = segmentX;
                 lastY = segmentY;
                 
@@ -507,93 +382,42 @@ public class FishingRod {
         return distance <= buttonRadius;
     }
     
-    public void startFishing() {
-        if (currentState == FishingState.IDLE) {
-            currentState = FishingState.THROW_MINIGAME; // Simply set the state for GameManager to pick up
-            // No longer initiating minigame directly from here.
-        }
-    }
-    
-    public void startReeling() {
-        if (isFishing && !isReeling && currentState == FishingState.CASTING) {
-            isReeling = true;
-        }
+    /**
+     * Returns true while the line is being cast out or reeled in
+     */
+    private boolean isLineMoving() {
+        FishingSession.State state = session.getState();
+        return state == FishingSession.State.CASTING || state == FishingSession.State.REELING;
     }
     
-    public boolean isFishing() {
-        return isFishing;
+    private boolean isSwaying() {
+        FishingSession.State state = session.getState();
+        return state == FishingSession.State.IDLE || state == FishingSession.State.CASTING
+            || state == FishingSession.State.WAITING;
     }
     
-    public boolean isReeling() {
-        return isReeling;
+    /**
+     * Shows the fish caught screen, the session ends when the player closes it
+     */
+    public void showCatch(FishCatch fish) {
+        fishCaughtScreen.show(fish, session::finishLanding);
     }
     
-    public boolean isInThrowMinigame() {
-        return currentState == FishingState.THROW_MINIGAME;
-    }
-
-    public boolean isInCatchMinigame()
-    {
-        return currentState == FishingState.CATCH_MINIGAME;
-    }
-
     public boolean isShowingFishCaught() {
-        return currentState == FishingState.CAUGHT_FISH && fishCaughtScreen.isActive();
-    }
-    
-    public float getLineLength() {
-        return lineLength;
+        return session.getState() == FishingSession.State.LANDED && fishCaughtScreen.isActive();
     }
     
-    public float getMaxLineLength() {
-        return maxLineLength;
+    public FishingSession getSession() {
+        return session;
     }
     
-    public float getMaxReachableLength() {
-        // This still uses currentSuccessLevel, which is gone.
-        // We need to pass the success level to the FishLootTable or store it temporarily.
-        // For now, let's keep it simple and assume a default if not set.
-        // TODO: Revisit this to get the success level from the MinigameManager or the FishLootTable.
-        // ThrowMinigame.SuccessLevel successLevel = minigameManager.getThrowMinigame() != null ? minigameManager.getThrowMinigame().getSuccessLevel() : ThrowMinigame.SuccessLevel.MISS; // REMOVE
-        
-        // The success level will be provided by GameManager. For now, use MISS as a placeholder.
-        // ThrowMinigame.SuccessLevel successLevel = ThrowMinigame.SuccessLevel.MISS; // TEMPORARY ADJUSTMENT - REMOVE
-        ThrowMinigame.SuccessLevel successLevel = this.currentMinigameSuccessLevel != null ? this.currentMinigameSuccessLevel : ThrowMinigame.SuccessLevel.MISS; // Use stored success level
-        
-        switch (successLevel) {
-            case GREAT:
-                return maxLineLength + greatBonusLineLength;
-            case GOOD:
-                return maxLineLength + goodBonusLineLength;
-            default:
-                return maxLineLength;
-        }
-    }
-    
-    public Fish getCaughtFish() {
-        return caughtFish;
-    }
-    
-    public void setCaughtFish(Fish fish) {
-        this.caughtFish = fish;
+    public FishCaughtScreen getFishCaughtScreen() {
+        return fishCaughtScreen;
     }
     
     public void dispose() {
-        shapeRenderer.dispose();
-        buttonFont.dispose();
-        // minigameManager.dispose(); // REMOVE
         fishCaughtScreen.dispose();
-    }
-    
-    public void onMinigameCompletion(ThrowMinigame.SuccessLevel successLevel) {
-        this.onThrowMinigameFinished(successLevel);
-    }
-    
-    public FishingState getCurrentState() {
-        return currentState;
-    }
-    
-    public FishCaughtScreen getFishCaughtScreen() {
-        return fishCaughtScreen;
+        ActivityRegistry.getInstance().unregister(lineActivity);
+        ActivityRegistry.getInstance().unregister(swayActivity);
     }
 } 
\ No newline at end of file
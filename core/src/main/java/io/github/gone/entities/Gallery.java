@@ -1,16 +1,24 @@
 package io.github.gone.entities;
 
 import io.github.gone.fish.Fish;
-import io.github.gone.progression.PersistenceFramework;
-import io.github.gone.progression.PreferencesPersistenceFramework;
-import io.github.gone.fish.FishFactory;
-import com.badlogic.gdx.Gdx;
+import io.github.gone.fish.FishCatch;
+import io.github.gone.fish.SpeciesCatalog;
+import io.github.gone.progression.MappedCounterStore;
+import io.github.gone.game.GameEventBus;
+import io.github.gone.utils.GameLog;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-public class Gallery {
+/**
+ * Counts the catches of each species. In game it consumes the catches from the event bus.
+ * A catch saves only the count of its species, a store into its slot of a mapped counter store.
+ *
+ * There is one shared gallery. The counts are read the first time they are needed rather
+ * than at startup, and entries keep only the name and count until a species is displayed.
+ */
+public class Gallery implements GameEventBus.Consumer {
     private static Gallery instance;
     public static synchronized Gallery getInstance() {
         if (instance == null) {
@@ -19,95 +27,129 @@ public class Gallery {
         return instance;
     }
 
+    // Null until the save is first read
     private Map<String, FishRegistry> gallery;
-    private final PersistenceFramework persistenceFramework;
-    private final FishFactory fishFactory;
-
-    public Gallery() {
-        this.persistenceFramework = PreferencesPersistenceFramework.getInstance("fish_gallery");
-        this.fishFactory = new FishFactory();
-        this.gallery = new HashMap<>();
-        loadGallery();
+    private final MappedCounterStore counters;
+    // Counter slot of each species by catalog id, looked up by name the first time
+    private final int[] slotBySpecies;
+    private final GameLog log = GameLog.getInstance();
+
+    private Gallery() {
+        this.counters = MappedCounterStore.open("fish_gallery");
+        this.slotBySpecies = new int[SpeciesCatalog.getInstance().size()];
+        Arrays.fill(slotBySpecies, -1);
+    }
+
+    /**
+     * Reads the saved counts now instead of on first use, e.g. from a loading thread
+     */
+    public synchronized void preload() {
+        getEntries();
+    }
+
+    private Map<String, FishRegistry> getEntries() {
+        if (gallery == null) {
+            gallery = new HashMap<>();
+            loadGallery();
+        }
+        return gallery;
     }
 
     // Method to receive a new fish caught to the gallery
-    public synchronized void updateGallery(Fish fishCaught)
+    public synchronized void updateGallery(FishCatch fishCaught)
+    {
+        recordCatch(fishCaught);
+    }
+
+    // Catches from the event bus, the counter store saves them as they are recorded
+    @Override
+    public void onEvent(GameEventBus.GameEvent event, boolean endOfBatch)
+    {
+        if (event.getType() == GameEventBus.Type.CATCH) {
+            recordCatch(event.getFish());
+        }
+    }
+
+    private synchronized void recordCatch(FishCatch fishCaught)
     {
-        if (gallery.containsKey(fishCaught.getName()))
+        if (getEntries().containsKey(fishCaught.getName()))
             updateFish(fishCaught.getName());
         else
-            registerFish(fishCaught);
+            registerFish(fishCaught.getSpecies());
+
+        Fish species = fishCaught.getSpecies();
+        counters.setInt(getSlot(species), gallery.get(species.getName()).nCaught);
+    }
 
-        saveGallery();
+    private int getSlot(Fish species)
+    {
+        int id = species.getId();
+        if (id < 0 || id >= slotBySpecies.length) return counters.getSlot(species.getName());
+        if (slotBySpecies[id] < 0) slotBySpecies[id] = counters.getSlot(species.getName());
+        return slotBySpecies[id];
     }
 
     // Update has a new fish, we should register it
     private synchronized void registerFish(Fish newFish)
     {
-        gallery.put(newFish.getName(), new FishRegistry(newFish));
+        getEntries().put(newFish.getName(), new FishRegistry(newFish));
     }
 
     // Update has a fish already registered, just change the counter
     // TODO - Check if there's edge case to multiple fishes being caught
     private synchronized void updateFish(String fishName)
     {
-        FishRegistry fishEntry = gallery.get(fishName);
+        FishRegistry fishEntry = getEntries().get(fishName);
         fishEntry.nCaught += 1;
     }
 
-    // Persistence
-    public synchronized void saveGallery() {
-        Map<String, Integer> dataToSave = gallery
-                .entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().nCaught));
-
-        persistenceFramework.save(dataToSave);
-    }
-
-    private synchronized void loadGallery() {
-        if (!persistenceFramework.exists()) {
-            Gdx.app.log("Gallery", "No existing fish gallery save file found.");
+    // Only the counts are read, species are looked up by the entries when displayed
+    private void loadGallery() {
+        // Persistence, only loading is left here, every catch saves its own count
+        if (!counters.exists()) {
+            log.info("Gallery", "No existing fish gallery save found").log();
             return;
         }
 
-        Map<String, ?> loadedData = persistenceFramework.load();
+        Map<String, ?> loadedData = counters.load();
         if (loadedData == null)
         {
-            Gdx.app.log("Gallery", "No saved fish gallery data found.");
+            log.info("Gallery", "No saved fish gallery data found").log();
             return;
         }
 
-        Gdx.app.log("Gallery", "Loaded data:");
         for (Map.Entry<String, ?> entry : loadedData.entrySet()) {
             String fishName = entry.getKey();
             Object caughtCountObj = entry.getValue();
 
             if (caughtCountObj instanceof Integer) {
-                int caughtCount = (Integer) caughtCountObj;
-                Fish fish = fishFactory.createFishByName(fishName);
-                Gdx.app.log("Gallery", "  " + fishName + ": " + caughtCount + " caught");
-
-                if (fish != null) {
-                    FishRegistry fishRegistry = new FishRegistry(fish);
-                    fishRegistry.nCaught = caughtCount;
-                    gallery.put(fishName, fishRegistry);
-                } else {
-                    Gdx.app.log("Gallery", "  Warning: Could not create Fish object for name: " + fishName + ". Skipping entry.");
-                }
+                gallery.put(fishName, new FishRegistry(fishName, (Integer) caughtCountObj));
             } else {
-                Gdx.app.log("Gallery", "  Warning: Expected Integer for fish count, but got " + caughtCountObj.getClass().getSimpleName() + " for fish: " + fishName + ". Skipping entry.");
+                log.warn("Gallery", "Fish count is not an integer, skipping entry")
+                    .with("fish", fishName)
+                    .with("type", caughtCountObj.getClass().getSimpleName())
+                    .log();
             }
         }
+        log.debug("Gallery", "Loaded counts").with("entries", gallery.size()).log();
     }
 
     public synchronized void clearGallery() {
-        gallery.clear();
-        persistenceFramework.clear();
-        Gdx.app.log("Gallery", "Cleared fish gallery data.");
+        gallery = new HashMap<>();
+        // The slots stay allocated, the cached indexes stay valid
+        counters.clear();
+        log.info("Gallery", "Cleared fish gallery data").log();
+    }
+
+    /**
+     * How many of the species were caught, 0 if none. Safe to call while catches are recorded.
+     */
+    public synchronized int getCaughtCount(String fishName) {
+        FishRegistry fishEntry = getEntries().get(fishName);
+        return fishEntry == null ? 0 : fishEntry.nCaught;
     }
 
     public synchronized Map<String, FishRegistry> getGallery() {
-        return gallery;
+        return getEntries();
     }
 }
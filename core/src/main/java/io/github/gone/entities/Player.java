@@ -3,14 +3,16 @@ package io.github.gone.entities;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import io.github.gone.entities.Gallery;
+import io.github.gone.game.FishingSession;
 
 public class Player {
     private FishingRod currentRod;
     private Gallery playerGallery;
 
-    public Player(float x, float y) {
-        this.currentRod = new FishingRod(new Vector2(x, y));
-        this.playerGallery = new Gallery();
+    public Player(float x, float y, FishingSession session) {
+        this.currentRod = new FishingRod(new Vector2(x, y), session);
+        // The gallery is shared with the screens, it is read once per game
+        this.playerGallery = Gallery.getInstance();
     }
 
     public FishingRod getFishingRod() {
@@ -1,45 +1,40 @@
 package io.github.gone.fish;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
+import io.github.gone.utils.DrawQueue;
 
 /**
- * Base class for all fish types in the game.
+ * Base class for all fish species in the game.
+ *
+ * Species are defined in the SpeciesCatalog, which creates a single shared instance of
+ * each. Subclasses only add the procedural look, the weight of an individual catch
+ * lives in FishCatch.
  */
 public abstract class Fish {
-    protected int sprite;
-    protected String name;
-    protected String description;
-    protected int rarity;
-    protected float weight; // Weight in kg
+    protected final int id;
+    protected final int tier;
+    protected final String name;
+    protected final String description;
+    protected final int rarity;
     
-    public Fish(int sprite, String name, String description, int rarity) {
-        this.sprite = sprite;
+    /**
+     * @param id index of the species in the catalog
+     * @param tier loot tier, one of the FishFactory type constants
+     * @param rarity experience and catch difficulty multiplier
+     */
+    public Fish(int id, int tier, String name, String description, int rarity) {
+        this.id = id;
+        this.tier = tier;
         this.name = name;
         this.description = description;
         this.rarity = rarity;
-        
-        // Generate a random weight based on rarity
-        generateRandomWeight();
     }
     
-    /**
-     * Generates a random weight for the fish based on its rarity
-     */
-    private void generateRandomWeight() {
-        // Higher rarity means larger potential weight
-        float baseWeight = 0.5f * rarity;
-        float variance = 0.5f * rarity;
-        
-        // Generate a weight with some randomness
-        weight = baseWeight + MathUtils.random() * variance;
-        
-        // Round to 2 decimal places
-        weight = Math.round(weight * 100) / 100f;
+    public int getId() {
+        return id;
     }
     
-    public int getSprite() {
-        return sprite;
+    public int getTier() {
+        return tier;
     }
     
     public String getName() {
@@ -54,12 +49,22 @@ public abstract class Fish {
         return rarity;
     }
     
-    public float getWeight() {
-        return weight;
+    /**
+     * Renders the fish on the queue's current layer, as a single sprite from the
+     * baked fish atlas when available and from its procedural shapes otherwise.
+     * Species are shared, so the animation time comes from whoever displays the fish.
+     *
+     * @param time Seconds the fish has been displayed, drives the shape animations
+     */
+    public void draw(DrawQueue queue, float x, float y, float time) {
+        if (!FishAtlas.getInstance().draw(queue, name, x, y)) {
+            drawShapes(queue, x, y, time);
+        }
     }
     
     /**
-     * Renders the fish on screen
+     * Renders the fish by queueing filled shapes on the queue's current layer.
+     * Used when the atlas is missing and by the atlas baker.
      */
-    public abstract void draw(SpriteBatch batch, float x, float y);
+    public abstract void drawShapes(DrawQueue queue, float x, float y, float time);
 } 
\ No newline at end of file
@@ -0,0 +1,155 @@
+package io.github.gone.fish;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.gone.utils.DrawQueue;
+
+import java.util.Locale;
+
+/**
+ * Sprites of every fish species, baked offline from the procedural drawings
+ * by the lwjgl3 bakeFishAtlas task. Fish fall back to drawing their shapes
+ * when the atlas or their region is missing.
+ *
+ * The loading screen queues the atlas on its AssetManager, so the texture upload
+ * happens during loading. Without it the atlas is loaded on first use.
+ */
+public class FishAtlas {
+    public static final String ATLAS_PATH = "atlas/fish.atlas";
+
+    // Size of the square area baked around each fish, in world units
+    public static final float CELL_SIZE = 200f;
+    // Atlas pixels per world unit, baking at a higher resolution keeps sprites sharp when scaled up
+    public static final float PIXELS_PER_UNIT = 2f;
+
+    private static FishAtlas instance;
+
+    public static synchronized FishAtlas getInstance() {
+        if (instance == null) {
+            instance = new FishAtlas();
+        }
+        return instance;
+    }
+
+    private TextureAtlas atlas;
+    private boolean loaded = false;
+    // Manager that owns the atlas when it was queued, null when loaded directly
+    private AssetManager assets;
+
+    // Regions by fish name, null when the atlas has no region for the fish
+    private final ObjectMap<String, TextureAtlas.AtlasRegion> regions = new ObjectMap<>();
+    private final Color savedColor = new Color();
+
+    private FishAtlas() {
+    }
+
+    /**
+     * Queues the atlas on the manager, if it was baked. The manager then owns the texture.
+     */
+    public void queue(AssetManager assets) {
+        if (loaded || this.assets != null) return;
+        if (!Gdx.files.internal(ATLAS_PATH).exists()) {
+            return;
+        }
+        this.assets = assets;
+        assets.load(ATLAS_PATH, TextureAtlas.class);
+    }
+
+    /**
+     * Returns the atlas region name for a fish, e.g. "great_white_shark"
+     */
+    public static String regionName(String fishName) {
+        return fishName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+    }
+
+    /**
+     * Queues the baked sprite of a fish centered on the given position.
+     * Returns false if there is no sprite, so the caller can draw the shapes instead.
+     */
+    public boolean draw(DrawQueue queue, String fishName, float x, float y) {
+        TextureAtlas.AtlasRegion region = findRegion(fishName);
+        if (region == null) {
+            return false;
+        }
+
+        // Regions are stripped of transparent borders, offsets place them back inside the cell
+        float drawX = x + (region.offsetX - region.originalWidth / 2f) / PIXELS_PER_UNIT;
+        float drawY = y + (region.offsetY - region.originalHeight / 2f) / PIXELS_PER_UNIT;
+
+        savedColor.set(queue.getColor());
+        queue.setColor(Color.WHITE);
+        queue.sprite(region, drawX, drawY, region.packedWidth / PIXELS_PER_UNIT, region.packedHeight / PIXELS_PER_UNIT, false);
+        queue.setColor(savedColor);
+        return true;
+    }
+
+    private TextureAtlas.AtlasRegion findRegion(String fishName) {
+        if (!loaded) {
+            load();
+        }
+        if (atlas == null) {
+            return null;
+        }
+
+        TextureAtlas.AtlasRegion region = regions.get(fishName);
+        if (region == null && !regions.containsKey(fishName)) {
+            region = atlas.findRegion(regionName(fishName));
+            regions.put(fishName, region);
+            if (region == null) {
+                Gdx.app.log("FishAtlas", "No baked sprite for " + fishName + ", drawing shapes instead");
+            }
+        }
+        return region;
+    }
+
+    private void load() {
+        loaded = true;
+        if (assets != null) {
+            try {
+                // Blocks only if the loading screen was skipped before the atlas finished
+                assets.finishLoadingAsset(ATLAS_PATH);
+                atlas = assets.get(ATLAS_PATH, TextureAtlas.class);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("FishAtlas", "Failed to load " + ATLAS_PATH + ", fish are drawn from shapes", e);
+                atlas = null;
+            }
+            return;
+        }
+
+        FileHandle file = Gdx.files.internal(ATLAS_PATH);
+        if (!file.exists()) {
+            Gdx.app.log("FishAtlas", ATLAS_PATH + " not found, fish are drawn from shapes. Run the bakeFishAtlas task to create it.");
+            return;
+        }
+
+        try {
+            atlas = new TextureAtlas(file);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("FishAtlas", "Failed to load " + ATLAS_PATH + ", fish are drawn from shapes", e);
+            atlas = null;
+        }
+    }
+
+    /**
+     * Frees the atlas texture. The atlas is reloaded on next use.
+     */
+    public void dispose() {
+        if (assets != null) {
+            if (assets.contains(ATLAS_PATH)) {
+                assets.unload(ATLAS_PATH);
+            }
+            assets = null;
+            atlas = null;
+        } else if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        regions.clear();
+        loaded = false;
+    }
+}
\ No newline at end of file
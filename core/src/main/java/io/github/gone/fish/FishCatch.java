@@ -0,0 +1,30 @@
+package io.github.gone.fish;
+
+/**
+ * One caught fish: the shared species and the weight of this particular catch.
+ */
+public final class FishCatch {
+    private final Fish species;
+    private final float weight; // Weight in kg
+
+    public FishCatch(Fish species, float weight) {
+        this.species = species;
+        this.weight = weight;
+    }
+
+    public Fish getSpecies() {
+        return species;
+    }
+
+    public float getWeight() {
+        return weight;
+    }
+
+    public String getName() {
+        return species.getName();
+    }
+
+    public int getRarity() {
+        return species.getRarity();
+    }
+}
\ No newline at end of file
@@ -1,14 +1,16 @@
 package io.github.gone.fish;
 
-import com.badlogic.gdx.math.MathUtils;
 import io.github.gone.progression.ProgressionManager;
-import java.util.Map;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.gone.utils.GameRandom;
 
 /**
  * Factory class for creating fish instances based on their type.
+ * The species themselves come from the SpeciesCatalog, the level gates from LootTuning.
  */
 public class FishFactory {
-    private final ProgressionManager progressionManager;
+    // Looked up on first use, catches of a given species don't need the saved progress
+    private ProgressionManager progressionManager;
     
     // Constants for fish types
     public static final int TRASH_ITEM = 0;
@@ -16,103 +18,97 @@ public class FishFactory {
     public static final int RARE_FISH = 2;
     public static final int LEGENDARY_FISH = 3;
     
+    // Species are shared by every catch
+    private final SpeciesCatalog catalog;
+    private final LootTuning tuning;
+    private final GameRandom random;
+    
     public FishFactory() {
-        this.progressionManager = ProgressionManager.getInstance();
+        this(new GameRandom());
     }
     
     /**
-     * Creates a fish of the specified type.
+     * @param random Stream for species picks and weights
+     */
+    public FishFactory(GameRandom random) {
+        this(SpeciesCatalog.getInstance(), random);
+    }
+    
+    public FishFactory(SpeciesCatalog catalog, GameRandom random) {
+        this(catalog, LootTuning.DEFAULT, random);
+    }
+    
+    public FishFactory(SpeciesCatalog catalog, LootTuning tuning, GameRandom random) {
+        this.catalog = catalog;
+        this.tuning = tuning;
+        this.random = random;
+    }
+    
+    /**
+     * Catches a fish of the specified type, with a random weight.
      * 
      * @param fishType Type of fish to create (0=Trash, 1=Common, 2=Rare, 3=Legendary)
-     * @return The created Fish instance
+     * @return The caught fish, its species is a shared instance
      */
-    public Fish generateFish(int fishType) {
-        int playerLevel = progressionManager.getCurrentLevel();
-        
-        // If player level is too low for the requested fish type, adjust accordingly
-        if (fishType == LEGENDARY_FISH && playerLevel < 3) {
-            // Legendary fish requires level 3 or higher
-            fishType = RARE_FISH; // Downgrade to rare fish
-        } else if (fishType == RARE_FISH && playerLevel < 2) {
-            // Rare fish requires level 2 or higher
-            fishType = COMMON_FISH; // Downgrade to common fish
+    public FishCatch generateFish(int fishType) {
+        return generateFish(pickSpecies(fishType));
+    }
+    
+    /**
+     * Catches a fish of the given species, with a random weight.
+     * Used by the loot table, which already picked the species.
+     */
+    public FishCatch generateFish(Fish species) {
+        return new FishCatch(species, generateRandomWeight(species));
+    }
+    
+    private Fish pickSpecies(int fishType) {
+        if (fishType < TRASH_ITEM || fishType > LEGENDARY_FISH) {
+            // Default to common fish if an invalid type is provided
+            fishType = COMMON_FISH;
         }
         
-        switch (fishType) {
-            case TRASH_ITEM:
-                // Randomly select a trash item
-                int trashType = MathUtils.random(1);
-                if (trashType == 0) {
-                    return new TrashItem();
-                } else {
-                    return new TinCanFish();
-                }
-                
-            case COMMON_FISH:
-                // Randomly select a common fish
-                int commonType = MathUtils.random(1);
-                if (commonType == 0) {
-                    return new CommonFish();
-                } else {
-                    return new TroutFish();
-                }
-                
-            case RARE_FISH:
-                // Randomly select a rare fish
-                int rareType = MathUtils.random(1);
-                if (rareType == 0) {
-                    return new RareFish();
-                } else {
-                    return new ClownFish();
-                }
-                
-            case LEGENDARY_FISH:
-                // Randomly select a legendary fish
-                int legendaryType = MathUtils.random(1);
-                if (legendaryType == 0) {
-                    return new LegendaryFish();
-                } else {
-                    return new SharkFish();
-                }
-                
-            default:
-                // Default to common fish if an invalid type is provided
-                return new CommonFish();
+        // Locked tiers fall through to the best unlocked one, the same way the loot table does
+        int tier = fishType == TRASH_ITEM
+            ? TRASH_ITEM
+            : tuning.getUnlockedTier(fishType, getProgressionManager().getCurrentLevel(), catalog);
+        // Only an empty common or trash tier is left, take whatever is below it
+        while (tier >= TRASH_ITEM && catalog.getTierSize(tier) == 0) {
+            tier--;
+        }
+        if (tier < TRASH_ITEM) {
+            throw new GdxRuntimeException("No species to catch for fish type " + fishType);
         }
+        
+        // Species of a tier have contiguous ids, pick one of them at random
+        int first = catalog.getTierStart(tier);
+        return catalog.get(first + random.random(catalog.getTierSize(tier) - 1));
     }
     
     /**
-     * Creates a fish instance based on its name.
-     * This method is primarily for reconstructing Fish objects from persisted data.
-     * It does not consider player level for fish type generation, always returning the base type.
-     * @param fishName The name of the fish to create.
-     * @return The created Fish instance, or null if the name is not recognized.
+     * Generates a random weight for a catch based on the species rarity
+     */
+    private float generateRandomWeight(Fish species) {
+        // Higher rarity means larger potential weight
+        float baseWeight = 0.5f * species.getRarity();
+        float variance = 0.5f * species.getRarity();
+        
+        // Generate a weight with some randomness
+        float weight = baseWeight + random.random() * variance;
+        
+        // Round to 2 decimal places
+        return Math.round(weight * 100) / 100f;
+    }
+    
+    /**
+     * Returns the species with the given name.
+     * This method is primarily for reconstructing gallery entries from persisted data.
+     * It does not consider player level and never allocates, species are shared.
+     * @param fishName The name of the fish species.
+     * @return The shared species instance, or null if the name is not recognized.
      */
     public Fish createFishByName(String fishName) {
-        // This could be made more robust with a Map<String, Integer> for lookup
-        // For now, a switch statement will suffice given the limited number of fish types.
-        switch (fishName) {
-            case "Goldfish":
-                return new CommonFish();
-            case "Trout":
-                return new TroutFish();
-            case "Koi":
-                return new RareFish();
-            case "Clownfish":
-                return new ClownFish();
-            case "Great White Shark":
-                return new SharkFish();
-            case "Marlin":
-                return new LegendaryFish();
-            case "Old Boot":
-                return new TrashItem();
-            case "Rusty Can":
-                return new TinCanFish();
-            default:
-                // Log a warning or throw an exception if an unknown fish name is encountered.
-                // For now, return null.
-                return null;
-        }
+        return catalog.get(fishName);
     }
     
     /**
@@ -122,36 +118,18 @@ public class FishFactory {
      * @return true if the fish type is available, false otherwise
      */
     public boolean isFishTypeAvailable(int fishType) {
-        int playerLevel = progressionManager.getCurrentLevel();
-        
-        switch (fishType) {
-            case TRASH_ITEM: // Trash - always available
-            case COMMON_FISH: // Common fish - always available
-                return true;
-            case RARE_FISH: // Rare fish - requires level 2+
-                return playerLevel >= 2;
-            case LEGENDARY_FISH: // Legendary fish - requires level 3+
-                return playerLevel >= 3;
-            default:
-                return false;
+        if (fishType < TRASH_ITEM || fishType > LEGENDARY_FISH) {
+            return false;
         }
+        // Trash and common fish are always available, the others wait for their level
+        return getProgressionManager().getCurrentLevel() >= tuning.getRequiredLevel(fishType);
     }
 
-    /**
-     * Returns a map of all possible fish names with a dummy value (e.g., 0).
-     * This is used for populating the gallery with all known fish, including those not yet caught.
-     * @return A Map where keys are fish names and values are placeholder integers.
-     */
-    public Map<String, Integer> getAllFishNames() {
-        Map<String, Integer> allFish = new java.util.HashMap<>();
-        allFish.put("Goldfish", 0);
-        allFish.put("Trout", 0);
-        allFish.put("Koi", 0);
-        allFish.put("Clownfish", 0);
-        allFish.put("Great White Shark", 0);
-        allFish.put("Marlin", 0);
-        allFish.put("Old Boot", 0);
-        allFish.put("Rusty Can", 0);
-        return allFish;
+    
+    private ProgressionManager getProgressionManager() {
+        if (progressionManager == null) {
+            progressionManager = ProgressionManager.getInstance();
+        }
+        return progressionManager;
     }
 } 
\ No newline at end of file
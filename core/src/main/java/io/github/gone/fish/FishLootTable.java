@@ -1,29 +1,47 @@
 package io.github.gone.fish;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.MathUtils;
 import io.github.gone.minigames.ThrowMinigame;
 import io.github.gone.progression.ProgressionManager;
+import io.github.gone.utils.AliasTable;
+import io.github.gone.utils.GameLog;
+import io.github.gone.utils.GameRandom;
+
+import java.util.Arrays;
+import java.util.Random;
 
 /**
  * Determines which fish the player catches based on the throw minigame success level.
+ *
+ * For every player level and throw the chances of all species, trash included and
+ * locked tiers already moved down to the best unlocked one, are compiled into one
+ * alias table. A catch is then a single constant time draw. The tables are built on
+ * first use and only rebuilt when the catalog or the tuning changes.
  */
 public class FishLootTable {
     private final FishFactory fishFactory;
-    private final ProgressionManager progressionManager;
+    // Looked up on first catch, so the tables can be used without the saved progress
+    private ProgressionManager progressionManager;
+    private final GameRandom random;
+    private final GameLog log = GameLog.getInstance();
+    
+    private SpeciesCatalog catalog;
+    private LootTuning tuning;
+    
+    // Indexed by level - 1 and SuccessLevel, the last row is used for every higher level
+    private AliasTable[][] tables;
     
-    // Chance of catching trash instead of fish (decreases with level)
-    private static final float[] TRASH_CHANCE_BY_LEVEL = {
-        0.4f,   // Level 1: 40% chance of trash
-        0.2f,   // Level 2: 20% chance of trash
-        0.1f,   // Level 3: 10% chance of trash
-        0.05f,  // Level 4: 5% chance of trash
-        0.02f   // Level 5: 2% chance of trash
-    };
+    /**
+     * @param random Stream for the loot rolls and weights of one session
+     */
+    public FishLootTable(GameRandom random) {
+        this(SpeciesCatalog.getInstance(), LootTuning.DEFAULT, random);
+    }
     
-    public FishLootTable() {
-        this.fishFactory = new FishFactory();
-        this.progressionManager = ProgressionManager.getInstance();
+    public FishLootTable(SpeciesCatalog catalog, LootTuning tuning, GameRandom random) {
+        this.random = random;
+        this.fishFactory = new FishFactory(catalog, random);
+        this.catalog = catalog;
+        this.tuning = tuning;
     }
     
     /**
@@ -33,89 +51,110 @@ public class FishLootTable {
      * - MISS has primarily common fish with very low chance of rare
      * 
      * @param successLevel The success level from the throw minigame
-     * @return The generated Fish instance
+     * @return The caught fish
      */
-    public Fish determineFish(ThrowMinigame.SuccessLevel successLevel) {
+    public FishCatch determineFish(ThrowMinigame.SuccessLevel successLevel) {
+        if (progressionManager == null) {
+            progressionManager = ProgressionManager.getInstance();
+        }
         int playerLevel = progressionManager.getCurrentLevel();
+        int speciesId = getTable(playerLevel, successLevel).sample(random);
+        FishCatch fish = fishFactory.generateFish(catalog.get(speciesId));
         
-        // Chance of catching trash decreases with level
-        float trashChance = playerLevel <= TRASH_CHANCE_BY_LEVEL.length 
-            ? TRASH_CHANCE_BY_LEVEL[playerLevel - 1] 
-            : 0.01f;  // Fallback for higher levels
-        
-        // If it's a miss, significantly increase chance of trash
-        if (successLevel == ThrowMinigame.SuccessLevel.MISS) {
-            trashChance *= 2; // Double the trash chance on a miss
-        }
+        // Log fish info
+        logFishInfo(fish, successLevel);
         
-        // Check if player catches trash
-        if (MathUtils.random() < trashChance) {
-            Fish trash = fishFactory.generateFish(FishFactory.TRASH_ITEM);
-            // Log fish info
-            logFishInfo(trash, successLevel);
-            return trash;
+        return fish;
+    }
+    
+    /**
+     * Draws n species ids for a level and throw into out, for simulations and tools
+     */
+    public void sample(int level, ThrowMinigame.SuccessLevel successLevel, int n, Random random, int[] out) {
+        getTable(level, successLevel).sample(n, random, out);
+    }
+    
+    /**
+     * The compiled table for a level and throw. Its outcomes are catalog species ids.
+     */
+    public synchronized AliasTable getTable(int level, ThrowMinigame.SuccessLevel successLevel) {
+        if (tables == null) {
+            tables = compile(catalog, tuning);
         }
-        
-        // Base probabilities for fish types
-        float commonChance, rareChance, legendaryChance;
-        
-        switch (successLevel) {
-            case GREAT:
-                // Great success provides best chances for rare and legendary fish
-                commonChance = 0.30f;
-                rareChance = 0.45f;
-                legendaryChance = 0.25f;
-                break;
+        int row = Math.min(Math.max(level, 1), tables.length) - 1;
+        return tables[row][successLevel.ordinal()];
+    }
+    
+    public synchronized void setTuning(LootTuning tuning) {
+        if (this.tuning == tuning) return;
+        this.tuning = tuning;
+        tables = null;
+    }
+    
+    public synchronized void setCatalog(SpeciesCatalog catalog) {
+        if (this.catalog == catalog) return;
+        this.catalog = catalog;
+        tables = null;
+    }
+    
+    public LootTuning getTuning() {
+        return tuning;
+    }
+    
+    public SpeciesCatalog getCatalog() {
+        return catalog;
+    }
+    
+    private static AliasTable[][] compile(SpeciesCatalog catalog, LootTuning tuning) {
+        ThrowMinigame.SuccessLevel[] successLevels = ThrowMinigame.SuccessLevel.values();
+        // One extra row for the levels past the tuned ones
+        AliasTable[][] tables = new AliasTable[tuning.getTunedLevels() + 1][successLevels.length];
+        float[] weights = new float[catalog.size()];
+        for (int row = 0; row < tables.length; row++) {
+            int level = row + 1;
+            for (ThrowMinigame.SuccessLevel successLevel : successLevels) {
+                Arrays.fill(weights, 0f);
                 
-            case GOOD:
-                // Good success provides moderate chances for rare fish
-                commonChance = 0.60f;
-                rareChance = 0.35f;
-                legendaryChance = 0.05f;
-                break;
+                float trashChance = catalog.getTierSize(FishFactory.TRASH_ITEM) > 0
+                    ? tuning.getTrashChance(level, successLevel)
+                    : 0f;
+                addTier(catalog, weights, FishFactory.TRASH_ITEM, trashChance);
                 
-            default: // MISS
-                // Poor throw primarily yields common fish
-                commonChance = 0.85f;
-                rareChance = 0.14f;
-                legendaryChance = 0.01f;
-                break;
+                for (int fishType = FishFactory.COMMON_FISH; fishType <= FishFactory.LEGENDARY_FISH; fishType++) {
+                    // Tiers the player hasn't unlocked yet, or without species, give the next tier down
+                    int tier = tuning.getUnlockedTier(fishType, level, catalog);
+                    addTier(catalog, weights, tier, (1f - trashChance) * tuning.getTierChance(successLevel, fishType));
+                }
+                
+                tables[row][successLevel.ordinal()] = new AliasTable(weights);
+            }
         }
-        
-        // Generate a random value between 0 and 1
-        float roll = MathUtils.random();
-        
-        // Determine fish type based on probability distribution
-        int fishType;
-        if (roll < commonChance) {
-            fishType = FishFactory.COMMON_FISH;
-        } else if (roll < commonChance + rareChance) {
-            fishType = FishFactory.RARE_FISH;
-        } else {
-            fishType = FishFactory.LEGENDARY_FISH;
+        return tables;
+    }
+    
+    /**
+     * Spreads a chance evenly over the species of a tier
+     */
+    private static void addTier(SpeciesCatalog catalog, float[] weights, int tier, float chance) {
+        int size = catalog.getTierSize(tier);
+        if (size == 0) return;
+        int first = catalog.getTierStart(tier);
+        for (int id = first; id < first + size; id++) {
+            weights[id] += chance / size;
         }
-        
-        // Use the factory to create the fish
-        Fish fish = fishFactory.generateFish(fishType);
-        
-        // Log fish info
-        logFishInfo(fish, successLevel);
-        
-        return fish;
     }
     
     /**
      * Logs information about the caught fish to help with debugging crashes
      */
-    private void logFishInfo(Fish fish, ThrowMinigame.SuccessLevel successLevel) {
-        Gdx.app.log("FishingDebug", "===============================================");
-        Gdx.app.log("FishingDebug", "FISH CAUGHT - Potential crash debug information");
-        Gdx.app.log("FishingDebug", "Class: " + fish.getClass().getSimpleName());
-        Gdx.app.log("FishingDebug", "Name: " + fish.getName());
-        Gdx.app.log("FishingDebug", "Rarity: " + fish.getRarity());
-        Gdx.app.log("FishingDebug", "Weight: " + fish.getWeight());
-        Gdx.app.log("FishingDebug", "Success Level: " + successLevel);
-        Gdx.app.log("FishingDebug", "Player Level: " + progressionManager.getCurrentLevel());
-        Gdx.app.log("FishingDebug", "===============================================");
+    private void logFishInfo(FishCatch fish, ThrowMinigame.SuccessLevel successLevel) {
+        log.debug("FishLootTable", "Fish rolled")
+            .with("species", fish.getName())
+            .with("look", fish.getSpecies().getClass().getSimpleName())
+            .with("rarity", fish.getRarity())
+            .with("weight", fish.getWeight())
+            .with("throw", successLevel)
+            .with("level", progressionManager.getCurrentLevel())
+            .log();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,41 @@
+package io.github.gone.fish;
+
+import com.badlogic.gdx.graphics.Color;
+import io.github.gone.utils.DrawQueue;
+
+/**
+ * Look for catalog species without their own class, a plain fish colored by tier.
+ * Used until the species gets a sprite in the fish atlas.
+ */
+public class GenericFish extends Fish {
+    // Body color per tier: trash, common, rare, legendary
+    private static final Color[] TIER_COLORS = {
+        new Color(0.45f, 0.45f, 0.4f, 1f),
+        new Color(0.7f, 0.75f, 0.8f, 1f),
+        new Color(0.6f, 0.3f, 0.8f, 1f),
+        new Color(1f, 0.8f, 0.2f, 1f)
+    };
+    
+    public GenericFish(int id, int tier, String name, String description, int rarity) {
+        super(id, tier, name, description, rarity);
+    }
+    
+    @Override
+    public void drawShapes(DrawQueue queue, float x, float y, float time) {
+        queue.setColor(TIER_COLORS[Math.max(0, Math.min(tier, TIER_COLORS.length - 1))]);
+        
+        // Body
+        queue.ellipse(x - 25, y - 15, 50, 30);
+        
+        // Tail
+        queue.triangle(
+            x - 25, y,         // Tail connection point
+            x - 40, y + 15,    // Top of tail
+            x - 40, y - 15     // Bottom of tail
+        );
+        
+        // Eye
+        queue.setColor(Color.BLACK);
+        queue.circle(x + 15, y + 5, 3);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package io.github.gone.fish;
+
+import io.github.gone.minigames.ThrowMinigame;
+
+/**
+ * The numbers behind the loot table: how often trash is caught, how throws split
+ * between the fish tiers and which level unlocks each tier.
+ *
+ * Tuning is immutable. FishLootTable compiles its sampling tables from it, so
+ * changing the balance means passing a new instance to FishLootTable.setTuning().
+ */
+public final class LootTuning {
+    /**
+     * The tuning the game ships with
+     */
+    public static final LootTuning DEFAULT = new LootTuning(
+        // Chance of catching trash instead of fish, decreases with level
+        new float[] {
+            0.4f,   // Level 1: 40% chance of trash
+            0.2f,   // Level 2: 20% chance of trash
+            0.1f,   // Level 3: 10% chance of trash
+            0.05f,  // Level 4: 5% chance of trash
+            0.02f   // Level 5: 2% chance of trash
+        },
+        0.01f,      // Fallback for higher levels
+        2f,         // A miss doubles the trash chance
+        // Common, rare and legendary chances per throw, indexed by SuccessLevel
+        new float[][] {
+            {0.85f, 0.14f, 0.01f},  // MISS: poor throw primarily yields common fish
+            {0.60f, 0.35f, 0.05f},  // GOOD: moderate chances for rare fish
+            {0.30f, 0.45f, 0.25f}   // GREAT: best chances for rare and legendary fish
+        },
+        2,          // Rare fish require level 2
+        3           // Legendary fish require level 3
+    );
+
+    private final float[] trashChanceByLevel;
+    private final float fallbackTrashChance;
+    private final float missTrashMultiplier;
+    private final float[][] tierChances;
+    private final int rareLevel;
+    private final int legendaryLevel;
+
+    /**
+     * @param trashChanceByLevel trash chance for levels 1 and up
+     * @param fallbackTrashChance trash chance for levels past the end of trashChanceByLevel
+     * @param missTrashMultiplier factor applied to the trash chance on a missed throw
+     * @param tierChances common, rare and legendary chances for each SuccessLevel
+     * @param rareLevel level that unlocks rare fish
+     * @param legendaryLevel level that unlocks legendary fish
+     */
+    public LootTuning(float[] trashChanceByLevel, float fallbackTrashChance, float missTrashMultiplier,
+                      float[][] tierChances, int rareLevel, int legendaryLevel) {
+        this.trashChanceByLevel = trashChanceByLevel.clone();
+        this.fallbackTrashChance = fallbackTrashChance;
+        this.missTrashMultiplier = missTrashMultiplier;
+        this.tierChances = new float[tierChances.length][];
+        for (int i = 0; i < tierChances.length; i++) {
+            this.tierChances[i] = tierChances[i].clone();
+        }
+        this.rareLevel = rareLevel;
+        this.legendaryLevel = legendaryLevel;
+    }
+
+    /**
+     * Chance of catching trash for a level and throw, between 0 and 1
+     */
+    public float getTrashChance(int level, ThrowMinigame.SuccessLevel successLevel) {
+        float chance = level >= 1 && level <= trashChanceByLevel.length
+            ? trashChanceByLevel[level - 1]
+            : fallbackTrashChance;
+        if (successLevel == ThrowMinigame.SuccessLevel.MISS) {
+            chance *= missTrashMultiplier;
+        }
+        return Math.min(chance, 1f);
+    }
+
+    /**
+     * Chance of a fish tier when no trash is caught, before level gating
+     */
+    public float getTierChance(ThrowMinigame.SuccessLevel successLevel, int fishType) {
+        return tierChances[successLevel.ordinal()][fishType - FishFactory.COMMON_FISH];
+    }
+
+    /**
+     * Level that unlocks a fish tier
+     */
+    public int getRequiredLevel(int fishType) {
+        switch (fishType) {
+            case FishFactory.RARE_FISH:
+                return rareLevel;
+            case FishFactory.LEGENDARY_FISH:
+                return legendaryLevel;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * The tier a roll of fishType gives at a level. Tiers the level hasn't unlocked,
+     * or without species, fall through to the next tier down, common fish being the floor.
+     */
+    public int getUnlockedTier(int fishType, int level, SpeciesCatalog catalog) {
+        int tier = fishType;
+        while (tier > FishFactory.COMMON_FISH && (level < getRequiredLevel(tier) || catalog.getTierSize(tier) == 0)) {
+            tier--;
+        }
+        return tier;
+    }
+
+    /**
+     * Number of levels with their own trash chance. Levels above it all use the fallback.
+     */
+    public int getTunedLevels() {
+        return Math.max(trashChanceByLevel.length, Math.max(rareLevel, legendaryLevel));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package io.github.gone.fish;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Every fish species in the game, loaded once from data/species.json.
+ *
+ * Species get dense ids in catalog order, grouped by tier, so a tier is a contiguous id
+ * range and every lookup is an array access or a single hash lookup. A species entry
+ * names its look, the Fish subclass in this package that draws it. Entries without a
+ * look use GenericFish, so new species only need a catalog entry and atlas art.
+ */
+public class SpeciesCatalog {
+    public static final String FILE = "data/species.json";
+
+    // Tier names used in the catalog file, indexed by the FishFactory type constants
+    private static final String[] TIER_NAMES = {"trash", "common", "rare", "legendary"};
+
+    private static SpeciesCatalog instance;
+
+    /**
+     * Returns the catalog loaded from the internal assets, loading it on first use
+     */
+    public static synchronized SpeciesCatalog getInstance() {
+        if (instance == null) {
+            instance = load(Gdx.files.internal(FILE));
+        }
+        return instance;
+    }
+
+    /**
+     * Loads a catalog from any file, works without a running application
+     */
+    public static SpeciesCatalog load(FileHandle file) {
+        return new SpeciesCatalog(new JsonReader().parse(file));
+    }
+
+    private final Fish[] species;
+    private final List<Fish> speciesList;
+    private final ObjectIntMap<String> idsByName;
+    // First id of each tier, plus the species count at the end
+    private final int[] tierStart = new int[TIER_NAMES.length + 1];
+
+    SpeciesCatalog(JsonValue root) {
+        JsonValue entries = root.get("species");
+        if (entries == null || !entries.isArray()) {
+            throw new GdxRuntimeException("Species catalog has no species array");
+        }
+
+        // Group the entries by tier, keeping their order within a tier
+        Array<JsonValue> sorted = new Array<>(entries.size);
+        for (int tier = 0; tier < TIER_NAMES.length; tier++) {
+            tierStart[tier] = sorted.size;
+            for (JsonValue entry = entries.child; entry != null; entry = entry.next) {
+                if (parseTier(entry) == tier) {
+                    sorted.add(entry);
+                }
+            }
+        }
+        tierStart[TIER_NAMES.length] = sorted.size;
+
+        species = new Fish[sorted.size];
+        idsByName = new ObjectIntMap<>(sorted.size);
+        for (int id = 0; id < sorted.size; id++) {
+            Fish fish = create(id, sorted.get(id));
+            if (idsByName.containsKey(fish.getName())) {
+                throw new GdxRuntimeException("Duplicate species in catalog: " + fish.getName());
+            }
+            species[id] = fish;
+            idsByName.put(fish.getName(), id);
+        }
+        speciesList = Collections.unmodifiableList(Arrays.asList(species));
+    }
+
+    private static int parseTier(JsonValue entry) {
+        String tierName = entry.getString("tier");
+        for (int tier = 0; tier < TIER_NAMES.length; tier++) {
+            if (TIER_NAMES[tier].equals(tierName)) return tier;
+        }
+        throw new GdxRuntimeException("Unknown tier '" + tierName + "' for species " + entry.getString("name", "?"));
+    }
+
+    private static Fish create(int id, JsonValue entry) {
+        String look = entry.getString("look", GenericFish.class.getSimpleName());
+        try {
+            Class<?> type = ClassReflection.forName(Fish.class.getPackage().getName() + "." + look);
+            return (Fish) ClassReflection.getConstructor(type, int.class, int.class, String.class, String.class, int.class)
+                .newInstance(id, parseTier(entry), entry.getString("name"), entry.getString("description", ""),
+                    entry.getInt("rarity"));
+        } catch (ReflectionException e) {
+            throw new GdxRuntimeException("Can't create look " + look + " for species " + entry.getString("name", "?"), e);
+        }
+    }
+
+    /**
+     * Number of species, ids go from 0 to size() - 1
+     */
+    public int size() {
+        return species.length;
+    }
+
+    public Fish get(int id) {
+        return species[id];
+    }
+
+    /**
+     * Returns the species with the given name, or null if there is none
+     */
+    public Fish get(String name) {
+        int id = idsByName.get(name, -1);
+        return id < 0 ? null : species[id];
+    }
+
+    /**
+     * Returns the id of the species with the given name, or -1 if there is none
+     */
+    public int getId(String name) {
+        return idsByName.get(name, -1);
+    }
+
+    /**
+     * Every species in id order
+     */
+    public List<Fish> getAll() {
+        return speciesList;
+    }
+
+    /**
+     * First id of a tier, its species are the ids up to getTierEnd()
+     */
+    public int getTierStart(int tier) {
+        return tierStart[tier];
+    }
+
+    /**
+     * One past the last id of a tier
+     */
+    public int getTierEnd(int tier) {
+        return tierStart[tier + 1];
+    }
+
+    public int getTierSize(int tier) {
+        return tierStart[tier + 1] - tierStart[tier];
+    }
+
+    public int getTierCount() {
+        return TIER_NAMES.length;
+    }
+}
\ No newline at end of file
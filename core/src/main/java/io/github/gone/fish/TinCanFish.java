@@ -1,71 +1,57 @@
 package io.github.gone.fish;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import io.github.gone.utils.ShapeRendererManager;
+import io.github.gone.utils.DrawQueue;
 
 /**
  * Represents a tin can caught while fishing.
  * Has minimal XP value but counts towards fishing stats.
  */
 public class TinCanFish extends Fish {
-    private final ShapeRendererManager shapeRenderer;
+    // Colors
+    private static final Color BODY_COLOR = new Color(0.65f, 0.65f, 0.65f, 1f);
+    private static final Color RIM_COLOR = new Color(0.7f, 0.7f, 0.7f, 1f);
+    private static final Color LABEL_COLOR = new Color(0.7f, 0.2f, 0.2f, 1f);
+    private static final Color RUST_COLOR = new Color(0.6f, 0.3f, 0.1f, 1f);
+    private static final Color TAB_COLOR = new Color(0.8f, 0.8f, 0.8f, 1f);
     
-    public TinCanFish() {
-        super(0, "Rusty Can", "An old tin can. Maybe there's still something edible inside?", 1);
-        this.shapeRenderer = new ShapeRendererManager();
+    public TinCanFish(int id, int tier, String name, String description, int rarity) {
+        super(id, tier, name, description, rarity);
     }
     
     @Override
-    public void draw(SpriteBatch batch, float x, float y) {
-        // End SpriteBatch to use ShapeRenderer
-        batch.end();
-        
+    public void drawShapes(DrawQueue queue, float x, float y, float time) {
         // Draw a tin can
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        
         // Can body
-        shapeRenderer.setColor(new Color(0.65f, 0.65f, 0.65f, 1f));
+        queue.setColor(BODY_COLOR);
         
         // Cylindrical body
-        shapeRenderer.getShapeRenderer().rect(x - 20, y - 20, 40, 40);
+        queue.rect(x - 20, y - 20, 40, 40);
         
         // Top and bottom ellipses
-        shapeRenderer.setColor(new Color(0.7f, 0.7f, 0.7f, 1f));
-        shapeRenderer.getShapeRenderer().ellipse(x - 20, y + 20, 40, 10);
-        shapeRenderer.getShapeRenderer().ellipse(x - 20, y - 20, 40, 10);
+        queue.setColor(RIM_COLOR);
+        queue.ellipse(x - 20, y + 20, 40, 10);
+        queue.ellipse(x - 20, y - 20, 40, 10);
         
         // Label
-        shapeRenderer.setColor(new Color(0.7f, 0.2f, 0.2f, 1f));
-        shapeRenderer.getShapeRenderer().rect(x - 18, y - 15, 36, 30);
+        queue.setColor(LABEL_COLOR);
+        queue.rect(x - 18, y - 15, 36, 30);
         
         // Label text (just some lines to suggest text)
-        shapeRenderer.setColor(Color.BLACK);
-        shapeRenderer.getShapeRenderer().rect(x - 15, y, 30, 2);
-        shapeRenderer.getShapeRenderer().rect(x - 15, y + 5, 25, 2);
-        shapeRenderer.getShapeRenderer().rect(x - 15, y - 5, 20, 2);
+        queue.setColor(Color.BLACK);
+        queue.rect(x - 15, y, 30, 2);
+        queue.rect(x - 15, y + 5, 25, 2);
+        queue.rect(x - 15, y - 5, 20, 2);
         
         // Rust spots
-        shapeRenderer.setColor(new Color(0.6f, 0.3f, 0.1f, 1f));
-        shapeRenderer.getShapeRenderer().circle(x - 10, y - 12, 3);
-        shapeRenderer.getShapeRenderer().circle(x + 13, y + 15, 4);
-        shapeRenderer.getShapeRenderer().circle(x + 8, y - 18, 2);
+        queue.setColor(RUST_COLOR);
+        queue.circle(x - 10, y - 12, 3);
+        queue.circle(x + 13, y + 15, 4);
+        queue.circle(x + 8, y - 18, 2);
         
         // Can opening tab
-        shapeRenderer.setColor(new Color(0.8f, 0.8f, 0.8f, 1f));
-        shapeRenderer.getShapeRenderer().rect(x - 5, y + 20, 10, 5);
-        shapeRenderer.getShapeRenderer().circle(x, y + 22, 3);
-        
-        shapeRenderer.end();
-        
-        // Resume SpriteBatch
-        batch.begin();
-    }
-    
-    public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
+        queue.setColor(TAB_COLOR);
+        queue.rect(x - 5, y + 20, 10, 5);
+        queue.circle(x, y + 22, 3);
     }
 } 
\ No newline at end of file
@@ -1,66 +1,50 @@
 package io.github.gone.fish;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import io.github.gone.utils.ShapeRendererManager;
+import io.github.gone.utils.DrawQueue;
 
 /**
  * Represents a piece of trash caught while fishing.
  * Has minimal XP value but counts towards fishing stats.
  */
 public class TrashItem extends Fish {
-    private final ShapeRendererManager shapeRenderer;
+    // Colors
+    private static final Color BOOT_COLOR = new Color(0.4f, 0.25f, 0.1f, 1f);
+    private static final Color DETAIL_COLOR = new Color(0.3f, 0.2f, 0.1f, 1f);
+    private static final Color WATER_COLOR = new Color(0.3f, 0.7f, 0.9f, 0.7f);
     
-    public TrashItem() {
-        super(0, "Old Boot", "A waterlogged boot. Not a fish, but at least you caught something!", 1);
-        this.shapeRenderer = new ShapeRendererManager();
+    public TrashItem(int id, int tier, String name, String description, int rarity) {
+        super(id, tier, name, description, rarity);
     }
     
     @Override
-    public void draw(SpriteBatch batch, float x, float y) {
-        // End SpriteBatch to use ShapeRenderer
-        batch.end();
-        
+    public void drawShapes(DrawQueue queue, float x, float y, float time) {
         // Draw a basic boot shape
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        
         // Boot base color (brown)
-        shapeRenderer.setColor(new Color(0.4f, 0.25f, 0.1f, 1f));
+        queue.setColor(BOOT_COLOR);
         
         // Draw the boot sole
-        shapeRenderer.getShapeRenderer().rect(x - 40, y - 15, 60, 12);
+        queue.rect(x - 40, y - 15, 60, 12);
         
         // Draw the boot upper
-        shapeRenderer.getShapeRenderer().rect(x - 40, y - 3, 25, 30);
+        queue.rect(x - 40, y - 3, 25, 30);
         
         // Add some boot details
-        shapeRenderer.setColor(new Color(0.3f, 0.2f, 0.1f, 1f));
+        queue.setColor(DETAIL_COLOR);
         
         // Boot heel
-        shapeRenderer.getShapeRenderer().rect(x - 40, y - 15, 15, 20);
+        queue.rect(x - 40, y - 15, 15, 20);
         
         // Boot laces
-        shapeRenderer.setColor(Color.BLACK);
+        queue.setColor(Color.BLACK);
         for (int i = 0; i < 3; i++) {
-            shapeRenderer.getShapeRenderer().rect(x - 35, y + 0 + i * 8, 15, 2);
+            queue.rect(x - 35, y + 0 + i * 8, 15, 2);
         }
         
         // Draw water dripping
-        shapeRenderer.setColor(new Color(0.3f, 0.7f, 0.9f, 0.7f));
-        shapeRenderer.getShapeRenderer().circle(x - 30, y - 20, 2);
-        shapeRenderer.getShapeRenderer().circle(x - 20, y - 25, 3);
-        shapeRenderer.getShapeRenderer().circle(x, y - 23, 2);
-        
-        shapeRenderer.end();
-        
-        // Resume SpriteBatch
-        batch.begin();
-    }
-    
-    public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
+        queue.setColor(WATER_COLOR);
+        queue.circle(x - 30, y - 20, 2);
+        queue.circle(x - 20, y - 25, 3);
+        queue.circle(x, y - 23, 2);
     }
 } 
\ No newline at end of file
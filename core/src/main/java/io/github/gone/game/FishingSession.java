@@ -0,0 +1,211 @@
+package io.github.gone.game;
+
+import io.github.gone.fish.FishCatch;
+import io.github.gone.minigames.CatchMinigame;
+import io.github.gone.minigames.ThrowMinigame;
+
+/**
+ * The rules of one fishing attempt, from the throw to the reward, without any rendering.
+ *
+ * The session only holds plain state and never touches Gdx, so it runs without a GL
+ * context (headless backend, simulations, CI). The minigames report their outcome with
+ * completeThrow() and completeCatch(), update() moves the line, and the listener is told
+ * when a fish is landed so the caller can hand out the reward. FishingRod draws it.
+ */
+public class FishingSession {
+    // Line lengths
+    public static final float MAX_LINE_LENGTH = 300f;
+    private static final float GOOD_BONUS_LINE_LENGTH = 50f; // Additional length for "Good" success
+    private static final float GREAT_BONUS_LINE_LENGTH = 100f; // Additional length for "Great" success
+
+    // Line speeds
+    private static final float LINE_EXTENSION_BASE_SPEED = 300f;
+    private static final float LINE_REEL_BASE_SPEED = 350f;
+
+    /**
+     * Steps of a fishing attempt
+     */
+    public enum State {
+        IDLE,       // Waiting for the player to cast
+        THROWING,   // Throw minigame running
+        CASTING,    // Line extending
+        WAITING,    // Line fully out, ready to reel
+        CATCHING,   // Catch minigame running
+        REELING,    // Line coming back in
+        LANDED      // Fish caught, waiting for the player to close the reward
+    }
+
+    /**
+     * Decides which fish a throw hooks
+     */
+    public interface FishSource {
+        FishCatch determineFish(ThrowMinigame.SuccessLevel successLevel);
+    }
+
+    public interface Listener {
+        void onStateChanged(State previous, State current);
+
+        /**
+         * Called once the line is reeled in with a fish on it
+         */
+        void onFishLanded(FishCatch fish);
+    }
+
+    private final FishSource fishSource;
+    private Listener listener;
+
+    private State state = State.IDLE;
+    private ThrowMinigame.SuccessLevel successLevel = ThrowMinigame.SuccessLevel.MISS;
+    private float lineLength;
+    private FishCatch hookedFish;
+
+    public FishingSession(FishSource fishSource) {
+        this.fishSource = fishSource;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Starts a new attempt with the throw. Returns false if one is already running.
+     */
+    public boolean cast() {
+        if (state != State.IDLE) return false;
+        setState(State.THROWING);
+        return true;
+    }
+
+    /**
+     * Casts the line with the result of the throw minigame, which also decides the fish
+     */
+    public void completeThrow(ThrowMinigame.SuccessLevel successLevel) {
+        if (state != State.THROWING) return;
+        this.successLevel = successLevel;
+        this.lineLength = 0;
+        this.hookedFish = fishSource.determineFish(successLevel);
+        setState(State.CASTING);
+    }
+
+    /**
+     * Starts reeling with the catch minigame. Returns how hard the hooked fish
+     * fights, or null if the line isn't ready to be reeled.
+     */
+    public CatchMinigame.FishDifficulty startCatch() {
+        if (state != State.WAITING) return null;
+        setState(State.CATCHING);
+        return getDifficulty(hookedFish);
+    }
+
+    /**
+     * Reels the line in with the result of the catch minigame, the fish is lost unless it succeeded
+     */
+    public void completeCatch(CatchMinigame.FishingResult result) {
+        if (state != State.CATCHING) return;
+        if (result != CatchMinigame.FishingResult.SUCCESS) {
+            hookedFish = null;
+        }
+        setState(State.REELING);
+    }
+
+    /**
+     * Ends the attempt once the player has seen the caught fish
+     */
+    public void finishLanding() {
+        if (state != State.LANDED) return;
+        hookedFish = null;
+        setState(State.IDLE);
+    }
+
+    /**
+     * Moves the line while casting or reeling
+     */
+    public void update(float delta) {
+        if (state == State.CASTING) {
+            // Better throws extend the line faster
+            float extensionSpeed = switch (successLevel) {
+                case GREAT -> LINE_EXTENSION_BASE_SPEED * 1.3f;
+                case GOOD -> LINE_EXTENSION_BASE_SPEED * 1.15f;
+                default -> LINE_EXTENSION_BASE_SPEED;
+            };
+
+            float maxLength = getMaxReachableLength();
+            lineLength += extensionSpeed * delta;
+            if (lineLength >= maxLength) {
+                lineLength = maxLength;
+                setState(State.WAITING);
+            }
+        } else if (state == State.REELING) {
+            lineLength -= LINE_REEL_BASE_SPEED * delta;
+            if (lineLength <= 0) {
+                lineLength = 0;
+                if (hookedFish != null) {
+                    setState(State.LANDED);
+                    if (listener != null) {
+                        listener.onFishLanded(hookedFish);
+                    }
+                } else {
+                    setState(State.IDLE);
+                }
+            }
+        }
+    }
+
+    private void setState(State state) {
+        State previous = this.state;
+        this.state = state;
+        if (listener != null) {
+            listener.onStateChanged(previous, state);
+        }
+    }
+
+    /**
+     * Rarer fish fight harder in the catch minigame
+     */
+    public static CatchMinigame.FishDifficulty getDifficulty(FishCatch fish) {
+        if (fish == null) return CatchMinigame.FishDifficulty.EASY;
+        return switch (fish.getRarity()) {
+            case 1 -> CatchMinigame.FishDifficulty.MEDIUM;
+            case 2 -> CatchMinigame.FishDifficulty.HARD;
+            case 3 -> CatchMinigame.FishDifficulty.LEGENDARY;
+            default -> CatchMinigame.FishDifficulty.EASY;
+        };
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns true while the line is in the water or on its way
+     */
+    public boolean isLineOut() {
+        return state == State.CASTING || state == State.WAITING || state == State.CATCHING || state == State.REELING;
+    }
+
+    public ThrowMinigame.SuccessLevel getSuccessLevel() {
+        return successLevel;
+    }
+
+    public float getLineLength() {
+        return lineLength;
+    }
+
+    /**
+     * How far the line goes, better throws reach further
+     */
+    public float getMaxReachableLength() {
+        return switch (successLevel) {
+            case GREAT -> MAX_LINE_LENGTH + GREAT_BONUS_LINE_LENGTH;
+            case GOOD -> MAX_LINE_LENGTH + GOOD_BONUS_LINE_LENGTH;
+            default -> MAX_LINE_LENGTH;
+        };
+    }
+
+    /**
+     * The fish on the line, null before the throw or after it got away
+     */
+    public FishCatch getHookedFish() {
+        return hookedFish;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,326 @@
+package io.github.gone.game;
+
+import io.github.gone.fish.FishCatch;
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.utils.GameLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Broadcasts gameplay events to consumers that each run on their own thread.
+ *
+ * Events live in a preallocated ring buffer. Publishing claims the next slot with a CAS,
+ * fills it and marks it available, so it doesn't allocate or take a lock and the render
+ * thread never waits for the gallery or progression to save. Every consumer reads every
+ * event in order and is told when it reached the end of a batch, which is where the
+ * persistent ones save, so a burst of events is saved once.
+ *
+ * Consumers are added before start(). A slot is reused once all consumers are past it;
+ * if the slowest one is a full ring behind, publish() waits a few milliseconds for it
+ * and then drops the event rather than stalling the game.
+ */
+public class GameEventBus {
+    public enum Type {
+        CAST_STARTED, THROW_RESULT, CATCH, LEVEL_UP
+    }
+
+    /**
+     * Receives the events on the consumer's thread
+     */
+    public interface Consumer {
+        /**
+         * @param event Only valid during the call, copy what has to be kept
+         * @param endOfBatch True for the last event currently available
+         */
+        void onEvent(GameEvent event, boolean endOfBatch);
+
+        /**
+         * Called on the consumer's thread after the last event, before the bus stops
+         */
+        default void onShutdown() {
+        }
+    }
+
+    /**
+     * A slot of the ring buffer. Which fields are set depends on the type:
+     * THROW_RESULT has the success level, CATCH the fish and the throw it was caught with,
+     * LEVEL_UP the new level.
+     */
+    public static final class GameEvent {
+        private Type type;
+        private ThrowMinigame.SuccessLevel successLevel;
+        private FishCatch fish;
+        private int level;
+
+        public Type getType() {
+            return type;
+        }
+
+        public ThrowMinigame.SuccessLevel getSuccessLevel() {
+            return successLevel;
+        }
+
+        public FishCatch getFish() {
+            return fish;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+    }
+
+    // Ring buffer size, a power of two
+    private static final int CAPACITY = 1024;
+    private static final int INDEX_SHIFT = Integer.numberOfTrailingZeros(CAPACITY);
+    // How long consumers sleep when there is nothing to read, publishing wakes them up earlier
+    private static final long IDLE_PARK_NANOS = 10_000_000L;
+    // How long publish() waits for a slow consumer before dropping the event
+    private static final long FULL_WAIT_NANOS = 5_000_000L;
+    private static final long FLUSH_TIMEOUT_NANOS = 1_000_000_000L;
+
+    private static GameEventBus instance;
+
+    public static synchronized GameEventBus getInstance() {
+        if (instance == null) {
+            instance = new GameEventBus();
+        }
+        return instance;
+    }
+
+    private final GameEvent[] ring = new GameEvent[CAPACITY];
+    // Lap in which each slot was last published, so a consumer can tell an old event from a new one
+    private final AtomicIntegerArray publishedLap = new AtomicIntegerArray(CAPACITY);
+    // Last claimed sequence
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final AtomicLong dropped = new AtomicLong();
+    private final List<ConsumerThread> pending = new ArrayList<>();
+    private ConsumerThread[] consumers = new ConsumerThread[0];
+    // Lowest sequence all consumers have read, cached so publishing rarely scans them
+    private volatile long gatingSequence = -1;
+    private volatile boolean running;
+    private boolean started;
+
+    private GameEventBus() {
+        for (int i = 0; i < CAPACITY; i++) {
+            ring[i] = new GameEvent();
+            publishedLap.set(i, -1);
+        }
+    }
+
+    /**
+     * Registers a consumer, the name is used for its thread
+     */
+    public synchronized void addConsumer(String name, Consumer consumer) {
+        if (started) {
+            throw new IllegalStateException("Consumers must be added before the bus starts");
+        }
+        pending.add(new ConsumerThread(name, consumer));
+    }
+
+    /**
+     * Starts the consumer threads, they receive the events published from now on
+     */
+    public synchronized void start() {
+        if (started) return;
+        started = true;
+        running = true;
+        long start = cursor.get();
+        consumers = pending.toArray(new ConsumerThread[0]);
+        for (ConsumerThread consumer : consumers) {
+            consumer.sequence = start;
+            consumer.thread.start();
+        }
+    }
+
+    public boolean publishCastStarted() {
+        return publish(Type.CAST_STARTED, null, null, 0);
+    }
+
+    public boolean publishThrowResult(ThrowMinigame.SuccessLevel successLevel) {
+        return publish(Type.THROW_RESULT, successLevel, null, 0);
+    }
+
+    public boolean publishCatch(FishCatch fish, ThrowMinigame.SuccessLevel successLevel) {
+        return publish(Type.CATCH, successLevel, fish, 0);
+    }
+
+    public boolean publishLevelUp(int level) {
+        return publish(Type.LEVEL_UP, null, null, level);
+    }
+
+    /**
+     * Waits until the consumers handled every event published so far, at most a second.
+     * Call when the game pauses, so everything the consumers save is saved.
+     */
+    public void flush() {
+        long target = cursor.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        for (ConsumerThread consumer : consumers) {
+            while (consumer.sequence < target && consumer.thread.isAlive() && System.nanoTime() < deadline) {
+                LockSupport.unpark(consumer.thread);
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Lets the consumers handle the remaining events and stops them
+     */
+    public synchronized void dispose() {
+        flush();
+        running = false;
+        for (ConsumerThread consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+        }
+        for (ConsumerThread consumer : consumers) {
+            try {
+                consumer.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (GameEventBus.class) {
+            if (instance == this) instance = null;
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private boolean publish(Type type, ThrowMinigame.SuccessLevel successLevel, FishCatch fish, int level) {
+        long sequence = claim();
+        if (sequence < 0) {
+            long drops = dropped.incrementAndGet();
+            GameLog.getInstance().warn("GameEventBus", "Event dropped, a consumer is stuck")
+                .with("type", type)
+                .with("dropped", drops)
+                .log();
+            return false;
+        }
+
+        GameEvent event = ring[(int) sequence & (CAPACITY - 1)];
+        event.type = type;
+        event.successLevel = successLevel;
+        event.fish = fish;
+        event.level = level;
+        // Publishing the lap makes the slot visible to the consumers
+        publishedLap.set((int) sequence & (CAPACITY - 1), (int) (sequence >>> INDEX_SHIFT));
+
+        ConsumerThread[] consumers = this.consumers;
+        for (ConsumerThread consumer : consumers) {
+            if (consumer.waiting) LockSupport.unpark(consumer.thread);
+        }
+        return true;
+    }
+
+    /**
+     * Claims the next sequence, or returns -1 if the consumers don't free a slot in time
+     */
+    private long claim() {
+        long deadline = 0;
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - CAPACITY;
+            if (wrapPoint > gatingSequence) {
+                long gating = minimumSequence(current);
+                gatingSequence = gating;
+                if (wrapPoint > gating) {
+                    // Full, give the consumers a moment before giving up
+                    if (deadline == 0) {
+                        deadline = System.nanoTime() + FULL_WAIT_NANOS;
+                    } else if (System.nanoTime() > deadline) {
+                        return -1;
+                    }
+                    Thread.yield();
+                    continue;
+                }
+            }
+            if (cursor.compareAndSet(current, next)) return next;
+        }
+    }
+
+    private long minimumSequence(long minimum) {
+        for (ConsumerThread consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence);
+        }
+        return minimum;
+    }
+
+    /**
+     * Highest sequence from 'from' up to 'to' that is published along with everything before it
+     */
+    private long highestPublished(long from, long to) {
+        for (long sequence = from; sequence <= to; sequence++) {
+            if (publishedLap.get((int) sequence & (CAPACITY - 1)) != (int) (sequence >>> INDEX_SHIFT)) {
+                return sequence - 1;
+            }
+        }
+        return to;
+    }
+
+    private class ConsumerThread implements Runnable {
+        private final Consumer consumer;
+        private final Thread thread;
+        // Last sequence this consumer handled, only written by its thread
+        private volatile long sequence;
+        private volatile boolean waiting;
+
+        ConsumerThread(String name, Consumer consumer) {
+            this.consumer = consumer;
+            this.thread = new Thread(this, "GameEvents-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                if (!poll()) {
+                    waiting = true;
+                    // Publishing after the poll but before waiting was set would not unpark us
+                    if (!poll()) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    waiting = false;
+                }
+            }
+            poll();
+            try {
+                consumer.onShutdown();
+            } catch (RuntimeException e) {
+                GameLog.getInstance().error("GameEventBus", "Consumer failed to shut down").error(e).log();
+            }
+        }
+
+        /**
+         * Handles every published event, returns false if there were none
+         */
+        private boolean poll() {
+            long next = sequence + 1;
+            long available = highestPublished(next, cursor.get());
+            if (available < next) return false;
+
+            for (long current = next; current <= available; current++) {
+                GameEvent event = ring[(int) current & (CAPACITY - 1)];
+                try {
+                    consumer.onEvent(event, current == available);
+                } catch (RuntimeException e) {
+                    // One bad event shouldn't stop the consumer
+                    GameLog.getInstance().error("GameEventBus", "Consumer failed")
+                        .with("consumer", thread.getName())
+                        .with("type", event.type)
+                        .error(e)
+                        .log();
+                }
+            }
+            // Frees the slots for the producers
+            sequence = available;
+            return true;
+        }
+    }
+}
\ No newline at end of file
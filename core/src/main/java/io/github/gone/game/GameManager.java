@@ -1,36 +1,59 @@
 package io.github.gone.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import io.github.gone.entities.FishingRod;
 import io.github.gone.entities.Player;
 import io.github.gone.minigames.CatchMinigame;
 import io.github.gone.minigames.MinigameManager;
 import io.github.gone.minigames.ThrowMinigame;
 import io.github.gone.fish.FishLootTable;
-import io.github.gone.fish.Fish;
+import io.github.gone.fish.FishCatch;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.GameLog;
+import io.github.gone.utils.GameRandom;
+
+public class GameManager implements ThrowMinigame.ThrowMinigameListener, CatchMinigame.CatchMinigameListener,
+        FishingSession.Listener {
+    // Ids of the random sub-streams, one per subsystem
+    private static final long LOOT_STREAM = 1;
+    private static final long THROW_STREAM = 2;
+    private static final long CATCH_STREAM = 3;
 
-public class GameManager implements ThrowMinigame.ThrowMinigameListener, CatchMinigame.CatchMinigameListener {
     private Player player;
     private MinigameManager minigameManager;
     private FishLootTable fishLootTable;
+    private FishingSession session;
     private float centerX; // To be passed to MinigameManager
     private float centerY; // To be passed to MinigameManager
+    private final long seed;
+    private final GameLog log = GameLog.getInstance();
+    private final GameEventBus events = GameEventBus.getInstance();
 
     public GameManager(float centerX, float centerY) {
+        this(centerX, centerY, GameRandom.newSeed());
+    }
+
+    /**
+     * @param seed Seed of every random roll in the session, the same seed replays the same game
+     */
+    public GameManager(float centerX, float centerY, long seed) {
         this.centerX = centerX;
         this.centerY = centerY;
+        this.seed = seed;
     }
 
     public void init() {
-        // Initialize player, minigameManager, etc.
-        this.player = new Player(centerX, centerY);
-        this.minigameManager = new MinigameManager(centerX, centerY + 150);
+        // The session holds the fishing rules, the rod and minigames are its views and inputs
+        // Each subsystem draws from its own stream, so they stay reproducible independently
+        GameRandom random = new GameRandom(seed);
+        log.info("GameManager", "Session started").with("seed", seed).log();
+        this.fishLootTable = new FishLootTable(random.derive(LOOT_STREAM));
+        this.session = new FishingSession(fishLootTable::determineFish);
+        this.session.setListener(this);
+        this.player = new Player(centerX, centerY, session);
+        this.minigameManager = new MinigameManager(centerX, centerY + 150,
+            random.derive(THROW_STREAM), random.derive(CATCH_STREAM));
         this.minigameManager.getThrowMinigame().setListener(this);
         this.minigameManager.getCatchMinigame().setListener(this);
-        this.fishLootTable = new FishLootTable();
-        // Set initial game state if needed
-        // currentGameState = GameState.SOME_INITIAL_STATE;
     }
 
     public void update(float delta) {
@@ -40,14 +63,18 @@ public class GameManager implements ThrowMinigame.ThrowMinigameListener, CatchMi
             minigameManager.update(delta);
         } else {
             player.getFishingRod().update(delta);
+            session.update(delta);
         }
     }
 
-    public void draw(SpriteBatch batch) {
-        if (minigameManager.isMinigameActive() || player.getFishingRod().isInThrowMinigame()) {
-            minigameManager.draw(batch);
+    /**
+     * Queues the game, alpha is how far the frame is between the last two simulation steps
+     */
+    public void draw(DrawQueue queue, float alpha) {
+        if (minigameManager.isMinigameActive() || session.getState() == FishingSession.State.THROWING) {
+            minigameManager.draw(queue, alpha);
         } else {
-            player.getFishingRod().draw(batch);
+            player.getFishingRod().draw(queue, alpha);
         }
     }
 
@@ -57,19 +84,12 @@ public class GameManager implements ThrowMinigame.ThrowMinigameListener, CatchMi
         if (minigameManager.isMinigameActive()) {
             minigameManager.onClick();
         } else if (rod.isPointInCastButton(x, y)) {
-            // GameManager now directly determines action based on FishingRod's state
-            if (rod.isFishing() && !rod.isReeling() && rod.getLineLength() >= rod.getMaxReachableLength()) {
-                // This condition handles reeling if the cast button is clicked again when reeling is due
-                CatchMinigame.FishDifficulty difficulty = switch (rod.getCaughtFish().getRarity()) {
-                    case 1 -> CatchMinigame.FishDifficulty.MEDIUM;
-                    case 2 -> CatchMinigame.FishDifficulty.HARD;
-                    case 3 -> CatchMinigame.FishDifficulty.LEGENDARY;
-                    default -> CatchMinigame.FishDifficulty.EASY;
-                };
-                minigameManager.startCatchMinigame(centerX, centerY + 150, difficulty);
-            } else if (rod.getCurrentState() == io.github.gone.entities.FishingRod.FishingState.IDLE) { // Only cast if in IDLE state
-                rod.startFishing(); // Set FishingRod to THROW_MINIGAME state
-                minigameManager.startThrowMinigame(centerX, centerY + 150); // Start the actual minigame
+            if (session.getState() == FishingSession.State.WAITING) {
+                // Reel in once the line is fully out, the fish fights back in the catch minigame
+                minigameManager.startCatchMinigame(centerX, centerY + 150, session.startCatch());
+            } else if (session.cast()) { // Only casts when idle
+                events.publishCastStarted();
+                minigameManager.startThrowMinigame(centerX, centerY + 150);
             }
         } else if (rod.isShowingFishCaught()) {
             rod.getFishCaughtScreen().handleClick(x, y);
@@ -78,20 +98,43 @@ public class GameManager implements ThrowMinigame.ThrowMinigameListener, CatchMi
 
     @Override
     public void onThrowComplete(ThrowMinigame.SuccessLevel successLevel) {
-        // Minigame is complete, update FishingRod
-        player.getFishingRod().onMinigameCompletion(successLevel);
-        
-        // Determine the fish using the FishLootTable and pass it to the FishingRod
-        Fish determinedFish = fishLootTable.determineFish(successLevel);
-        player.getFishingRod().setCaughtFish(determinedFish);
+        // The session casts the line and picks the fish with the loot table
+        events.publishThrowResult(successLevel);
+        session.completeThrow(successLevel);
     }
+
     @Override
     public void onFishingCaught(CatchMinigame.FishingResult result, CatchMinigame.FishDifficulty difficulty) {
-        if (result != CatchMinigame.FishingResult.SUCCESS)
-        {
-            player.getFishingRod().setCaughtFish(null);
+        session.completeCatch(result);
+    }
+
+    @Override
+    public void onStateChanged(FishingSession.State previous, FishingSession.State current) {
+        if (current == FishingSession.State.CASTING) {
+            FishCatch fish = session.getHookedFish();
+            log.info("GameManager", "Fishing started")
+                .with("throw", session.getSuccessLevel())
+                .with("reach", session.getMaxReachableLength())
+                .with("fish", fish == null ? null : fish.getName())
+                .with("rarity", fish == null ? 0 : fish.getRarity())
+                .with("weight", fish == null ? 0f : fish.getWeight())
+                .log();
+        } else if (previous == FishingSession.State.REELING) {
+            FishCatch fish = session.getHookedFish();
+            log.info("GameManager", "Reeling completed")
+                .with("throw", session.getSuccessLevel())
+                .with("fish", fish == null ? null : fish.getName())
+                .with("rarity", fish == null ? 0 : fish.getRarity())
+                .with("weight", fish == null ? 0f : fish.getWeight())
+                .log();
         }
-        player.getFishingRod().startReeling();
+    }
+
+    @Override
+    public void onFishLanded(FishCatch fish) {
+        // The gallery and progression reward the catch on their own threads, the game just shows it
+        events.publishCatch(fish, session.getSuccessLevel());
+        player.getFishingRod().showCatch(fish);
     }
 
     public boolean isMinigameActive() {
@@ -102,6 +145,14 @@ public class GameManager implements ThrowMinigame.ThrowMinigameListener, CatchMi
         return player != null && player.getFishingRod().isShowingFishCaught();
     }
 
+    public FishingSession getSession() {
+        return session;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
     public void dispose() {
         if (player != null) {
             player.dispose();
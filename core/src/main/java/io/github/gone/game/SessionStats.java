@@ -0,0 +1,68 @@
+package io.github.gone.game;
+
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.utils.GameLog;
+
+/**
+ * Counts what happens in a play session and logs a summary every few catches
+ * and when the game closes. Runs as an event bus consumer, the counters are
+ * only touched by its thread.
+ */
+public class SessionStats implements GameEventBus.Consumer {
+    private static final int CATCHES_PER_REPORT = 10;
+
+    private final GameLog log = GameLog.getInstance();
+    private final long startTime = System.currentTimeMillis();
+    private final int[] throwsByLevel = new int[ThrowMinigame.SuccessLevel.values().length];
+    // Indexed by catalog tier, trash to legendary
+    private final int[] catchesByTier = new int[4];
+    private int casts;
+    private int catches;
+    private int levelUps;
+    private float weight;
+
+    @Override
+    public void onEvent(GameEventBus.GameEvent event, boolean endOfBatch) {
+        switch (event.getType()) {
+            case CAST_STARTED:
+                casts++;
+                break;
+            case THROW_RESULT:
+                throwsByLevel[event.getSuccessLevel().ordinal()]++;
+                break;
+            case CATCH:
+                catches++;
+                catchesByTier[Math.min(event.getFish().getSpecies().getTier(), catchesByTier.length - 1)]++;
+                weight += event.getFish().getWeight();
+                if (catches % CATCHES_PER_REPORT == 0) report();
+                break;
+            case LEVEL_UP:
+                levelUps++;
+                break;
+        }
+    }
+
+    @Override
+    public void onShutdown() {
+        report();
+    }
+
+    private void report() {
+        log.info("SessionStats", "Session stats")
+            .with("minutes", (System.currentTimeMillis() - startTime) / 60000f)
+            .with("casts", casts)
+            .with("miss", throwsByLevel[ThrowMinigame.SuccessLevel.MISS.ordinal()])
+            .with("good", throwsByLevel[ThrowMinigame.SuccessLevel.GOOD.ordinal()])
+            .with("great", throwsByLevel[ThrowMinigame.SuccessLevel.GREAT.ordinal()])
+            .with("catches", catches)
+            .with("weight", weight)
+            .with("levelUps", levelUps)
+            .log();
+        log.info("SessionStats", "Catches by tier")
+            .with("trash", catchesByTier[0])
+            .with("common", catchesByTier[1])
+            .with("rare", catchesByTier[2])
+            .with("legendary", catchesByTier[3])
+            .log();
+    }
+}
\ No newline at end of file
@@ -1,14 +1,17 @@
 package io.github.gone.minigames;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import io.github.gone.utils.GameRandom;
 import com.badlogic.gdx.math.Rectangle;
-import io.github.gone.utils.ShapeRendererManager;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.GameLog;
+import io.github.gone.utils.FontService.FontSize;
+import io.github.gone.utils.TextFormat;
 
 /**
  * A fishing minigame similar to Stardew Valley where the player must keep
@@ -50,6 +53,7 @@ public class CatchMinigame {
     private float greenBarY;
     private float greenBarVelocity;
     private boolean isPressed;
+    private float previousGreenBarY;
 
     // Fish (AI controlled)
     private float fishY;
@@ -57,6 +61,7 @@ public class CatchMinigame {
     private float fishDirection;
     private float fishSpeed;
     private float fishChangeTimer;
+    private float previousFishY;
     private static final float FISH_CHANGE_INTERVAL = 2f;
 
     // Fish difficulty (affects movement pattern)
@@ -115,19 +120,33 @@ public class CatchMinigame {
         }
     }
 
-    // Rendering
-    private final ShapeRendererManager shapeRenderer;
-    private final BitmapFont font;
-    private final GlyphLayout glyphLayout;
+    // Rendering, labels are only laid out again when their text or color changes.
+    // Created on the first draw, so the minigame logic runs without fonts.
+    private CachedText messageLabel;
+    private CachedText instructionLabel;
+    private CachedText fishTypeLabel;
+    private CachedText timeLabel;
+    private CachedText progressLabel;
+
+    // Scratch objects reused every frame
+    private final Rectangle fishRect = new Rectangle();
+    private final Rectangle greenBarRect = new Rectangle();
+    private final StringBuilder timeText = new StringBuilder();
+    private final StringBuilder progressText = new StringBuilder();
 
     // Events
     private CatchMinigameListener listener;
 
+    // Drives the fish movement
+    private final GameRandom random;
+    private final GameLog log = GameLog.getInstance();
+
     public interface CatchMinigameListener {
         void onFishingCaught(FishingResult result, FishDifficulty difficulty);
     }
 
-    public CatchMinigame(float barX, float barY) {
+    public CatchMinigame(float barX, float barY, GameRandom random) {
+        this.random = random;
         this.barX = barX;
         this.barY = barY;
         this.isActive = false;
@@ -147,12 +166,15 @@ public class CatchMinigame {
         this.fishDirection = 1f;
         this.fishSpeed = FISH_SPEED_BASE;
         this.fishChangeTimer = 0f;
+    }
 
-        this.shapeRenderer = new ShapeRendererManager();
-        this.font = new BitmapFont();
-        this.font.setColor(Color.WHITE);
-        this.font.getData().setScale(1.5f);
-        this.glyphLayout = new GlyphLayout();
+    private void createLabels() {
+        BitmapFont font = FontService.getInstance().get(FontSize.SUBTITLE);
+        this.messageLabel = new CachedText(font);
+        this.instructionLabel = new CachedText(font, "Click to change the green bar direction!", Color.WHITE);
+        this.fishTypeLabel = new CachedText(font, "", Color.WHITE);
+        this.timeLabel = new CachedText(font, "", Color.WHITE);
+        this.progressLabel = new CachedText(font, "", Color.WHITE);
     }
 
     public void setListener(CatchMinigameListener listener) {
@@ -184,13 +206,15 @@ public class CatchMinigame {
         isPressed = false;
 
         // Randomize initial fish position
-        fishY = barY + MathUtils.random(FISH_SIZE + 50f, BAR_HEIGHT - FISH_SIZE - 50f);
+        fishY = barY + random.random(FISH_SIZE + 50f, BAR_HEIGHT - FISH_SIZE - 50f);
         fishTargetY = fishY;
-        fishDirection = MathUtils.randomSign();
+        fishDirection = random.randomSign();
         fishSpeed = FISH_SPEED_BASE * difficulty.getSpeedMultiplier();
         fishChangeTimer = 0f;
+        previousGreenBarY = greenBarY;
+        previousFishY = fishY;
 
-        Gdx.app.log("CatchMinigame", "Started fishing minigame with difficulty: " + difficulty.getName());
+        log.debug("CatchMinigame", "Started").with("difficulty", difficulty.getName()).log();
     }
 
     public boolean isActive() {
@@ -205,7 +229,14 @@ public class CatchMinigame {
         this.isPressed = !this.isPressed;
     }
 
+    /**
+     * Advances the minigame by one simulation step. The physics are tuned for the
+     * fixed step rate of the game loop, DRAG is applied once per step.
+     */
     public void update(float delta) {
+        previousGreenBarY = greenBarY;
+        previousFishY = fishY;
+        
         if (isActive) {
             gameTimer += delta;
 
@@ -278,10 +309,10 @@ public class CatchMinigame {
             fishChangeTimer = 0f;
 
             // Pick a new target position
-            fishTargetY = barY + MathUtils.random(FISH_SIZE, BAR_HEIGHT - FISH_SIZE);
+            fishTargetY = barY + random.random(FISH_SIZE, BAR_HEIGHT - FISH_SIZE);
 
             // Add some randomness to speed
-            fishSpeed = (FISH_SPEED_BASE + MathUtils.random(-FISH_SPEED_VARIANCE, FISH_SPEED_VARIANCE))
+            fishSpeed = (FISH_SPEED_BASE + random.random(-FISH_SPEED_VARIANCE, FISH_SPEED_VARIANCE))
                     * difficulty.getSpeedMultiplier();
         }
 
@@ -299,8 +330,8 @@ public class CatchMinigame {
     }
 
     private boolean isFishInGreenBar() {
-        Rectangle fishRect = new Rectangle(barX + BORDER_WIDTH, fishY, BAR_WIDTH - 2 * BORDER_WIDTH, FISH_SIZE);
-        Rectangle greenBarRect = new Rectangle(barX + BORDER_WIDTH, greenBarY, BAR_WIDTH - 2 * BORDER_WIDTH, GREEN_BAR_HEIGHT);
+        fishRect.set(barX + BORDER_WIDTH, fishY, BAR_WIDTH - 2 * BORDER_WIDTH, FISH_SIZE);
+        greenBarRect.set(barX + BORDER_WIDTH, greenBarY, BAR_WIDTH - 2 * BORDER_WIDTH, GREEN_BAR_HEIGHT);
         return fishRect.overlaps(greenBarRect);
     }
 
@@ -309,13 +340,12 @@ public class CatchMinigame {
         resultMessageTimer = RESULT_MESSAGE_DURATION;
 
         // Log fishing result
-        Gdx.app.log("CatchMinigame", "===============================================");
-        Gdx.app.log("CatchMinigame", "FISHING RESULT");
-        Gdx.app.log("CatchMinigame", "Result: " + result);
-        Gdx.app.log("CatchMinigame", "Difficulty: " + difficulty.getName());
-        Gdx.app.log("CatchMinigame", "Final Progress: " + (progress * 100f) + "%");
-        Gdx.app.log("CatchMinigame", "Time Elapsed: " + gameTimer + "s");
-        Gdx.app.log("CatchMinigame", "===============================================");
+        log.info("CatchMinigame", "Fishing result")
+            .with("result", result)
+            .with("difficulty", difficulty.getName())
+            .with("progress", progress)
+            .with("seconds", gameTimer)
+            .log();
 
         // Notify listener
         if (listener != null) {
@@ -323,110 +353,97 @@ public class CatchMinigame {
         }
     }
 
-    public void draw(SpriteBatch batch) {
+    /**
+     * Queues the minigame, blending the last two simulation steps by alpha
+     */
+    public void draw(DrawQueue queue, float alpha) {
         // If not active and not showing result, don't draw anything
         if (!isActive && !isShowingResult()) {
             return;
         }
+        if (messageLabel == null) {
+            createLabels();
+        }
 
-        // End SpriteBatch to use ShapeRenderer
-        batch.end();
+        queue.setLayer(DrawQueue.LAYER_WORLD);
+        queue.setShapeType(ShapeRenderer.ShapeType.Filled);
 
         // Only draw the minigame if active
         if (isActive) {
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
             // Draw main bar background
-            shapeRenderer.setColor(Color.DARK_GRAY);
-            shapeRenderer.getShapeRenderer().rect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+            queue.setColor(Color.DARK_GRAY);
+            queue.rect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
 
             // Draw bar border
-            shapeRenderer.setColor(Color.BLACK);
-            shapeRenderer.getShapeRenderer().rect(barX, barY, BAR_WIDTH, BORDER_WIDTH); // bottom
-            shapeRenderer.getShapeRenderer().rect(barX, barY + BAR_HEIGHT - BORDER_WIDTH, BAR_WIDTH, BORDER_WIDTH); // top
-            shapeRenderer.getShapeRenderer().rect(barX, barY, BORDER_WIDTH, BAR_HEIGHT); // left
-            shapeRenderer.getShapeRenderer().rect(barX + BAR_WIDTH - BORDER_WIDTH, barY, BORDER_WIDTH, BAR_HEIGHT); // right
+            queue.setColor(Color.BLACK);
+            queue.rect(barX, barY, BAR_WIDTH, BORDER_WIDTH); // bottom
+            queue.rect(barX, barY + BAR_HEIGHT - BORDER_WIDTH, BAR_WIDTH, BORDER_WIDTH); // top
+            queue.rect(barX, barY, BORDER_WIDTH, BAR_HEIGHT); // left
+            queue.rect(barX + BAR_WIDTH - BORDER_WIDTH, barY, BORDER_WIDTH, BAR_HEIGHT); // right
 
             // Draw green bar (player controlled)
-            shapeRenderer.setColor(Color.GREEN);
-            shapeRenderer.getShapeRenderer().rect(barX + BORDER_WIDTH, greenBarY,
+            queue.setColor(Color.GREEN);
+            queue.rect(barX + BORDER_WIDTH, MathUtils.lerp(previousGreenBarY, greenBarY, alpha),
                     BAR_WIDTH - 2 * BORDER_WIDTH, GREEN_BAR_HEIGHT);
 
             // Draw fish
             boolean fishInZone = isFishInGreenBar();
-            shapeRenderer.setColor(fishInZone ? Color.YELLOW : Color.RED);
-            shapeRenderer.getShapeRenderer().rect(barX + BORDER_WIDTH, fishY,
+            queue.setColor(fishInZone ? Color.YELLOW : Color.RED);
+            queue.rect(barX + BORDER_WIDTH, MathUtils.lerp(previousFishY, fishY, alpha),
                     BAR_WIDTH - 2 * BORDER_WIDTH, FISH_SIZE);
 
-            shapeRenderer.end();
-
             // Draw progress bar
             float progressBarWidth = 200f;
             float progressBarHeight = 20f;
             float progressBarX = barX + BAR_WIDTH + 20f;
             float progressBarY = barY + BAR_HEIGHT - 50f;
 
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
             // Progress bar background
-            shapeRenderer.setColor(Color.GRAY);
-            shapeRenderer.getShapeRenderer().rect(progressBarX, progressBarY, progressBarWidth, progressBarHeight);
+            queue.setColor(Color.GRAY);
+            queue.rect(progressBarX, progressBarY, progressBarWidth, progressBarHeight);
 
             // Progress bar fill
-            shapeRenderer.setColor(progress > 0.7f ? Color.GREEN : progress > 0.3f ? Color.YELLOW : Color.RED);
-            shapeRenderer.getShapeRenderer().rect(progressBarX, progressBarY, progressBarWidth * progress, progressBarHeight);
+            queue.setColor(progress > 0.7f ? Color.GREEN : progress > 0.3f ? Color.YELLOW : Color.RED);
+            queue.rect(progressBarX, progressBarY, progressBarWidth * progress, progressBarHeight);
 
             // Progress bar border
-            shapeRenderer.setColor(Color.BLACK);
-            shapeRenderer.getShapeRenderer().rect(progressBarX, progressBarY, progressBarWidth, 2f); // bottom
-            shapeRenderer.getShapeRenderer().rect(progressBarX, progressBarY + progressBarHeight - 2f, progressBarWidth, 2f); // top
-            shapeRenderer.getShapeRenderer().rect(progressBarX, progressBarY, 2f, progressBarHeight); // left
-            shapeRenderer.getShapeRenderer().rect(progressBarX + progressBarWidth - 2f, progressBarY, 2f, progressBarHeight); // right
-
-            shapeRenderer.end();
+            queue.setColor(Color.BLACK);
+            queue.rect(progressBarX, progressBarY, progressBarWidth, 2f); // bottom
+            queue.rect(progressBarX, progressBarY + progressBarHeight - 2f, progressBarWidth, 2f); // top
+            queue.rect(progressBarX, progressBarY, 2f, progressBarHeight); // left
+            queue.rect(progressBarX + progressBarWidth - 2f, progressBarY, 2f, progressBarHeight); // right
         }
 
-        // Resume SpriteBatch for text rendering
-        batch.begin();
-
         // Draw result message
         if (resultMessageTimer > 0) {
-            String message = result.getMessage();
-            Color messageColor = result.getColor();
-
-            font.setColor(messageColor);
-            glyphLayout.setText(font, message);
-            font.draw(batch, message, barX + BAR_WIDTH / 2 - glyphLayout.width / 2, barY + BAR_HEIGHT + 40);
+            messageLabel.setText(result.getMessage()).setColor(result.getColor());
+            queue.text(messageLabel, barX + BAR_WIDTH / 2 - messageLabel.getWidth() / 2, barY + BAR_HEIGHT + 40);
         }
 
         // Draw instructions and info if active
         if (isActive) {
-            font.setColor(Color.WHITE);
-
             // Instructions
-            String instruction = "Click to change the green bar direction!";
-            glyphLayout.setText(font, instruction);
-            font.draw(batch, instruction, barX + BAR_WIDTH / 2 - glyphLayout.width / 2, barY - 20);
+            queue.text(instructionLabel, barX + BAR_WIDTH / 2 - instructionLabel.getWidth() / 2, barY - 20);
 
             // Fish type
-            String fishType = difficulty.getName();
-            glyphLayout.setText(font, fishType);
-            font.draw(batch, fishType, barX + BAR_WIDTH + 20, barY + BAR_HEIGHT - 100);
+            fishTypeLabel.setText(difficulty.getName());
+            queue.text(fishTypeLabel, barX + BAR_WIDTH + 20, barY + BAR_HEIGHT - 100);
 
-            // Timer
-            String timeText = "Time: " + String.format("%.1f", GAME_DURATION - gameTimer);
-            glyphLayout.setText(font, timeText);
-            font.draw(batch, timeText, barX + BAR_WIDTH + 20, barY + BAR_HEIGHT - 130);
+            // Timer, only laid out again when the shown tenth of a second changes
+            timeText.setLength(0);
+            TextFormat.appendFixed(timeText.append("Time: "), GAME_DURATION - gameTimer, 1);
+            timeLabel.setText(timeText);
+            queue.text(timeLabel, barX + BAR_WIDTH + 20, barY + BAR_HEIGHT - 130);
 
             // Progress percentage
-            String progressText = "Progress: " + String.format("%.0f", progress * 100) + "%";
-            glyphLayout.setText(font, progressText);
-            font.draw(batch, progressText, barX + BAR_WIDTH + 20, barY + BAR_HEIGHT - 80);
+            progressText.setLength(0);
+            TextFormat.appendFixed(progressText.append("Progress: "), progress * 100, 0).append('%');
+            progressLabel.setText(progressText);
+            queue.text(progressLabel, barX + BAR_WIDTH + 20, barY + BAR_HEIGHT - 80);
         }
     }
 
     public void dispose() {
-        font.dispose();
-        shapeRenderer.dispose();
+        // Labels use a shared font owned by the FontService
     }
 }
\ No newline at end of file
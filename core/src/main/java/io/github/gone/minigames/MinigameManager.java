@@ -1,6 +1,8 @@
 package io.github.gone.minigames;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import io.github.gone.utils.ActivityRegistry;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.GameRandom;
 
 public class MinigameManager {
     // Available minigames
@@ -22,14 +24,24 @@ public class MinigameManager {
     private final float centerX;
     private final float centerY;
 
-    public MinigameManager(float centerX, float centerY) {
+    // Random streams of the minigames, kept when a minigame is recreated
+    private final GameRandom throwRandom;
+    private final GameRandom catchRandom;
+
+    // Minigames are timed, so they keep rendering continuous while running or showing a result
+    private final ActivityRegistry.Activity activity = this::isMinigameActive;
+
+    public MinigameManager(float centerX, float centerY, GameRandom throwRandom, GameRandom catchRandom) {
         this.centerX = centerX;
         this.centerY = centerY;
+        this.throwRandom = throwRandom;
+        this.catchRandom = catchRandom;
         this.activeMinigameType = MinigameType.NONE;
 
         // Initialize minigames
-        this.throwMinigame = new ThrowMinigame(centerX, centerY);
-        this.catchMinigame = new CatchMinigame(centerX - 30, centerY); // Offset for better positioning
+        this.throwMinigame = new ThrowMinigame(centerX, centerY, throwRandom);
+        this.catchMinigame = new CatchMinigame(centerX - 30, centerY, catchRandom); // Offset for better positioning
+        ActivityRegistry.getInstance().register(activity);
     }
     
     /**
@@ -65,7 +77,7 @@ public class MinigameManager {
     public void startThrowMinigame(float centerX, float centerY) {
         setActiveMinigame(MinigameType.THROW);
         if (this.throwMinigame == null) {
-            this.throwMinigame = new ThrowMinigame(centerX, centerY);
+            this.throwMinigame = new ThrowMinigame(centerX, centerY, throwRandom);
         }
         this.throwMinigame.start();
     }
@@ -76,7 +88,7 @@ public class MinigameManager {
     public void startCatchMinigame(float barX, float barY, CatchMinigame.FishDifficulty difficulty) {
         setActiveMinigame(MinigameType.CATCH);
         if (this.catchMinigame == null) {
-            this.catchMinigame = new CatchMinigame(barX, barY);
+            this.catchMinigame = new CatchMinigame(barX, barY, catchRandom);
         }
         this.catchMinigame.setDifficulty(difficulty);
         this.catchMinigame.start();
@@ -102,17 +114,17 @@ public class MinigameManager {
         }
     }
 
-    public void draw(SpriteBatch batch) {
+    public void draw(DrawQueue queue, float alpha) {
         switch (activeMinigameType) {
             case THROW:
                 if (throwMinigame != null && (throwMinigame.isActive() || throwMinigame.isShowingResult())) {
-                    throwMinigame.draw(batch);
+                    throwMinigame.draw(queue, alpha);
                 }
                 break;
 
             case CATCH:
                 if (catchMinigame != null && (catchMinigame.isActive() || catchMinigame.isShowingResult())) {
-                    catchMinigame.draw(batch);
+                    catchMinigame.draw(queue, alpha);
                 }
                 break;
 
@@ -242,6 +254,7 @@ public class MinigameManager {
     }
 
     public void dispose() {
+        ActivityRegistry.getInstance().unregister(activity);
         if (throwMinigame != null) {
             throwMinigame.dispose();
         }
@@ -1,13 +1,15 @@
 package io.github.gone.minigames;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
-import io.github.gone.utils.ShapeRendererManager;
+import io.github.gone.utils.GameLog;
+import io.github.gone.utils.GameRandom;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.FontService.FontSize;
 
 /**
  * A minigame that requires the player to time their click
@@ -30,6 +32,7 @@ public class ThrowMinigame {
     
     // State
     private float currentAngle;
+    private float previousAngle;
     private boolean isActive;
     private SuccessLevel successLevel;
     private float resultMessageTimer;
@@ -65,19 +68,24 @@ public class ThrowMinigame {
         }
     }
     
-    // Rendering
-    private final ShapeRendererManager shapeRenderer;
-    private final BitmapFont font;
-    private final GlyphLayout glyphLayout;
+    // Rendering, labels are only laid out again when their text or color changes.
+    // Created on the first draw, so the minigame logic runs without fonts.
+    private CachedText messageLabel;
+    private CachedText instructionLabel;
     
     // Events
     private ThrowMinigameListener listener;
     
+    // Places the success zone
+    private final GameRandom random;
+    private final GameLog log = GameLog.getInstance();
+    
     public interface ThrowMinigameListener {
         void onThrowComplete(SuccessLevel successLevel);
     }
     
-    public ThrowMinigame(float centerX, float centerY) {
+    public ThrowMinigame(float centerX, float centerY, GameRandom random) {
+        this.random = random;
         this.centerX = centerX;
         this.centerY = centerY;
         this.currentAngle = 0;
@@ -85,12 +93,12 @@ public class ThrowMinigame {
         this.successLevel = SuccessLevel.MISS;
         this.resultMessageTimer = 0;
         this.successZoneStartAngle = 45f; // Default value, will be randomized
-        
-        this.shapeRenderer = new ShapeRendererManager();
-        this.font = new BitmapFont();
-        this.font.setColor(Color.WHITE);
-        this.font.getData().setScale(2.0f);
-        this.glyphLayout = new GlyphLayout();
+    }
+    
+    private void createLabels() {
+        BitmapFont font = FontService.getInstance().get(FontSize.TITLE);
+        this.messageLabel = new CachedText(font);
+        this.instructionLabel = new CachedText(font, "Click to throw!", Color.WHITE);
     }
     
     public void setListener(ThrowMinigameListener listener) {
@@ -104,12 +112,13 @@ public class ThrowMinigame {
     public void start() {
         isActive = true;
         currentAngle = 0;
+        previousAngle = 0;
         successLevel = SuccessLevel.MISS;
         resultMessageTimer = 0;
         showResultOnly = false;
         
         // Randomize the start angle for the success zone between 0 and 360 degrees
-        successZoneStartAngle = MathUtils.random(0f, 360f);
+        successZoneStartAngle = random.random(0f, 360f);
     }
     
     public boolean isActive() {
@@ -121,6 +130,8 @@ public class ThrowMinigame {
     }
     
     public void update(float delta) {
+        previousAngle = currentAngle;
+        
         if (isActive) {
             // Update rotation angle
             currentAngle += ROTATION_SPEED * delta;
@@ -138,75 +149,68 @@ public class ThrowMinigame {
         }
     }
     
-    public void draw(SpriteBatch batch) {
+    /**
+     * Queues the minigame, blending the last two simulation steps by alpha
+     */
+    public void draw(DrawQueue queue, float alpha) {
         // If not active and not showing result, don't draw anything
         if (!isActive && !isShowingResult()) {
             return;
         }
+        if (messageLabel == null) {
+            createLabels();
+        }
         
-        // End SpriteBatch to use ShapeRenderer
-        batch.end();
+        queue.setLayer(DrawQueue.LAYER_WORLD);
         
         // Only draw the minigame circle and zones if active (not just showing result)
         if (isActive) {
             // Draw the skill check minigame
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+            queue.setShapeType(ShapeRenderer.ShapeType.Filled);
             
             // Draw outer circle (background)
-            shapeRenderer.setColor(Color.DARK_GRAY);
-            shapeRenderer.getShapeRenderer().circle(centerX, centerY, CIRCLE_RADIUS);
+            queue.setColor(Color.DARK_GRAY);
+            queue.circle(centerX, centerY, CIRCLE_RADIUS);
             
             // Left "Good" zone (before Great zone)
-            shapeRenderer.setColor(Color.YELLOW);
+            queue.setColor(Color.YELLOW);
             float goodZoneStartLeft = successZoneStartAngle - GOOD_ZONE_SIZE;
-            shapeRenderer.getShapeRenderer().arc(centerX, centerY, CIRCLE_RADIUS - 5, 
+            queue.arc(centerX, centerY, CIRCLE_RADIUS - 5, 
                 goodZoneStartLeft, GOOD_ZONE_SIZE, 20);
             
             // "Great" zone
-            shapeRenderer.setColor(Color.GREEN);
-            shapeRenderer.getShapeRenderer().arc(centerX, centerY, CIRCLE_RADIUS - 5, 
+            queue.setColor(Color.GREEN);
+            queue.arc(centerX, centerY, CIRCLE_RADIUS - 5, 
                 successZoneStartAngle, GREAT_ZONE_SIZE, 20);
             
             // Right "Good" zone (after Great zone)
-            shapeRenderer.setColor(Color.YELLOW);
+            queue.setColor(Color.YELLOW);
             float goodZoneStartRight = successZoneStartAngle + GREAT_ZONE_SIZE;
-            shapeRenderer.getShapeRenderer().arc(centerX, centerY, CIRCLE_RADIUS - 5, 
+            queue.arc(centerX, centerY, CIRCLE_RADIUS - 5, 
                 goodZoneStartRight, GOOD_ZONE_SIZE, 20);
-                
-            shapeRenderer.end();
             
             // Draw line (pointer)
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-            shapeRenderer.setColor(Color.RED);
+            queue.setShapeType(ShapeRenderer.ShapeType.Line);
+            queue.setColor(Color.RED);
             
             // Convert degrees to radians for calculations
-            float radians = currentAngle * MathUtils.degreesToRadians;
+            float radians = MathUtils.lerpAngleDeg(previousAngle, currentAngle, alpha) * MathUtils.degreesToRadians;
             float lineEndX = centerX + MathUtils.cos(radians) * CIRCLE_RADIUS;
             float lineEndY = centerY + MathUtils.sin(radians) * CIRCLE_RADIUS;
             
-            shapeRenderer.getShapeRenderer().line(centerX, centerY, lineEndX, lineEndY);
-            shapeRenderer.end();
+            queue.line(centerX, centerY, lineEndX, lineEndY);
+            queue.setShapeType(ShapeRenderer.ShapeType.Filled);
         }
         
-        // Resume SpriteBatch for text rendering
-        batch.begin();
-        
         // If showing result message
         if (resultMessageTimer > 0) {
-            String message = successLevel.getMessage();
-            Color messageColor = successLevel.getColor();
-            
-            font.setColor(messageColor);
-            glyphLayout.setText(font, message);
-            font.draw(batch, message, centerX - glyphLayout.width / 2, centerY + CIRCLE_RADIUS + 40);
+            messageLabel.setText(successLevel.getMessage()).setColor(successLevel.getColor());
+            queue.text(messageLabel, centerX - messageLabel.getWidth() / 2, centerY + CIRCLE_RADIUS + 40);
         }
         
         // Instruction text if active
         if (isActive) {
-            font.setColor(Color.WHITE);
-            String instruction = "Click to throw!";
-            glyphLayout.setText(font, instruction);
-            font.draw(batch, instruction, centerX - glyphLayout.width / 2, centerY - CIRCLE_RADIUS - 20);
+            queue.text(instructionLabel, centerX - instructionLabel.getWidth() / 2, centerY - CIRCLE_RADIUS - 20);
         }
     }
     
@@ -219,16 +223,14 @@ public class ThrowMinigame {
         isActive = false;
         showResultOnly = true;
         
-        // Log throw result information
-        Gdx.app.log("ThrowMinigame", "===============================================");
-        Gdx.app.log("ThrowMinigame", "THROW RESULT");
-        Gdx.app.log("ThrowMinigame", "Success Level: " + successLevel);
-        Gdx.app.log("ThrowMinigame", "Current Angle: " + currentAngle);
-        Gdx.app.log("ThrowMinigame", "Target Angle: " + successZoneStartAngle);
-        Gdx.app.log("ThrowMinigame", "Great Zone: " + successZoneStartAngle + " to " + (successZoneStartAngle + GREAT_ZONE_SIZE));
-        Gdx.app.log("ThrowMinigame", "Left Good Zone: " + (successZoneStartAngle - GOOD_ZONE_SIZE) + " to " + successZoneStartAngle);
-        Gdx.app.log("ThrowMinigame", "Right Good Zone: " + (successZoneStartAngle + GREAT_ZONE_SIZE) + " to " + (successZoneStartAngle + GREAT_ZONE_SIZE + GOOD_ZONE_SIZE));
-        Gdx.app.log("ThrowMinigame", "===============================================");
+        // Log throw result information, the zones follow from the great zone start
+        log.info("ThrowMinigame", "Throw result")
+            .with("result", successLevel)
+            .with("angle", currentAngle)
+            .with("greatZoneStart", successZoneStartAngle)
+            .with("greatZoneSize", GREAT_ZONE_SIZE)
+            .with("goodZoneSize", GOOD_ZONE_SIZE)
+            .log();
         
         // Notify listener
         if (listener != null) {
@@ -236,7 +238,10 @@ public class ThrowMinigame {
         }
     }
     
-    private SuccessLevel checkSuccessZone(float angle) {
+    /**
+     * Returns the success level of a click with the pointer at the given angle
+     */
+    public SuccessLevel checkSuccessZone(float angle) {
         // Normalize angle to 0-360 range
         angle = normalizeAngle(angle);
         float targetAngle = normalizeAngle(successZoneStartAngle);
@@ -287,7 +292,6 @@ public class ThrowMinigame {
     }
     
     public void dispose() {
-        font.dispose();
-        shapeRenderer.dispose();
+        // Labels use a shared font owned by the FontService
     }
 } 
\ No newline at end of file
@@ -0,0 +1,104 @@
+package io.github.gone.progression;
+
+import io.github.gone.game.GameEventBus;
+import io.github.gone.minigames.ThrowMinigame;
+import io.github.gone.utils.GameLog;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unlocks achievements from the gameplay events and keeps them between sessions.
+ * Runs as an event bus consumer, each unlock saves just its own key.
+ */
+public class AchievementTracker implements GameEventBus.Consumer {
+    public enum Achievement {
+        FIRST_CATCH("First Catch"),
+        GREAT_THROW("Bullseye"),
+        GREAT_STREAK("Steady Hand"),
+        FIRST_RARE("Rare Find"),
+        FIRST_LEGENDARY("Living Legend"),
+        MAX_LEVEL("Master Angler");
+
+        private final String title;
+
+        Achievement(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    // Great throws in a row needed for GREAT_STREAK
+    private static final int STREAK_LENGTH = 3;
+    private static final int RARE_TIER = 2;
+    private static final int LEGENDARY_TIER = 3;
+
+    private static AchievementTracker instance;
+
+    public static synchronized AchievementTracker getInstance() {
+        if (instance == null) {
+            instance = new AchievementTracker();
+        }
+        return instance;
+    }
+
+    private final PersistenceFramework persistenceFramework;
+    private final Set<Achievement> unlocked = EnumSet.noneOf(Achievement.class);
+    private final GameLog log = GameLog.getInstance();
+    // Only used by the event consumer
+    private int greatStreak;
+
+    private AchievementTracker() {
+        persistenceFramework = new WriteBehindPersistenceFramework(
+            JournalPersistenceFramework.open("achievements"));
+        Map<String, ?> saved = persistenceFramework.load();
+        for (Achievement achievement : Achievement.values()) {
+            if (Boolean.TRUE.equals(saved.get(achievement.name()))) {
+                unlocked.add(achievement);
+            }
+        }
+    }
+
+    @Override
+    public void onEvent(GameEventBus.GameEvent event, boolean endOfBatch) {
+        switch (event.getType()) {
+            case THROW_RESULT:
+                if (event.getSuccessLevel() == ThrowMinigame.SuccessLevel.GREAT) {
+                    greatStreak++;
+                    unlock(Achievement.GREAT_THROW);
+                    if (greatStreak >= STREAK_LENGTH) unlock(Achievement.GREAT_STREAK);
+                } else {
+                    greatStreak = 0;
+                }
+                break;
+            case CATCH:
+                int tier = event.getFish().getSpecies().getTier();
+                unlock(Achievement.FIRST_CATCH);
+                if (tier >= RARE_TIER) unlock(Achievement.FIRST_RARE);
+                if (tier >= LEGENDARY_TIER) unlock(Achievement.FIRST_LEGENDARY);
+                break;
+            case LEVEL_UP:
+                if (event.getLevel() >= ProgressionManager.getMaxLevel()) unlock(Achievement.MAX_LEVEL);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public synchronized boolean isUnlocked(Achievement achievement) {
+        return unlocked.contains(achievement);
+    }
+
+    private synchronized void unlock(Achievement achievement) {
+        if (!unlocked.add(achievement)) return;
+        persistenceFramework.put(achievement.name(), true);
+        log.info("AchievementTracker", "Achievement unlocked")
+            .with("achievement", achievement)
+            .with("title", achievement.getTitle())
+            .log();
+    }
+}
\ No newline at end of file
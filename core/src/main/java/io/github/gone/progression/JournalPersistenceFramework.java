@@ -0,0 +1,671 @@
+package io.github.gone.progression;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.gone.utils.GameLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * Saves typed values in a compact binary journal.
+ *
+ * Every save appends one record per changed key to the journal, so its cost depends on
+ * what changed and not on how much is saved. Once the journal is much longer than the
+ * data, a background thread writes the data to a snapshot and the journal starts over.
+ * Loading reads the snapshot and the journals after it sequentially, the values keep
+ * their types. Each record carries a CRC: a torn or corrupt tail from a crash is cut
+ * off on load and the records before it are kept.
+ *
+ * A write that fails throws a GdxRuntimeException and changes nothing, not even the values
+ * in memory, so the caller can try the same save again.
+ *
+ * Files in the save directory, for a store named "name":
+ *     name.snapshot         all values up to generation g
+ *     name.<g>.journal      records of generation g, replayed on top of the snapshot
+ * A snapshot of generation g replaces every journal before g, so compaction is safe
+ * to interrupt at any point. close() or closeAll() releases the journal file.
+ */
+public class JournalPersistenceFramework implements PersistenceFramework {
+    private static final int SNAPSHOT_MAGIC = 0x47465331; // GFS1
+    private static final int JOURNAL_MAGIC = 0x47464A31; // GFJ1
+    private static final int JOURNAL_HEADER_SIZE = 12;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_CLEAR = 2;
+    private static final byte OP_REMOVE = 3;
+
+    private static final byte TYPE_INT = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_FLOAT = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_STRING = 6;
+
+    // Compacts once the journal has this many records and more than COMPACT_RATIO per value
+    private static final int COMPACT_MIN_RECORDS = 256;
+    private static final int COMPACT_RATIO = 4;
+
+    private static final List<JournalPersistenceFramework> instances = new CopyOnWriteArrayList<>();
+    private static FileHandle saveDirectory;
+    private static ExecutorService compactor;
+
+    private final File directory;
+    private final String name;
+    private final GameLog log = GameLog.getInstance();
+    private final Map<String, Object> values = new HashMap<>();
+    private final CRC32 crc = new CRC32();
+    // Reused to encode the records of a save
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(256);
+    private final DataOutputStream records = new DataOutputStream(recordBytes);
+    private final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64);
+    private final DataOutputStream payload = new DataOutputStream(payloadBytes);
+
+    private FileChannel journal;
+    private long generation;
+    private int journalRecords;
+    private boolean compacting;
+
+    /**
+     * Opens a store in the save directory, importing the Preferences of the same name
+     * the first time so saves from older versions carry over
+     */
+    public static JournalPersistenceFramework open(String name) {
+        JournalPersistenceFramework store = new JournalPersistenceFramework(getSaveDirectory(), name);
+        if (!store.exists()) {
+            store.importPreferences(Gdx.app.getPreferences(name));
+        }
+        return store;
+    }
+
+    /**
+     * Reads the values of a store without keeping it open or creating any file: from its
+     * journal when there is one, else from the Preferences of the same name. Used by newer
+     * stores to carry saves over.
+     */
+    public static Map<String, ?> readSaved(String name) {
+        FileHandle directory = getSaveDirectory();
+        if (!hasFiles(directory.file(), name)) {
+            return readPreferences(Gdx.app.getPreferences(name));
+        }
+        JournalPersistenceFramework store = new JournalPersistenceFramework(directory, name);
+        try {
+            return store.load();
+        } finally {
+            store.close();
+        }
+    }
+
+    /**
+     * Closes every open store, call when the game closes after the last save
+     */
+    public static void closeAll() {
+        for (JournalPersistenceFramework store : instances) {
+            store.close();
+        }
+    }
+
+    /**
+     * Where open() keeps the stores, by default .gone-fishing/saves in the home directory
+     * on desktop and saves in the app's local storage elsewhere
+     */
+    public static synchronized FileHandle getSaveDirectory() {
+        if (saveDirectory == null) {
+            saveDirectory = Gdx.app.getType() == Application.ApplicationType.Desktop
+                ? Gdx.files.external(".gone-fishing/saves")
+                : Gdx.files.local("saves");
+        }
+        return saveDirectory;
+    }
+
+    public static synchronized void setSaveDirectory(FileHandle directory) {
+        saveDirectory = directory;
+    }
+
+    public JournalPersistenceFramework(FileHandle directory, String name) {
+        this.directory = directory.file();
+        this.name = name;
+        this.directory.mkdirs();
+        recover();
+        instances.add(this);
+    }
+
+    /**
+     * Releases the journal file, the store can't be written after this
+     */
+    public synchronized void close() {
+        instances.remove(this);
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("JournalPersistence", "Couldn't close the journal").with("store", name).error(e).log();
+        }
+        journal = null;
+    }
+
+    @Override
+    public synchronized void save(Map<String, ?> data) {
+        recordBytes.reset();
+        Map<String, Object> changed = new HashMap<>();
+        try {
+            for (Map.Entry<String, ?> entry : data.entrySet()) {
+                if (appendPut(entry.getKey(), entry.getValue())) {
+                    changed.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (changed.isEmpty()) return;
+            writeJournal();
+        } catch (IOException e) {
+            throw failed("Save", e);
+        }
+        // Only written values count, a failed save leaves nothing behind to skip on the retry
+        values.putAll(changed);
+        recordsWritten(changed.size());
+    }
+
+    @Override
+    public synchronized void put(String key, Object value) {
+        recordBytes.reset();
+        try {
+            if (!appendPut(key, value)) return;
+            writeJournal();
+        } catch (IOException e) {
+            throw failed("Save of " + key, e);
+        }
+        values.put(key, value);
+        recordsWritten(1);
+    }
+
+    @Override
+    public synchronized long increment(String key, long delta) {
+        Object current = values.get(key);
+        long value = (current instanceof Number ? ((Number) current).longValue() : 0L) + delta;
+        boolean asInt = value == (int) value && !(current instanceof Long);
+        put(key, asInt ? (Object) (int) value : (Object) value);
+        return value;
+    }
+
+    @Override
+    public synchronized float increment(String key, float delta) {
+        Object current = values.get(key);
+        float value = (current instanceof Number ? ((Number) current).floatValue() : 0f) + delta;
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        if (!values.containsKey(key)) return;
+        recordBytes.reset();
+        try {
+            payloadBytes.reset();
+            payload.writeByte(OP_REMOVE);
+            payload.writeUTF(key);
+            appendRecord();
+            writeJournal();
+        } catch (IOException e) {
+            throw failed("Remove of " + key, e);
+        }
+        values.remove(key);
+        recordsWritten(1);
+    }
+
+    /**
+     * Encodes a put record unless the value is unchanged, returns whether it did
+     */
+    private boolean appendPut(String key, Object value) throws IOException {
+        if (typeOf(value) == 0) {
+            log.warn("JournalPersistence", "Unsupported value type, not saved")
+                .with("store", name)
+                .with("key", key)
+                .with("type", value == null ? "null" : value.getClass().getSimpleName())
+                .log();
+            return false;
+        }
+        // Unchanged values cost nothing
+        if (value.equals(values.get(key))) return false;
+        payloadBytes.reset();
+        payload.writeByte(OP_PUT);
+        payload.writeUTF(key);
+        writeValue(payload, value);
+        appendRecord();
+        return true;
+    }
+
+    @Override
+    public synchronized Map<String, ?> load() {
+        return new HashMap<>(values);
+    }
+
+    @Override
+    public synchronized boolean exists() {
+        return !values.isEmpty();
+    }
+
+    @Override
+    public synchronized void clear() {
+        recordBytes.reset();
+        try {
+            payloadBytes.reset();
+            payload.writeByte(OP_CLEAR);
+            appendRecord();
+            writeJournal();
+        } catch (IOException e) {
+            throw failed("Clear", e);
+        }
+        values.clear();
+        recordsWritten(1);
+    }
+
+    private GdxRuntimeException failed(String what, IOException e) {
+        log.error("JournalPersistence", "Write failed").with("store", name).with("write", what).error(e).log();
+        return new GdxRuntimeException(what + " failed in journal " + name, e);
+    }
+
+    /**
+     * Writes the encoded records to the journal in one call and makes them durable.
+     * A failed write is cut off again, so later records don't end up behind a torn one.
+     */
+    private void writeJournal() throws IOException {
+        if (journal == null) throw new IOException("Journal is closed");
+        long start = journal.position();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(recordBytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            try {
+                journal.truncate(start);
+                journal.position(start);
+            } catch (IOException ignored) {
+                // Recovery cuts the torn record off on the next load
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Counts records that made it to the journal, compacting once there are too many
+     */
+    private void recordsWritten(int count) {
+        journalRecords += count;
+        if (compacting || journalRecords < COMPACT_MIN_RECORDS || journalRecords <= COMPACT_RATIO * values.size()) {
+            return;
+        }
+        try {
+            startCompaction();
+        } catch (IOException e) {
+            // The records are durable already, the next write reports a journal that can't be written
+            log.error("JournalPersistence", "Couldn't start compaction").with("store", name).error(e).log();
+        }
+    }
+
+    /**
+     * Frames the payload as length, payload and CRC
+     */
+    private void appendRecord() throws IOException {
+        crc.reset();
+        crc.update(payloadBytes.toByteArray(), 0, payloadBytes.size());
+        records.writeInt(payloadBytes.size());
+        payloadBytes.writeTo(records);
+        records.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Switches to a new journal and writes the current values to a snapshot in the background
+     */
+    private void startCompaction() throws IOException {
+        compacting = true;
+        Map<String, Object> snapshot = new HashMap<>(values);
+        long snapshotGeneration = generation + 1;
+        File oldJournal = journalFile(generation);
+        journal.close();
+        openJournal(snapshotGeneration);
+
+        getCompactor().execute(() -> {
+            try {
+                writeSnapshot(snapshot, snapshotGeneration);
+                if (!oldJournal.delete()) {
+                    log.warn("JournalPersistence", "Old journal not deleted").with("file", oldJournal.getName()).log();
+                }
+                log.debug("JournalPersistence", "Compacted")
+                    .with("store", name)
+                    .with("generation", snapshotGeneration)
+                    .with("values", snapshot.size())
+                    .log();
+            } catch (IOException e) {
+                // The old journal is still there, the next load replays it
+                log.error("JournalPersistence", "Compaction failed").with("store", name).error(e).log();
+            } finally {
+                synchronized (this) {
+                    compacting = false;
+                }
+            }
+        });
+    }
+
+    private void writeSnapshot(Map<String, Object> snapshot, long snapshotGeneration) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + snapshot.size() * 32);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeLong(snapshotGeneration);
+        out.writeInt(snapshot.size());
+        for (Map.Entry<String, Object> entry : snapshot.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+        CRC32 snapshotCrc = new CRC32();
+        snapshotCrc.update(bytes.toByteArray(), 0, bytes.size());
+        out.writeInt((int) snapshotCrc.getValue());
+
+        // Written next to the snapshot and renamed over it, so a crash leaves the old one
+        File target = snapshotFile();
+        File temporary = new File(directory, target.getName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary)) {
+            bytes.writeTo(file);
+            file.getFD().sync();
+        }
+        try {
+            Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads the snapshot and replays the journals after it, cutting off a corrupt tail
+     */
+    private void recover() {
+        long snapshotGeneration = readSnapshot();
+        List<Long> generations = journalGenerations(directory, name);
+
+        generation = snapshotGeneration;
+        for (long journalGeneration : generations) {
+            File file = journalFile(journalGeneration);
+            if (journalGeneration < snapshotGeneration) {
+                // Already in the snapshot, left over from an interrupted compaction
+                file.delete();
+                continue;
+            }
+            generation = journalGeneration;
+            journalRecords = replay(file);
+        }
+
+        try {
+            openJournal(generation);
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't open the journal of " + name, e);
+        }
+    }
+
+    /**
+     * Generations of the journals of a store, oldest first
+     */
+    private static List<Long> journalGenerations(File directory, String name) {
+        List<Long> generations = new ArrayList<>();
+        String prefix = name + ".";
+        String[] files = directory.list();
+        if (files != null) {
+            for (String file : files) {
+                if (!file.startsWith(prefix) || !file.endsWith(".journal")) continue;
+                try {
+                    generations.add(Long.parseLong(file.substring(prefix.length(), file.length() - ".journal".length())));
+                } catch (NumberFormatException e) {
+                    // Some other store whose name starts with ours
+                }
+            }
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    private static boolean hasFiles(File directory, String name) {
+        return new File(directory, name + ".snapshot").exists() || !journalGenerations(directory, name).isEmpty();
+    }
+
+    /**
+     * Reads the snapshot into the values, returns its generation or 0 if there is none
+     */
+    private long readSnapshot() {
+        File file = snapshotFile();
+        if (!file.exists()) return 0;
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            CRC32 snapshotCrc = new CRC32();
+            snapshotCrc.update(bytes, 0, bytes.length - 4);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (bytes.length < 20 || in.readInt() != SNAPSHOT_MAGIC
+                    || ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt() != (int) snapshotCrc.getValue()) {
+                throw new IOException("Bad snapshot");
+            }
+            long snapshotGeneration = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                values.put(key, readValue(in));
+            }
+            return snapshotGeneration;
+        } catch (IOException | RuntimeException e) {
+            // Only the journals are left to recover from
+            values.clear();
+            log.error("JournalPersistence", "Snapshot is corrupt, ignoring it")
+                .with("store", name)
+                .error(e)
+                .log();
+            return 0;
+        }
+    }
+
+    /**
+     * Applies the records of a journal, returns how many were valid.
+     * The file is cut after the last valid record, so appends continue from there.
+     */
+    private int replay(File file) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            log.error("JournalPersistence", "Journal unreadable").with("file", file.getName()).error(e).log();
+            return 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < JOURNAL_HEADER_SIZE || buffer.getInt() != JOURNAL_MAGIC) {
+            truncate(file, 0);
+            return 0;
+        }
+        buffer.getLong();
+
+        int count = 0;
+        int valid = buffer.position();
+        CRC32 recordCrc = new CRC32();
+        try {
+            while (buffer.remaining() >= 8) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining() - 4) break;
+                int start = buffer.position();
+                recordCrc.reset();
+                recordCrc.update(bytes, start, length);
+                if (buffer.getInt(start + length) != (int) recordCrc.getValue()) break;
+
+                applyRecord(new DataInputStream(new ByteArrayInputStream(bytes, start, length)));
+                buffer.position(start + length + 4);
+                valid = buffer.position();
+                count++;
+            }
+        } catch (IOException | RuntimeException e) {
+            // Falls through to cutting the record off
+        }
+
+        if (valid < bytes.length) {
+            log.warn("JournalPersistence", "Journal has a corrupt tail, cutting it off")
+                .with("file", file.getName())
+                .with("records", count)
+                .with("bytes", bytes.length - valid)
+                .log();
+            truncate(file, valid);
+        }
+        return count;
+    }
+
+    private void applyRecord(DataInputStream in) throws IOException {
+        byte op = in.readByte();
+        if (op == OP_PUT) {
+            String key = in.readUTF();
+            values.put(key, readValue(in));
+        } else if (op == OP_REMOVE) {
+            values.remove(in.readUTF());
+        } else if (op == OP_CLEAR) {
+            values.clear();
+        } else {
+            throw new IOException("Unknown record " + op);
+        }
+    }
+
+    private void truncate(File file, long length) {
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.setLength(length);
+        } catch (IOException e) {
+            log.error("JournalPersistence", "Couldn't truncate the journal").with("file", file.getName()).error(e).log();
+        }
+    }
+
+    private void openJournal(long journalGeneration) throws IOException {
+        File file = journalFile(journalGeneration);
+        journal = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (journal.size() < JOURNAL_HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+            header.putInt(JOURNAL_MAGIC).putLong(journalGeneration).flip();
+            journal.truncate(0);
+            journal.write(header, 0);
+            journal.force(false);
+            journalRecords = 0;
+        }
+        journal.position(journal.size());
+        generation = journalGeneration;
+    }
+
+    /**
+     * Copies Preferences into the store, guessing the types desktop Preferences keep as text
+     */
+    private void importPreferences(Preferences preferences) {
+        Map<String, Object> imported = readPreferences(preferences);
+        if (imported.isEmpty()) return;
+
+        save(imported);
+        log.info("JournalPersistence", "Imported preferences")
+            .with("store", name)
+            .with("keys", imported.size())
+            .log();
+    }
+
+    private static Map<String, Object> readPreferences(Preferences preferences) {
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<String, ?> entry : preferences.get().entrySet()) {
+            Object value = entry.getValue();
+            values.put(entry.getKey(), value instanceof String ? parseText((String) value) : value);
+        }
+        return values;
+    }
+
+    private static Object parseText(String text) {
+        if (text.equals("true") || text.equals("false")) return Boolean.parseBoolean(text);
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            // Not an int
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            // Not a long
+        }
+        try {
+            return Float.parseFloat(text);
+        } catch (NumberFormatException e) {
+            return text;
+        }
+    }
+
+    private static byte typeOf(Object value) {
+        if (value instanceof Integer) return TYPE_INT;
+        if (value instanceof Long) return TYPE_LONG;
+        if (value instanceof Float) return TYPE_FLOAT;
+        if (value instanceof Double) return TYPE_DOUBLE;
+        if (value instanceof Boolean) return TYPE_BOOLEAN;
+        if (value instanceof String) return TYPE_STRING;
+        return 0;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        byte type = typeOf(value);
+        out.writeByte(type);
+        switch (type) {
+            case TYPE_INT: out.writeInt((Integer) value); break;
+            case TYPE_LONG: out.writeLong((Long) value); break;
+            case TYPE_FLOAT: out.writeFloat((Float) value); break;
+            case TYPE_DOUBLE: out.writeDouble((Double) value); break;
+            case TYPE_BOOLEAN: out.writeBoolean((Boolean) value); break;
+            default: out.writeUTF((String) value); break;
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_INT: return in.readInt();
+            case TYPE_LONG: return in.readLong();
+            case TYPE_FLOAT: return in.readFloat();
+            case TYPE_DOUBLE: return in.readDouble();
+            case TYPE_BOOLEAN: return in.readBoolean();
+            case TYPE_STRING: return in.readUTF();
+            default: throw new EOFException("Unknown value type " + type);
+        }
+    }
+
+    private File snapshotFile() {
+        return new File(directory, name + ".snapshot");
+    }
+
+    private File journalFile(long journalGeneration) {
+        return new File(directory, name + "." + journalGeneration + ".journal");
+    }
+
+    private static synchronized ExecutorService getCompactor() {
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Journal compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return compactor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,342 @@
+package io.github.gone.progression;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import io.github.gone.utils.GameLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Numeric counters kept in a memory-mapped file with fixed slots.
+ *
+ * A slot holds a name, a type and an 8 byte value. getSlot() finds or allocates the slot
+ * of a name once, after that setInt/setFloat/setLong are plain stores into the mapped
+ * memory: no boxing, no copies and no system call. The OS writes the pages back on its own,
+ * which survives the game crashing but not the machine; force() or forceAll() makes them
+ * durable and is called when the game pauses or closes. The gallery keeps the slot of each
+ * species by id and the progression the slot of each field.
+ *
+ * Slots are found by name through a hash map that doesn't allocate, so increment() and
+ * put() by key stay cheap. Each slot should have a single writer. Also usable as a
+ * PersistenceFramework for ints, longs and floats.
+ */
+public class MappedCounterStore implements PersistenceFramework {
+    private static final int MAGIC = 0x47464D43; // GFMC
+    private static final int VERSION = 1;
+    private static final int CAPACITY = 256;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 64;
+    private static final int MAX_NAME_BYTES = 54;
+    private static final int FILE_SIZE = HEADER_SIZE + CAPACITY * SLOT_SIZE;
+
+    // Header fields
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int USED_OFFSET = 12;
+    // Slot fields
+    private static final int TYPE_OFFSET = 0;
+    private static final int NAME_LENGTH_OFFSET = 1;
+    private static final int NAME_OFFSET = 2;
+    private static final int VALUE_OFFSET = 56;
+
+    private static final byte TYPE_UNSET = 0;
+    private static final byte TYPE_INT = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_FLOAT = 3;
+
+    private static final List<MappedCounterStore> instances = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final MappedByteBuffer buffer;
+    private final ObjectIntMap<String> slots = new ObjectIntMap<>();
+    private int used;
+
+    /**
+     * Opens a store in the save directory. A new one starts from the values of the
+     * journal store or Preferences of the same name, so existing saves carry over.
+     */
+    public static MappedCounterStore open(String name) {
+        FileHandle directory = JournalPersistenceFramework.getSaveDirectory();
+        boolean created = !directory.child(name + ".counters").exists();
+        MappedCounterStore store = new MappedCounterStore(directory, name);
+        if (created) {
+            Map<String, ?> legacy = JournalPersistenceFramework.readSaved(name);
+            if (!legacy.isEmpty()) {
+                store.save(legacy);
+                store.force();
+                GameLog.getInstance().info("MappedCounterStore", "Imported old save")
+                    .with("store", name)
+                    .with("counters", store.used)
+                    .log();
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Makes every open store durable, call when the game pauses or closes
+     */
+    public static void forceAll() {
+        for (MappedCounterStore store : instances) {
+            store.force();
+        }
+    }
+
+    public MappedCounterStore(FileHandle directory, String name) {
+        this.name = name;
+        File file = new File(directory.file(), name + ".counters");
+        file.getParentFile().mkdirs();
+        try (FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean fresh = channel.size() < FILE_SIZE;
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+            if (fresh || buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+                format();
+            } else if (buffer.getInt(VERSION_OFFSET) != VERSION || buffer.getInt(CAPACITY_OFFSET) != CAPACITY) {
+                throw new GdxRuntimeException("Unsupported counter store: " + file);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't map counter store: " + file, e);
+        }
+        readSlots();
+        instances.add(this);
+    }
+
+    /**
+     * Slot of a counter, allocated unset the first time the name is used
+     */
+    public synchronized int getSlot(String key) {
+        int slot = slots.get(key, -1);
+        if (slot >= 0) return slot;
+
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new GdxRuntimeException("Counter name too long: " + key);
+        }
+        if (used == CAPACITY) {
+            throw new GdxRuntimeException("Counter store " + name + " is full");
+        }
+        slot = used;
+        int offset = offset(slot);
+        buffer.put(offset + TYPE_OFFSET, TYPE_UNSET);
+        buffer.put(offset + NAME_LENGTH_OFFSET, (byte) bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(offset + NAME_OFFSET + i, bytes[i]);
+        }
+        buffer.putLong(offset + VALUE_OFFSET, 0);
+        // Counting the slot last, a crash before leaves it unused
+        used++;
+        buffer.putInt(USED_OFFSET, used);
+        slots.put(key, slot);
+        return slot;
+    }
+
+    public boolean isSet(int slot) {
+        return buffer.get(offset(slot) + TYPE_OFFSET) != TYPE_UNSET;
+    }
+
+    public int getInt(int slot, int defaultValue) {
+        return isSet(slot) ? (int) getLong(slot, 0) : defaultValue;
+    }
+
+    public long getLong(int slot, long defaultValue) {
+        int offset = offset(slot);
+        switch (buffer.get(offset + TYPE_OFFSET)) {
+            case TYPE_INT:
+            case TYPE_LONG:
+                return buffer.getLong(offset + VALUE_OFFSET);
+            case TYPE_FLOAT:
+                return (long) buffer.getFloat(offset + VALUE_OFFSET);
+            default:
+                return defaultValue;
+        }
+    }
+
+    public float getFloat(int slot, float defaultValue) {
+        int offset = offset(slot);
+        if (buffer.get(offset + TYPE_OFFSET) == TYPE_FLOAT) {
+            return buffer.getFloat(offset + VALUE_OFFSET);
+        }
+        return isSet(slot) ? getLong(slot, 0) : defaultValue;
+    }
+
+    public void setInt(int slot, int value) {
+        set(slot, TYPE_INT, value);
+    }
+
+    public void setLong(int slot, long value) {
+        set(slot, TYPE_LONG, value);
+    }
+
+    public void setFloat(int slot, float value) {
+        int offset = offset(slot);
+        buffer.putFloat(offset + VALUE_OFFSET, value);
+        buffer.put(offset + TYPE_OFFSET, TYPE_FLOAT);
+    }
+
+    private void set(int slot, byte type, long value) {
+        int offset = offset(slot);
+        buffer.putLong(offset + VALUE_OFFSET, value);
+        buffer.put(offset + TYPE_OFFSET, type);
+    }
+
+    /**
+     * Writes the mapped pages to the disk
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void save(Map<String, ?> data) {
+        for (Map.Entry<String, ?> entry : data.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, Object value) {
+        if (value instanceof Float || value instanceof Double) {
+            setFloat(getSlot(key), ((Number) value).floatValue());
+        } else if (value instanceof Long) {
+            setLong(getSlot(key), (Long) value);
+        } else if (value instanceof Number) {
+            setInt(getSlot(key), ((Number) value).intValue());
+        } else {
+            GameLog.getInstance().warn("MappedCounterStore", "Only numbers can be counted, not saved")
+                .with("store", name)
+                .with("key", key)
+                .log();
+        }
+    }
+
+    /**
+     * A read and a store in the slot, nothing is allocated once the slot exists.
+     * A decimal counter is left as it is, adding a whole number would drop its fraction.
+     */
+    @Override
+    public synchronized long increment(String key, long delta) {
+        int slot = getSlot(key);
+        byte type = buffer.get(offset(slot) + TYPE_OFFSET);
+        if (type == TYPE_FLOAT) {
+            warnTypeMismatch(key);
+            return getLong(slot, 0);
+        }
+        long value = getLong(slot, 0) + delta;
+        if (value == (int) value && type != TYPE_LONG) {
+            setInt(slot, (int) value);
+        } else {
+            setLong(slot, value);
+        }
+        return value;
+    }
+
+    /**
+     * A whole number counter is left as it is, it would become a decimal one
+     */
+    @Override
+    public synchronized float increment(String key, float delta) {
+        int slot = getSlot(key);
+        byte type = buffer.get(offset(slot) + TYPE_OFFSET);
+        if (type == TYPE_INT || type == TYPE_LONG) {
+            warnTypeMismatch(key);
+            return getFloat(slot, 0f);
+        }
+        float value = getFloat(slot, 0f) + delta;
+        setFloat(slot, value);
+        return value;
+    }
+
+    private void warnTypeMismatch(String key) {
+        GameLog.getInstance().warn("MappedCounterStore", "Counter incremented with the wrong type, not saved")
+            .with("store", name)
+            .with("key", key)
+            .log();
+    }
+
+    /**
+     * Unsets the counter, its slot stays allocated
+     */
+    @Override
+    public synchronized void remove(String key) {
+        int slot = slots.get(key, -1);
+        if (slot >= 0) set(slot, TYPE_UNSET, 0);
+    }
+
+    /**
+     * The counters that are set, boxed with their type
+     */
+    @Override
+    public synchronized Map<String, ?> load() {
+        Map<String, Object> result = new HashMap<>();
+        for (ObjectIntMap.Entry<String> entry : slots.entries()) {
+            int offset = offset(entry.value);
+            switch (buffer.get(offset + TYPE_OFFSET)) {
+                case TYPE_INT: result.put(entry.key, (int) buffer.getLong(offset + VALUE_OFFSET)); break;
+                case TYPE_LONG: result.put(entry.key, buffer.getLong(offset + VALUE_OFFSET)); break;
+                case TYPE_FLOAT: result.put(entry.key, buffer.getFloat(offset + VALUE_OFFSET)); break;
+                default: break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized boolean exists() {
+        for (int slot = 0; slot < used; slot++) {
+            if (isSet(slot)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Unsets every counter. The slots stay allocated, so indexes callers keep stay valid.
+     */
+    @Override
+    public synchronized void clear() {
+        for (int slot = 0; slot < used; slot++) {
+            set(slot, TYPE_UNSET, 0);
+        }
+    }
+
+    private void format() {
+        for (int i = 0; i < FILE_SIZE; i += 8) {
+            buffer.putLong(i, 0);
+        }
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(CAPACITY_OFFSET, CAPACITY);
+        buffer.putInt(USED_OFFSET, 0);
+        // Written last, a half formatted file gets formatted again
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.force();
+    }
+
+    private void readSlots() {
+        used = Math.min(Math.max(buffer.getInt(USED_OFFSET), 0), CAPACITY);
+        for (int slot = 0; slot < used; slot++) {
+            int offset = offset(slot);
+            int length = Math.min(buffer.get(offset + NAME_LENGTH_OFFSET) & 0xFF, MAX_NAME_BYTES);
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = buffer.get(offset + NAME_OFFSET + i);
+            }
+            slots.put(new String(bytes, StandardCharsets.UTF_8), slot);
+        }
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+}
\ No newline at end of file
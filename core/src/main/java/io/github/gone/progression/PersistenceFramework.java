@@ -5,6 +5,28 @@ import java.util.Map;
 public interface PersistenceFramework {
     void save(Map<String, ?> data);
 
+    /**
+     * Saves a single value, only this key is written
+     */
+    void put(String key, Object value);
+
+    /**
+     * Adds to a whole number, a missing key counts as 0.
+     * Stays an Integer while the value fits in one.
+     *
+     * @return The new value
+     */
+    long increment(String key, long delta);
+
+    /**
+     * Adds to a decimal number, a missing key counts as 0
+     *
+     * @return The new value
+     */
+    float increment(String key, float delta);
+
+    void remove(String key);
+
     Map<String, ?> load();
 
     boolean exists();
@@ -2,12 +2,14 @@ package io.github.gone.progression;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import io.github.gone.utils.GameLog;
 import java.util.HashMap;
 import java.util.Map;
 
 public class PreferencesPersistenceFramework implements PersistenceFramework {
     private final Preferences preferences;
     private final String preferencesName;
+    private final GameLog log = GameLog.getInstance();
 
     public PreferencesPersistenceFramework(String preferencesName) {
         this.preferencesName = preferencesName;
@@ -21,27 +23,60 @@ public class PreferencesPersistenceFramework implements PersistenceFramework {
     @Override
     public synchronized void save(Map<String, ?> data) {
         for (Map.Entry<String, ?> entry : data.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
-            if (value instanceof Integer) {
-                preferences.putInteger(key, (Integer) value);
-            } else if (value instanceof Float) {
-                preferences.putFloat(key, (Float) value);
-            } else if (value instanceof String) {
-                preferences.putString(key, (String) value);
-            } else if (value instanceof Boolean) {
-                preferences.putBoolean(key, (Boolean) value);
-            } else if (value instanceof Long) {
-                preferences.putLong(key, (Long) value);
-            }
+            putValue(entry.getKey(), entry.getValue());
         }
         preferences.flush();
     }
 
+    @Override
+    public synchronized void put(String key, Object value) {
+        putValue(key, value);
+        preferences.flush();
+    }
+
+    @Override
+    public synchronized long increment(String key, long delta) {
+        long value = (preferences.contains(key) ? preferences.getLong(key, 0L) : 0L) + delta;
+        if (value == (int) value) {
+            preferences.putInteger(key, (int) value);
+        } else {
+            preferences.putLong(key, value);
+        }
+        preferences.flush();
+        return value;
+    }
+
+    @Override
+    public synchronized float increment(String key, float delta) {
+        float value = preferences.getFloat(key, 0f) + delta;
+        preferences.putFloat(key, value);
+        preferences.flush();
+        return value;
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        preferences.remove(key);
+        preferences.flush();
+    }
+
+    private void putValue(String key, Object value) {
+        if (value instanceof Integer) {
+            preferences.putInteger(key, (Integer) value);
+        } else if (value instanceof Float) {
+            preferences.putFloat(key, (Float) value);
+        } else if (value instanceof String) {
+            preferences.putString(key, (String) value);
+        } else if (value instanceof Boolean) {
+            preferences.putBoolean(key, (Boolean) value);
+        } else if (value instanceof Long) {
+            preferences.putLong(key, (Long) value);
+        }
+    }
+
     @Override
     public synchronized Map<String, ?> load() {
         Map<String, Object> result = new HashMap<>();
-        Gdx.app.log("PersistenceFramework", "Loading data from preferences: " + preferencesName);
 
         for (String key : preferences.get().keySet()) {
             Object value = null;
@@ -68,15 +103,23 @@ public class PreferencesPersistenceFramework implements PersistenceFramework {
 
             if (value != null) {
                 result.put(key, value);
-                Gdx.app.log("PersistenceFramework", "  Key: " + key + ", Loaded Value: " + value + " (Type: " + value.getClass().getSimpleName() + ")");
+                log.debug("PersistenceFramework", "Loaded value")
+                    .with("preferences", preferencesName)
+                    .with("key", key)
+                    .with("value", value)
+                    .log();
             } else {
-                Gdx.app.log("PersistenceFramework", "  Key: " + key + ", Value is null or could not be loaded.");
+                log.warn("PersistenceFramework", "Value could not be loaded")
+                    .with("preferences", preferencesName)
+                    .with("key", key)
+                    .log();
             }
         }
 
-        if (result.isEmpty()) {
-            Gdx.app.log("PersistenceFramework", "  No data found in preferences.");
-        }
+        log.info("PersistenceFramework", "Loaded preferences")
+            .with("preferences", preferencesName)
+            .with("keys", result.size())
+            .log();
 
         return result;
     }
@@ -94,6 +137,6 @@ public class PreferencesPersistenceFramework implements PersistenceFramework {
     public synchronized void clear() {
         preferences.clear();
         preferences.flush();
-        Gdx.app.log("PersistenceFramework", "Cleared preferences for: " + preferencesName);
+        log.info("PersistenceFramework", "Cleared preferences").with("preferences", preferencesName).log();
     }
 } 
\ No newline at end of file
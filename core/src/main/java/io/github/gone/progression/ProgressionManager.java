@@ -1,18 +1,17 @@
 package io.github.gone.progression;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
 import io.github.gone.fish.Fish;
+import io.github.gone.fish.FishCatch;
 import io.github.gone.entities.Gallery;
-
-import java.util.HashMap;
-import java.util.Map;
+import io.github.gone.game.GameEventBus;
+import io.github.gone.utils.GameLog;
 
 /**
  * Manages player progression, including experience points, level tracking
  * and persisting progression data between game sessions.
+ * In game it consumes the catches from the event bus and publishes the level ups.
  */
-public class ProgressionManager {
+public class ProgressionManager implements GameEventBus.Consumer {
     // Singleton instance
     private static ProgressionManager instance;
     
@@ -35,11 +34,19 @@ public class ProgressionManager {
     private float totalWeight;
     private boolean hasLeveledUp;
     
-    // Storage
-    private final PersistenceFramework persistenceFramework;
+    // Storage, one counter slot per field, a catch stores only the ones it changes
+    private final MappedCounterStore counters;
+    private final int expSlot;
+    private final int levelSlot;
+    private final int fishCaughtSlot;
+    private final int weightSlot;
     
     private ProgressionManager() {
-        persistenceFramework = PreferencesPersistenceFramework.getInstance("fishing_progression");
+        counters = MappedCounterStore.open("fishing_progression");
+        expSlot = counters.getSlot("current_exp");
+        levelSlot = counters.getSlot("current_level");
+        fishCaughtSlot = counters.getSlot("total_fish_caught");
+        weightSlot = counters.getSlot("total_weight");
         loadProgress();
         hasLeveledUp = false;
     }
@@ -55,34 +62,45 @@ public class ProgressionManager {
     }
     
     /**
-     * Load progression data from preferences
+     * Load progression data from the counter store
      */
     private synchronized void loadProgress() {
-        Preferences preferences = ((PreferencesPersistenceFramework) persistenceFramework).getPreferences();
-        currentExp = preferences.getInteger("current_exp", 0);
-        currentLevel = preferences.getInteger("current_level", 1);
-        totalFishCaught = preferences.getInteger("total_fish_caught", 0);
-        totalWeight = preferences.getFloat("total_weight", 0f);
+        currentExp = counters.getInt(expSlot, 0);
+        currentLevel = counters.getInt(levelSlot, 1);
+        totalFishCaught = counters.getInt(fishCaughtSlot, 0);
+        totalWeight = counters.getFloat(weightSlot, 0f);
     }
     
     /**
-     * Save progression data to preferences
+     * Add experience points when player catches a fish
      */
-    private synchronized void saveProgress() {
-        Map<String, Object> data = new HashMap<>();
-        data.put("current_exp", currentExp);
-        data.put("current_level", currentLevel);
-        data.put("total_fish_caught", totalFishCaught);
-        data.put("total_weight", totalWeight);
-        persistenceFramework.save(data);
+    public synchronized void addExperienceForFish(int rarityModifier, float weight) {
+        awardExperience(rarityModifier, weight);
     }
     
     /**
-     * Add experience points when player catches a fish
+     * Awards a catch from the event bus
      */
-    public synchronized void addExperienceForFish(int rarityModifier, float weight) {
+    @Override
+    public void onEvent(GameEventBus.GameEvent event, boolean endOfBatch) {
+        if (event.getType() == GameEventBus.Type.CATCH) {
+            FishCatch fish = event.getFish();
+            int previousLevel = getCurrentLevel();
+            awardExperience(fish.getRarity(), fish.getWeight());
+            
+            int level = getCurrentLevel();
+            if (level > previousLevel) {
+                GameEventBus.getInstance().publishLevelUp(level);
+            }
+        }
+    }
+    
+    /**
+     * Adds a catch to the progression, saving only the counters it changes
+     */
+    private synchronized void awardExperience(int rarityModifier, float weight) {
         // Base XP + bonus for rarity
-        int expGained = BASE_XP_PER_FISH * rarityModifier;
+        int expGained = getExperienceForCatch(rarityModifier);
         
         // Store current level for comparison
         int previousLevel = currentLevel;
@@ -90,16 +108,20 @@ public class ProgressionManager {
         currentExp += expGained;
         totalFishCaught++;
         totalWeight += weight;
+        counters.setInt(expSlot, currentExp);
+        counters.setInt(fishCaughtSlot, totalFishCaught);
+        counters.setFloat(weightSlot, totalWeight);
         
         // Log experience gained
-        Gdx.app.log("ProgressionManager", "===============================================");
-        Gdx.app.log("ProgressionManager", "EXPERIENCE AWARDED");
-        Gdx.app.log("ProgressionManager", "Rarity: " + rarityModifier);
-        Gdx.app.log("ProgressionManager", "Weight: " + weight);
-        Gdx.app.log("ProgressionManager", "XP Gained: " + expGained);
-        Gdx.app.log("ProgressionManager", "Current XP: " + currentExp);
-        Gdx.app.log("ProgressionManager", "Total Fish: " + totalFishCaught);
-        Gdx.app.log("ProgressionManager", "Total Weight: " + totalWeight);
+        GameLog log = GameLog.getInstance();
+        log.info("ProgressionManager", "Experience awarded")
+            .with("rarity", rarityModifier)
+            .with("weight", weight)
+            .with("gained", expGained)
+            .with("exp", currentExp)
+            .with("totalFish", totalFishCaught)
+            .with("totalWeight", totalWeight)
+            .log();
         
         // Check for level up
         checkProgress();
@@ -107,29 +129,54 @@ public class ProgressionManager {
         // Set level up flag if level changed
         if (currentLevel > previousLevel) {
             hasLeveledUp = true;
+            counters.setInt(levelSlot, currentLevel);
             
             // Log level up
-            Gdx.app.log("ProgressionManager", "LEVEL UP!");
-            Gdx.app.log("ProgressionManager", "New Level: " + currentLevel);
-            Gdx.app.log("ProgressionManager", "Next Level Requirement: " + getNextLevelRequirement());
+            log.info("ProgressionManager", "Level up")
+                .with("level", currentLevel)
+                .with("nextRequirement", getNextLevelRequirement())
+                .log();
         }
-        Gdx.app.log("ProgressionManager", "===============================================");
-        
-        // Save progress
-        saveProgress();
     }
     
     /**
      * Check if player has leveled up and update level if necessary
      */
     private synchronized void checkProgress() {
-        for (int level = currentLevel + 1; level <= MAX_LEVEL; level++) {
-            if (currentExp >= LEVEL_XP_REQUIREMENTS[level]) {
-                currentLevel = level;
-            } else {
-                break;
-            }
+        currentLevel = Math.max(currentLevel, getLevelForExperience(currentExp));
+    }
+    
+    /**
+     * Experience awarded for a catch of the given rarity.
+     * The static rules don't touch the saved progress, so tools can run them headless.
+     */
+    public static int getExperienceForCatch(int rarity) {
+        return BASE_XP_PER_FISH * rarity;
+    }
+    
+    /**
+     * Highest level reached with the given total experience
+     */
+    public static int getLevelForExperience(int exp) {
+        int level = 1;
+        while (level < MAX_LEVEL && exp >= LEVEL_XP_REQUIREMENTS[level + 1]) {
+            level++;
+        }
+        return level;
+    }
+    
+    /**
+     * Total experience needed to reach a level, 0 for levels outside 1 to getMaxLevel()
+     */
+    public static int getRequiredExperience(int level) {
+        if (level < 1 || level >= LEVEL_XP_REQUIREMENTS.length) {
+            return 0;
         }
+        return LEVEL_XP_REQUIREMENTS[level];
+    }
+    
+    public static int getMaxLevel() {
+        return MAX_LEVEL;
     }
     
     /**
@@ -160,10 +207,7 @@ public class ProgressionManager {
      * Get the experience required for a specific level
      */
     public synchronized int getLevelRequirement(int level) {
-        if (level < 1 || level >= LEVEL_XP_REQUIREMENTS.length) {
-            return 0;
-        }
-        return LEVEL_XP_REQUIREMENTS[level];
+        return getRequiredExperience(level);
     }
     
     /**
@@ -194,7 +238,7 @@ public class ProgressionManager {
      * Reset all progression (for testing purposes)
      */
     public synchronized void resetProgress() {
-        persistenceFramework.clear();
+        counters.clear();
         // Also clear the fish gallery when resetting progress
         Gallery.getInstance().clearGallery();
         currentExp = 0;
@@ -202,6 +246,5 @@ public class ProgressionManager {
         totalFishCaught = 0;
         totalWeight = 0;
         hasLeveledUp = false;
-        saveProgress();
     }
 } 
\ No newline at end of file
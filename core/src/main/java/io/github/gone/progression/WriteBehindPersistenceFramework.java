@@ -0,0 +1,267 @@
+package io.github.gone.progression;
+
+import io.github.gone.utils.GameLog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps saved values in memory and writes the changed ones to another framework in the background.
+ *
+ * The values are mirrored in memory, loaded from the delegate the first time they are needed.
+ * Saves, puts, increments and removes change the mirror and mark their keys dirty, a key
+ * changed many times is written once. The dirty keys are written on a shared background
+ * thread after an interval, or right away once enough changes piled up, so what reaches
+ * the delegate scales with what changed. Call flushAll() when the game pauses and
+ * shutdown() when it closes, both wait until everything is written.
+ */
+public class WriteBehindPersistenceFramework implements PersistenceFramework {
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 2000;
+    public static final int DEFAULT_FLUSH_THRESHOLD = 20;
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private static final List<WriteBehindPersistenceFramework> instances = new CopyOnWriteArrayList<>();
+    private static ScheduledThreadPoolExecutor executor;
+
+    private final PersistenceFramework delegate;
+    private final long flushIntervalMillis;
+    private final int flushThreshold;
+    // Every value, null until first used
+    private Map<String, Object> values;
+    // Keys changed since the last write, a dirty key missing from the values was removed
+    private final Set<String> dirty = new HashSet<>();
+    // Whether the delegate has to be cleared before the dirty keys are written
+    private boolean clearPending;
+    // Changes since the last write
+    private int pendingChanges;
+    private boolean flushScheduled;
+
+    public WriteBehindPersistenceFramework(PersistenceFramework delegate) {
+        this(delegate, DEFAULT_FLUSH_INTERVAL_MILLIS, DEFAULT_FLUSH_THRESHOLD);
+    }
+
+    /**
+     * @param flushIntervalMillis How long a change may wait before it is written
+     * @param flushThreshold Number of changes that are written right away
+     */
+    public WriteBehindPersistenceFramework(PersistenceFramework delegate, long flushIntervalMillis, int flushThreshold) {
+        this.delegate = delegate;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushThreshold = flushThreshold;
+        instances.add(this);
+    }
+
+    @Override
+    public synchronized void save(Map<String, ?> data) {
+        for (Map.Entry<String, ?> entry : data.entrySet()) {
+            change(entry.getKey(), entry.getValue());
+        }
+        changed();
+    }
+
+    @Override
+    public synchronized void put(String key, Object value) {
+        change(key, value);
+        changed();
+    }
+
+    @Override
+    public synchronized long increment(String key, long delta) {
+        Object current = getValues().get(key);
+        long value = (current instanceof Number ? ((Number) current).longValue() : 0L) + delta;
+        boolean asInt = value == (int) value && !(current instanceof Long);
+        change(key, asInt ? (Object) (int) value : (Object) value);
+        changed();
+        return value;
+    }
+
+    @Override
+    public synchronized float increment(String key, float delta) {
+        Object current = getValues().get(key);
+        float value = (current instanceof Number ? ((Number) current).floatValue() : 0f) + delta;
+        change(key, value);
+        changed();
+        return value;
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        if (getValues().remove(key) == null) return;
+        dirty.add(key);
+        changed();
+    }
+
+    @Override
+    public synchronized Map<String, ?> load() {
+        return new HashMap<>(getValues());
+    }
+
+    @Override
+    public synchronized boolean exists() {
+        return !getValues().isEmpty();
+    }
+
+    /**
+     * Empties the mirror, the delegate is cleared with the next write
+     */
+    @Override
+    public synchronized void clear() {
+        getValues().clear();
+        dirty.clear();
+        clearPending = true;
+        changed();
+    }
+
+    private void change(String key, Object value) {
+        if (value == null) {
+            if (getValues().remove(key) != null) dirty.add(key);
+            return;
+        }
+        Object previous = getValues().put(key, value);
+        if (!value.equals(previous)) {
+            dirty.add(key);
+        }
+    }
+
+    /**
+     * Schedules a write for the changes
+     */
+    private void changed() {
+        if (dirty.isEmpty() && !clearPending) return;
+        pendingChanges++;
+        if (pendingChanges >= flushThreshold) {
+            getExecutor().execute(this::write);
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            getExecutor().schedule(this::write, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Map<String, Object> getValues() {
+        if (values == null) {
+            values = new HashMap<>(delegate.load());
+        }
+        return values;
+    }
+
+    /**
+     * Writes the changes and waits until they are written
+     */
+    public void flush() {
+        await(getExecutor().submit(this::write));
+    }
+
+    /**
+     * Writes the changes of every instance and waits until they are written
+     */
+    public static void flushAll() {
+        ScheduledThreadPoolExecutor executor = getExecutor();
+        List<Future<?>> writes = new ArrayList<>(instances.size());
+        for (WriteBehindPersistenceFramework instance : instances) {
+            writes.add(executor.submit(instance::write));
+        }
+        for (Future<?> write : writes) {
+            await(write);
+        }
+    }
+
+    /**
+     * Writes everything and stops the background thread, a later save starts it again
+     */
+    public static void shutdown() {
+        flushAll();
+        ScheduledThreadPoolExecutor executor;
+        synchronized (WriteBehindPersistenceFramework.class) {
+            executor = WriteBehindPersistenceFramework.executor;
+            WriteBehindPersistenceFramework.executor = null;
+        }
+        if (executor == null) return;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(FLUSH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the background thread, hands the dirty keys to the delegate
+     */
+    private void write() {
+        boolean clear;
+        Map<String, Object> puts = new HashMap<>();
+        List<String> removes = new ArrayList<>();
+        synchronized (this) {
+            flushScheduled = false;
+            pendingChanges = 0;
+            if (dirty.isEmpty() && !clearPending) return;
+            clear = clearPending;
+            for (String key : dirty) {
+                Object value = values.get(key);
+                if (value == null) {
+                    removes.add(key);
+                } else {
+                    puts.put(key, value);
+                }
+            }
+            dirty.clear();
+            clearPending = false;
+        }
+
+        try {
+            if (clear) delegate.clear();
+            if (!puts.isEmpty()) delegate.save(puts);
+            for (String key : removes) {
+                delegate.remove(key);
+            }
+        } catch (RuntimeException e) {
+            GameLog.getInstance().error("WriteBehindPersistence", "Save failed, retrying later")
+                .with("keys", puts.size() + removes.size())
+                .error(e)
+                .log();
+            synchronized (this) {
+                // The mirror has the latest values, the keys only have to be written again
+                clearPending |= clear;
+                dirty.addAll(puts.keySet());
+                dirty.addAll(removes);
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    getExecutor().schedule(this::write, flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    private static synchronized ScheduledThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "Persistence");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // shutdown() writes everything first, the scheduled writes left would find nothing to do
+            executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        }
+        return executor;
+    }
+
+    private static void await(Future<?> write) {
+        try {
+            write.get(FLUSH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            GameLog.getInstance().error("WriteBehindPersistence", "Flush failed").error(e).log();
+        }
+    }
+}
\ No newline at end of file
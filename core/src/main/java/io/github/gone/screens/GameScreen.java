@@ -10,6 +10,7 @@ import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import io.github.gone.GoneFishingGame;
+import io.github.gone.fish.FishAtlas;
 import io.github.gone.game.GameManager;
 import io.github.gone.input.InputHandler;
 import io.github.gone.progression.ProgressionManager;
@@ -18,9 +19,18 @@ import io.github.gone.ui.LevelUpPopup;
 import io.github.gone.ui.FishGalleryScreen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import io.github.gone.utils.ActivityRegistry;
+import io.github.gone.utils.AllocationMonitor;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.FixedStepScheduler;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.FontService.FontSize;
+import io.github.gone.utils.GameLog;
+import io.github.gone.utils.LayerCache;
+import io.github.gone.utils.RenderContext;
 import io.github.gone.utils.ShapeRendererManager;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import io.github.gone.utils.WaveRenderer;
 
 public class GameScreen implements Screen {
     private static final float WORLD_WIDTH = 480;
@@ -41,25 +51,59 @@ public class GameScreen implements Screen {
     private static final Color WAVES_COLOR = new Color(0.8f, 0.9f, 1f, 0.7f);
     private static final Color SKY_COLOR = new Color(0.4f, 0.7f, 0.9f, 1f); // Base sky color
     
+    // Cached layer holding the static background scene
+    private static final String BACKGROUND_LAYER = "background";
+    
+    // Animated waves on the water
+    private static final int WAVE_COUNT = 10;
+    private static final float WAVE_SPACING = 20;
+    private static final int WAVE_SAMPLES_PER_WAVELENGTH = 8;
+    private static final float WAVE_LENGTH = 20 * (float) Math.PI;
+    private static final float WAVE_AMPLITUDE = 2.5f;
+    private static final float WAVE_SPEED = 12f;
+    
+    // Longest step the game advances in one frame, so the first frame after idling doesn't jump
+    private static final float MAX_FRAME_DELTA = 1 / 15f;
+    
+    // Game logic runs at a fixed rate, rendering interpolates between its steps
+    private static final float SIMULATION_STEPS_PER_SECOND = 60;
+    private static final int MAX_SIMULATION_STEPS_PER_FRAME = 5;
+    
     private final GoneFishingGame game;
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
     private final Viewport viewport;
     private final GameManager gameManager;
     private final InputHandler inputHandler;
+    private final FixedStepScheduler simulation;
+    private final FixedStepScheduler.Step simulationStep;
     
     // UI Elements
     private final ExperienceBar experienceBar;
     private final LevelUpPopup levelUpPopup;
     private final FishGalleryScreen fishGalleryScreen;
     private final ShapeRendererManager shapeRenderer;
-    private final BitmapFont buttonFont;
-    private final GlyphLayout glyphLayout;
+    private final CachedText galleryLabel;
+    private final LayerCache layerCache;
+    private final WaveRenderer waveRenderer;
+    private final DrawQueue drawQueue;
+    private final AllocationMonitor allocationMonitor;
+    private final GameLog log = GameLog.getInstance();
+    private final ActivityRegistry activityRegistry;
+    private final ActivityRegistry.Activity waveActivity = () -> true;
+    private final Color gradientColor = new Color();
     
     // Progression
     private final ProgressionManager progressionManager;
     
     public GameScreen(GoneFishingGame game) {
+        this(game, new FishGalleryScreen());
+    }
+    
+    /**
+     * @param fishGalleryScreen Built ahead by the loading screen, so its textures are uploaded in another frame
+     */
+    public GameScreen(GoneFishingGame game, FishGalleryScreen fishGalleryScreen) {
         this.game = game;
         this.batch = game.getBatch();
         
@@ -74,23 +118,41 @@ public class GameScreen implements Screen {
         // Initialize progression manager first (other components might depend on it)
         progressionManager = ProgressionManager.getInstance();
         
-        // Create shape renderer - needed for many other components
-        shapeRenderer = new ShapeRendererManager();
+        // Shared shape renderer and draw queue - needed for many other components
+        shapeRenderer = RenderContext.acquire().getShapeRenderer();
+        drawQueue = RenderContext.getInstance().getDrawQueue();
+        
+        // Optional check that frames don't allocate, see AllocationMonitor
+        allocationMonitor = AllocationMonitor.getInstance();
+        
+        // Rendering stops when nothing is animating, see ActivityRegistry
+        activityRegistry = ActivityRegistry.getInstance();
+        activityRegistry.registerAmbient(waveActivity);
+        
+        // The background never changes, so it is painted once into a cached layer
+        layerCache = LayerCache.getInstance();
+        layerCache.register(BACKGROUND_LAYER, 0, 0, WORLD_WIDTH, WORLD_HEIGHT, this::paintBackground);
+        
+        // Waves are a static mesh animated in the shader, drawn on top of the cached background
+        waveRenderer = new WaveRenderer(0, WORLD_HEIGHT / 5 + 10, WORLD_WIDTH, WAVE_COUNT, WAVE_SPACING,
+            WAVE_SAMPLES_PER_WAVELENGTH, WAVE_LENGTH, WAVE_AMPLITUDE, WAVE_SPEED, WAVES_COLOR);
         
         // Initialize text rendering components
-        buttonFont = new BitmapFont();
-        buttonFont.setColor(Color.WHITE);
-        glyphLayout = new GlyphLayout();
+        galleryLabel = new CachedText(FontService.getInstance().get(FontSize.BODY), "Gallery", Color.WHITE);
         
         // Create UI elements
         experienceBar = new ExperienceBar(20, WORLD_HEIGHT - 50, WORLD_WIDTH - 40);
         levelUpPopup = new LevelUpPopup();
-        fishGalleryScreen = new FishGalleryScreen();
+        this.fishGalleryScreen = fishGalleryScreen;
         
         // Initialize GameManager
         gameManager = new GameManager(WORLD_WIDTH / 2, WORLD_HEIGHT / 4);
         gameManager.init();
         
+        // Fixed step simulation, the step is kept in a field so advancing it doesn't allocate
+        simulation = new FixedStepScheduler(SIMULATION_STEPS_PER_SECOND, MAX_SIMULATION_STEPS_PER_FRAME);
+        simulationStep = gameManager::update;
+        
         // Initialize custom input handler
         inputHandler = new CustomInputHandler(gameManager, viewport, levelUpPopup, fishGalleryScreen);
         Gdx.input.setInputProcessor(inputHandler);
@@ -103,86 +165,83 @@ public class GameScreen implements Screen {
     
     @Override
     public void render(float delta) {
+        allocationMonitor.beginFrame();
+        
         // Clear the screen
         Gdx.gl.glClearColor(0.15f, 0.4f, 0.7f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         
         // Update game logic
-        update(delta);
+        update(Math.min(delta, MAX_FRAME_DELTA));
         
         // Render game elements
         camera.update();
         batch.setProjectionMatrix(camera.combined);
         
-        // Draw background
-        drawBackground();
-        
-        batch.begin();
+        // Queue everything for this frame, the queue sorts it into as few batches as possible
+        drawQueue.setLayer(DrawQueue.LAYER_BACKGROUND);
+        layerCache.submit(drawQueue, BACKGROUND_LAYER, 1f);
+        drawQueue.setLayer(DrawQueue.LAYER_BACKGROUND + 1);
+        drawQueue.custom(waveRenderer);
         
         // Draw fishing rod
-        gameManager.draw(batch);
+        gameManager.draw(drawQueue, simulation.getAlpha());
         
         // Draw UI elements
-        experienceBar.draw(batch);
-        
-        batch.end();
+        experienceBar.draw(drawQueue);
         
         // Only show log button when not in throw minigame
         if (!gameManager.isMinigameActive() && !gameManager.isShowingFishCaught()) {
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
             // Draw log button
-            shapeRenderer.setColor(LOG_BUTTON_COLOR);
-            shapeRenderer.getShapeRenderer().rect(LOG_BUTTON_X, LOG_BUTTON_Y, LOG_BUTTON_SIZE, LOG_BUTTON_SIZE);
-            shapeRenderer.end();
-            
-            // Begin batch again to draw "Gallery" text on the button
-            batch.begin();
-            glyphLayout.setText(buttonFont, "Gallery");
-            buttonFont.draw(batch, "Gallery", 
-                LOG_BUTTON_X + (LOG_BUTTON_SIZE - glyphLayout.width) / 2,
-                LOG_BUTTON_Y + (LOG_BUTTON_SIZE + glyphLayout.height) / 2);
-            
-            // Draw level up popup if active
-            if (levelUpPopup.isActive()) {
-                levelUpPopup.draw(batch);
-            }
+            drawQueue.setLayer(DrawQueue.LAYER_HUD);
+            drawQueue.setShapeType(ShapeRenderer.ShapeType.Filled);
+            drawQueue.setColor(LOG_BUTTON_COLOR);
+            drawQueue.rect(LOG_BUTTON_X, LOG_BUTTON_Y, LOG_BUTTON_SIZE, LOG_BUTTON_SIZE);
             
-            // Draw player log screen if active
-            if (fishGalleryScreen.isActive()) {
-                fishGalleryScreen.draw();
-            }
-            
-            batch.end();
-        } else {
-            // Begin batch again for popup UI elements
-            batch.begin();
-            
-            // Draw level up popup if active
-            if (levelUpPopup.isActive()) {
-                levelUpPopup.draw(batch);
-            }
-            
-            // Draw player log screen if active
-            if (fishGalleryScreen.isActive()) {
-                fishGalleryScreen.draw();
-            }
-            
-            batch.end();
+            // "Gallery" text on the button
+            drawQueue.text(galleryLabel, 
+                LOG_BUTTON_X + (LOG_BUTTON_SIZE - galleryLabel.getWidth()) / 2,
+                LOG_BUTTON_Y + (LOG_BUTTON_SIZE + galleryLabel.getHeight()) / 2);
         }
+        
+        // Draw level up popup if active
+        if (levelUpPopup.isActive()) {
+            levelUpPopup.draw(drawQueue);
+        }
+        
+        drawQueue.flush(batch, shapeRenderer);
+        
+        // Draw player log screen if active, its Stage draws with the shared batch directly
+        if (fishGalleryScreen.isActive()) {
+            fishGalleryScreen.draw();
+        }
+        
+        // Keep rendering only while something animates, input wakes the game up again
+        activityRegistry.update();
+        
+        // Draw calls of the frame, only when debug logging is on
+        log.debug("GameScreen", "Frame drawn")
+            .with("flushes", drawQueue.getLastFlushCount())
+            .with("runs", drawQueue.getLastRunCount())
+            .with("commands", drawQueue.getLastCommandCount())
+            .log();
+        
+        allocationMonitor.endFrame();
     }
     
     /**
-     * Draws the background with land, water, sky, and decorative elements
+     * Paints the background with land, water, sky, and decorative elements.
+     * The waves are drawn separately by the WaveRenderer. Only called when the background layer needs to be (re)built.
      */
-    private void drawBackground() {
+    private void paintBackground(ShapeRendererManager shapeRenderer) {
         // We'll use ShapeRenderer for the background
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
         // Sky gradient (lighter at top)
         for (int y = 0; y < WORLD_HEIGHT; y += 10) {
             float ratio = y / WORLD_HEIGHT;
-            // Create a temporary color for the gradient
-            Color gradientColor = new Color(
+            // Reuse a single color for the gradient
+            gradientColor.set(
                 SKY_COLOR.r + ratio * 0.1f, 
                 SKY_COLOR.g + ratio * 0.1f, 
                 SKY_COLOR.b, 
@@ -197,9 +256,9 @@ public class GameScreen implements Screen {
         shapeRenderer.getShapeRenderer().circle(WORLD_WIDTH - 80, WORLD_HEIGHT - 80, 40);
         
         // Clouds
-        drawCloud(80, WORLD_HEIGHT - 100, 1.2f);
-        drawCloud(200, WORLD_HEIGHT - 150, 0.8f);
-        drawCloud(350, WORLD_HEIGHT - 80, 1.0f);
+        drawCloud(shapeRenderer, 80, WORLD_HEIGHT - 100, 1.2f);
+        drawCloud(shapeRenderer, 200, WORLD_HEIGHT - 150, 0.8f);
+        drawCloud(shapeRenderer, 350, WORLD_HEIGHT - 80, 1.0f);
         
         // Land (brown dirt)
         shapeRenderer.setColor(LAND_COLOR);
@@ -214,24 +273,12 @@ public class GameScreen implements Screen {
         shapeRenderer.getShapeRenderer().rect(0, WORLD_HEIGHT / 5 + 10, WORLD_WIDTH, WORLD_HEIGHT * 0.6f - 10);
         
         shapeRenderer.end();
-        
-        // Draw waves - use a separate begin/end block for the lines
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(WAVES_COLOR);
-        
-        // Draw several wave lines
-        float waveY = WORLD_HEIGHT / 5 + 10;
-        for (int i = 0; i < 10; i++) {
-            drawWaveLine(waveY + i * 20, 0.5f);
-        }
-        
-        shapeRenderer.end();
     }
     
     /**
      * Helper method to draw a cloud
      */
-    private void drawCloud(float x, float y, float scale) {
+    private void drawCloud(ShapeRendererManager shapeRenderer, float x, float y, float scale) {
         shapeRenderer.setColor(CLOUD_COLOR);
         shapeRenderer.getShapeRenderer().circle(x, y, 20 * scale);
         shapeRenderer.getShapeRenderer().circle(x + 15 * scale, y + 10 * scale, 15 * scale);
@@ -239,25 +286,12 @@ public class GameScreen implements Screen {
         shapeRenderer.getShapeRenderer().circle(x - 20 * scale, y, 15 * scale);
     }
     
-    /**
-     * Helper method to draw a wave line
-     */
-    private void drawWaveLine(float y, float amplitude) {
-        float waveFrequency = 10f;
-        float lastX = 0;
-        float lastY = y + (float) Math.sin(0) * amplitude * 5;
-        
-        for (float x = 10; x <= WORLD_WIDTH; x += 10) {
-            float newY = y + (float) Math.sin(x / waveFrequency) * amplitude * 5;
-            shapeRenderer.getShapeRenderer().line(lastX, lastY, x, newY);
-            lastX = x;
-            lastY = newY;
-        }
-    }
-    
     private void update(float delta) {
-        // Update GameManager
-        gameManager.update(delta);
+        // Update GameManager in fixed steps, so gameplay is the same at any frame rate
+        simulation.advance(delta, simulationStep);
+        
+        // Animate the waves
+        waveRenderer.update(delta);
         
         // Update UI elements
         experienceBar.update(delta);
@@ -287,16 +321,21 @@ public class GameScreen implements Screen {
     public void resize(int width, int height) {
         viewport.update(width, height);
         camera.position.set(viewport.getWorldWidth() / 2, viewport.getWorldHeight() / 2, 0);
+        
+        // Repaint cached layers at the new resolution
+        layerCache.resize(viewport.getScreenWidth() / WORLD_WIDTH);
     }
     
     @Override
     public void pause() {
-        // Called when game is paused
+        // Nothing needs drawing while the game is in the background
+        activityRegistry.setPaused(true);
     }
     
     @Override
     public void resume() {
-        // Called when game is resumed
+        simulation.reset();
+        activityRegistry.setPaused(false);
     }
     
     @Override
@@ -306,13 +345,16 @@ public class GameScreen implements Screen {
     
     @Override
     public void dispose() {
-        batch.dispose();
+        // The batch is shared and released by the game
         gameManager.dispose();
         experienceBar.dispose();
         levelUpPopup.dispose();
         fishGalleryScreen.dispose();
-        shapeRenderer.dispose();
-        buttonFont.dispose();
+        layerCache.dispose();
+        waveRenderer.dispose();
+        activityRegistry.unregister(waveActivity);
+        FishAtlas.getInstance().dispose();
+        RenderContext.release();
     }
     
     public SpriteBatch getBatch() {
@@ -348,16 +390,18 @@ public class GameScreen implements Screen {
         
         @Override
         public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+            activityRegistry.onInput();
+            
             // Prioritize popups and gallery that cover the whole screen
             if (levelUpPopup.isActive()) {
-                return levelUpPopup.handleClick(viewport.unproject(new Vector3(screenX, screenY, 0)).x, 
-                                                 viewport.unproject(new Vector3(screenX, screenY, 0)).y);
+                viewport.unproject(touchPoint.set(screenX, screenY, 0));
+                return levelUpPopup.handleClick(touchPoint.x, touchPoint.y);
             } else if (fishGalleryScreen.isActive()) {
                 // The FishGalleryScreen's stage now handles input directly
                 return fishGalleryScreen.touchDown(screenX, screenY, pointer, button);
             }
 
-            Vector3 worldCoordinates = viewport.unproject(new Vector3(screenX, screenY, 0));
+            Vector3 worldCoordinates = viewport.unproject(touchPoint.set(screenX, screenY, 0));
             float worldX = worldCoordinates.x;
             float worldY = worldCoordinates.y;
 
@@ -382,6 +426,7 @@ public class GameScreen implements Screen {
 
         @Override
         public boolean touchDragged(int screenX, int screenY, int pointer) {
+            activityRegistry.onInput();
             if (fishGalleryScreen.isActive()) {
                 return fishGalleryScreen.touchDragged(screenX, screenY, pointer);
             }
@@ -390,6 +435,7 @@ public class GameScreen implements Screen {
 
         @Override
         public boolean mouseMoved(int screenX, int screenY) {
+            activityRegistry.onInput();
             if (fishGalleryScreen.isActive()) {
                 return fishGalleryScreen.mouseMoved(screenX, screenY);
             }
@@ -398,6 +444,7 @@ public class GameScreen implements Screen {
 
         @Override
         public boolean scrolled(float amountX, float amountY) {
+            activityRegistry.onInput();
             if (fishGalleryScreen.isActive()) {
                 return fishGalleryScreen.scrolled(amountX, amountY);
             }
@@ -406,6 +453,7 @@ public class GameScreen implements Screen {
 
         @Override
         public boolean keyDown(int keycode) {
+            activityRegistry.onInput();
             if (fishGalleryScreen.isActive()) {
                 return fishGalleryScreen.keyDown(keycode);
             }
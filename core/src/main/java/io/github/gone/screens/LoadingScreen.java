@@ -0,0 +1,189 @@
+package io.github.gone.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import io.github.gone.GoneFishingGame;
+import io.github.gone.entities.Gallery;
+import io.github.gone.fish.FishAtlas;
+import io.github.gone.fish.SpeciesCatalog;
+import io.github.gone.progression.AchievementTracker;
+import io.github.gone.progression.ProgressionManager;
+import io.github.gone.ui.FishGalleryScreen;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.RenderContext;
+import io.github.gone.utils.ShapeRendererManager;
+
+/**
+ * First screen of the game, shows a progress bar while the game loads in stages.
+ *
+ * The saves and the species catalog are read on a background thread, the fonts are
+ * rasterized by the FontService and the textures go through the game's AssetManager,
+ * which uploads them a few milliseconds per frame. Once everything is ready the UI is
+ * built one piece per frame and the game screen replaces this one. Only shapes are
+ * drawn here, so the screen itself needs no assets.
+ */
+public class LoadingScreen implements Screen {
+    // Time the AssetManager may spend per frame, the rest of the frame keeps the screen responsive
+    private static final int UPLOAD_BUDGET_MILLIS = 8;
+
+    private static final Color BACKGROUND_COLOR = new Color(0.15f, 0.4f, 0.7f, 1);
+    private static final Color BAR_BACKGROUND_COLOR = new Color(0.1f, 0.2f, 0.4f, 1);
+    private static final Color BAR_COLOR = new Color(0.8f, 0.9f, 1f, 1);
+    private static final float BAR_WIDTH_RATIO = 0.6f;
+    private static final float BAR_HEIGHT = 16;
+
+    private enum Stage {
+        // Saves, fonts and assets load at the same time
+        LOADING,
+        // The gallery screen creates its stage, skin and textures
+        GALLERY,
+        // The game screen creates everything else and takes over
+        GAME
+    }
+    private static final int STAGE_COUNT = Stage.values().length;
+
+    private final GoneFishingGame game;
+    private final AssetManager assets;
+    private final ShapeRendererManager shapeRenderer;
+    private final Matrix4 projection = new Matrix4();
+    private AsyncExecutor executor;
+    private AsyncResult<Void> saves;
+    private Stage stage = Stage.LOADING;
+    private boolean assetsLoaded;
+    private boolean fontsLoaded;
+    private FishGalleryScreen fishGalleryScreen;
+    private int frames;
+
+    public LoadingScreen(GoneFishingGame game) {
+        this.game = game;
+        this.assets = game.getAssets();
+        this.shapeRenderer = RenderContext.getInstance().getShapeRenderer();
+
+        FontService.getInstance().startLoading();
+        FishAtlas.getInstance().queue(assets);
+
+        executor = new AsyncExecutor(1, "Loading");
+        saves = executor.submit(this::loadSaves);
+    }
+
+    /**
+     * Runs on the loading thread, reads everything the game needs from disk
+     */
+    private Void loadSaves() {
+        SpeciesCatalog.getInstance();
+        ProgressionManager.getInstance();
+        AchievementTracker.getInstance();
+        Gallery.getInstance().preload();
+        return null;
+    }
+
+    @Override
+    public void show() {
+    }
+
+    @Override
+    public void render(float delta) {
+        frames++;
+        switch (stage) {
+            case LOADING:
+                // Every part gets its turn each frame, none waits for another
+                assetsLoaded = assets.update(UPLOAD_BUDGET_MILLIS);
+                fontsLoaded = FontService.getInstance().update();
+                if (assetsLoaded && fontsLoaded && saves.isDone()) {
+                    finishSaves();
+                    stage = Stage.GALLERY;
+                }
+                break;
+            case GALLERY:
+                fishGalleryScreen = new FishGalleryScreen();
+                stage = Stage.GAME;
+                break;
+            case GAME:
+                game.showGame(new GameScreen(game, fishGalleryScreen), frames);
+                // The game screen owns it now
+                fishGalleryScreen = null;
+                dispose();
+                return;
+        }
+        draw();
+    }
+
+    /**
+     * Rethrows what went wrong on the loading thread
+     */
+    private void finishSaves() {
+        try {
+            saves.get();
+        } finally {
+            executor.dispose();
+            executor = null;
+        }
+    }
+
+    private float getProgress() {
+        if (stage != Stage.LOADING) {
+            return stage.ordinal() / (float) STAGE_COUNT;
+        }
+        // The first stage is split between its three parts
+        float loaded = assetsLoaded ? 1 : assets.getProgress();
+        if (fontsLoaded) loaded++;
+        if (saves.isDone()) loaded++;
+        return loaded / 3f / STAGE_COUNT;
+    }
+
+    private void draw() {
+        Gdx.gl.glClearColor(BACKGROUND_COLOR.r, BACKGROUND_COLOR.g, BACKGROUND_COLOR.b, BACKGROUND_COLOR.a);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float barWidth = width * BAR_WIDTH_RATIO;
+        float barX = (width - barWidth) / 2;
+        float barY = (height - BAR_HEIGHT) / 2;
+
+        projection.setToOrtho2D(0, 0, width, height);
+        shapeRenderer.getShapeRenderer().setProjectionMatrix(projection);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(BAR_BACKGROUND_COLOR);
+        shapeRenderer.getShapeRenderer().rect(barX, barY, barWidth, BAR_HEIGHT);
+        shapeRenderer.setColor(BAR_COLOR);
+        shapeRenderer.getShapeRenderer().rect(barX, barY, barWidth * getProgress(), BAR_HEIGHT);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    @Override
+    public void dispose() {
+        // Waits for the loading thread if the game closes while loading
+        if (executor != null) {
+            executor.dispose();
+            executor = null;
+        }
+        if (fishGalleryScreen != null) {
+            fishGalleryScreen.dispose();
+            fishGalleryScreen = null;
+        }
+    }
+}
\ No newline at end of file
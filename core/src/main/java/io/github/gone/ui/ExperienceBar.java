@@ -1,12 +1,13 @@
 package io.github.gone.ui;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import io.github.gone.progression.ProgressionManager;
-import io.github.gone.utils.ShapeRendererManager;
+import io.github.gone.utils.ActivityRegistry;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.FontService.FontSize;
 
 /**
  * UI component that displays the player's current level and experience progress.
@@ -28,10 +29,13 @@ public class ExperienceBar {
     private float y;
     private float width;
     
-    // Rendering
-    private final ShapeRendererManager shapeRenderer;
-    private final BitmapFont font;
-    private final GlyphLayout layout;
+    // Rendering, labels are only rebuilt when the values they show change
+    private final CachedText levelLabel;
+    private final CachedText xpLabel;
+    private final StringBuilder labelText = new StringBuilder();
+    private int shownLevel = -1;
+    private int shownExp = -1;
+    private int shownNextLevelReq = -1;
     
     // Progression
     private final ProgressionManager progressionManager;
@@ -40,21 +44,21 @@ public class ExperienceBar {
     private float currentFillPercent;
     private float targetFillPercent;
     private boolean animating;
+    private final ActivityRegistry.Activity activity = () -> animating;
     
     public ExperienceBar(float x, float y, float width) {
         this.x = x;
         this.y = y;
         this.width = width;
-        this.shapeRenderer = new ShapeRendererManager();
-        this.font = new BitmapFont();
-        this.font.setColor(TEXT_COLOR);
-        this.layout = new GlyphLayout();
+        this.levelLabel = new CachedText(FontService.getInstance().get(FontSize.LABEL), "", TEXT_COLOR);
+        this.xpLabel = new CachedText(FontService.getInstance().get(FontSize.CAPTION), "", TEXT_COLOR);
         this.progressionManager = ProgressionManager.getInstance();
         
         // Initialize fill percentage
         updateTargetFillPercent();
         this.currentFillPercent = this.targetFillPercent;
         this.animating = false;
+        ActivityRegistry.getInstance().register(activity);
     }
     
     /**
@@ -130,73 +134,69 @@ public class ExperienceBar {
     }
     
     /**
-     * Draws the experience bar
+     * Queues the experience bar on the HUD layer
      */
-    public void draw(SpriteBatch batch) {
-        // Store batch color
-        Color batchColor = batch.getColor();
-        
-        // End batch to use ShapeRenderer
-        batch.end();
-        
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+    public void draw(DrawQueue queue) {
+        queue.setLayer(DrawQueue.LAYER_HUD);
+        queue.setShapeType(ShapeRenderer.ShapeType.Filled);
         
         // Draw level circle background
-        shapeRenderer.setColor(LEVEL_CIRCLE_COLOR);
-        shapeRenderer.getShapeRenderer().circle(x + LEVEL_CIRCLE_SIZE/2, y + BAR_HEIGHT/2, LEVEL_CIRCLE_SIZE/2);
+        queue.setColor(LEVEL_CIRCLE_COLOR);
+        queue.circle(x + LEVEL_CIRCLE_SIZE/2, y + BAR_HEIGHT/2, LEVEL_CIRCLE_SIZE/2);
         
         // Draw bar background
         float barX = x + LEVEL_CIRCLE_SIZE + BAR_PADDING;
         float barWidth = width - LEVEL_CIRCLE_SIZE - BAR_PADDING;
         
-        shapeRenderer.setColor(BACKGROUND_COLOR);
-        shapeRenderer.getShapeRenderer().rect(barX, y, barWidth, BAR_HEIGHT);
+        queue.setColor(BACKGROUND_COLOR);
+        queue.rect(barX, y, barWidth, BAR_HEIGHT);
         
         // Draw progress fill
-        shapeRenderer.setColor(PROGRESS_COLOR);
-        shapeRenderer.getShapeRenderer().rect(barX, y, barWidth * currentFillPercent, BAR_HEIGHT);
+        queue.setColor(PROGRESS_COLOR);
+        queue.rect(barX, y, barWidth * currentFillPercent, BAR_HEIGHT);
         
-        shapeRenderer.end();
-        
-        // Resume batch for text
-        batch.begin();
-        batch.setColor(batchColor);
+        updateLabels();
         
         // Draw level number in circle
-        font.getData().setScale(1.2f);
-        String levelText = Integer.toString(progressionManager.getCurrentLevel());
-        layout.setText(font, levelText);
-        font.draw(batch, levelText, 
-            x + LEVEL_CIRCLE_SIZE/2 - layout.width/2, 
-            y + BAR_HEIGHT/2 + layout.height/2);
+        queue.text(levelLabel, 
+            x + LEVEL_CIRCLE_SIZE/2 - levelLabel.getWidth()/2, 
+            y + BAR_HEIGHT/2 + levelLabel.getHeight()/2);
         
         // Draw XP text
-        font.getData().setScale(0.9f);
+        queue.text(xpLabel, 
+            barX + barWidth/2 - xpLabel.getWidth()/2, 
+            y + BAR_HEIGHT/2 + xpLabel.getHeight()/2);
+    }
+    
+    /**
+     * Rebuilds the level and XP labels if the progression values changed
+     */
+    private void updateLabels() {
+        int currentLevel = progressionManager.getCurrentLevel();
         int currentExp = progressionManager.getCurrentExp();
         int nextLevelReq = progressionManager.getNextLevelRequirement();
         
-        String xpText = "";
-        if (nextLevelReq > 0) {
-            xpText = currentExp + "/" + nextLevelReq + " XP";
-        } else {
-            xpText = "MAX LEVEL";
+        if (currentLevel != shownLevel) {
+            shownLevel = currentLevel;
+            labelText.setLength(0);
+            levelLabel.setText(labelText.append(currentLevel));
         }
         
-        layout.setText(font, xpText);
-        font.draw(batch, xpText, 
-            barX + barWidth/2 - layout.width/2, 
-            y + BAR_HEIGHT/2 + layout.height/2);
-            
-        // Reset font scale
-        font.getData().setScale(1.0f);
+        if (currentExp != shownExp || nextLevelReq != shownNextLevelReq) {
+            shownExp = currentExp;
+            shownNextLevelReq = nextLevelReq;
+            labelText.setLength(0);
+            if (nextLevelReq > 0) {
+                labelText.append(currentExp).append('/').append(nextLevelReq).append(" XP");
+            } else {
+                labelText.append("MAX LEVEL");
+            }
+            xpLabel.setText(labelText);
+        }
     }
     
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (font != null) {
-            font.dispose();
-        }
+        // Labels use shared fonts owned by the FontService
+        ActivityRegistry.getInstance().unregister(activity);
     }
 } 
\ No newline at end of file
@@ -3,13 +3,18 @@ package io.github.gone.ui;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import io.github.gone.entities.Gallery;
-import io.github.gone.fish.Fish;
+import com.badlogic.gdx.math.MathUtils;
+import io.github.gone.fish.FishCatch;
 import io.github.gone.progression.ProgressionManager;
+import io.github.gone.utils.ActivityRegistry;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.LayerCache;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.FontService.FontSize;
 import io.github.gone.utils.ShapeRendererManager;
+import io.github.gone.utils.TextFormat;
 
 /**
  * Screen shown when a fish is caught, displaying fish information and stats.
@@ -33,22 +38,35 @@ public class FishCaughtScreen {
     private static final Color COMMON_COLOR = new Color(0.8f, 0.8f, 0.8f, 1);
     private static final Color RARE_COLOR = new Color(0.2f, 0.4f, 1, 1);
     private static final Color LEGENDARY_COLOR = new Color(1, 0.6f, 0, 1);
+    private static final Color WEIGHT_BADGE_COLOR = new Color(0.9f, 0.3f, 0.9f, 1); // Pink
+    
+    // Cached layer with the overlay and panel background
+    private static final String PANEL_LAYER = "fish-caught-panel";
     
     // Content
-    private Fish caughtFish;
+    private FishCatch caughtFish;
     private boolean isActive;
     private float fishAnimationTimer;
+    private float previousFishAnimationTimer;
+    private final ActivityRegistry.Activity activity = this::isActive;
     
-    // Rendering
-    private final ShapeRendererManager shapeRenderer;
-    private final BitmapFont titleFont;
-    private final BitmapFont textFont;
-    private final BitmapFont instructionFont;
-    private final GlyphLayout layout;
+    // Rendering, the labels only change in show()
+    private final CachedText titleLabel;
+    private final CachedText caughtLabel;
+    private final CachedText weightLabel;
+    private final CachedText nameLabel;
+    private final CachedText rarityLabel;
+    private final CachedText expLabel;
+    private final CachedText weightTitleLabel;
+    private final CachedText totalWeightLabel;
+    private final CachedText instructionLabel;
+    private final StringBuilder numberText = new StringBuilder();
+    private final LayerCache layerCache;
     
     // Experience
     private final ProgressionManager progressionManager;
     private int expGained;
+    private float shownTotalWeight = Float.NaN;
     
     // Callback for when the screen is closed
     public interface Callback {
@@ -58,33 +76,83 @@ public class FishCaughtScreen {
     private Callback callback;
     
     public FishCaughtScreen() {
-        this.shapeRenderer = new ShapeRendererManager();
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(2.5f);
-        this.textFont = new BitmapFont();
-        this.textFont.getData().setScale(1.5f);
-        this.instructionFont = new BitmapFont();
-        this.instructionFont.getData().setScale(1.2f);
-        this.layout = new GlyphLayout();
+        BitmapFont titleFont = FontService.getInstance().get(FontSize.DISPLAY);
+        BitmapFont textFont = FontService.getInstance().get(FontSize.SUBTITLE);
+        BitmapFont instructionFont = FontService.getInstance().get(FontSize.LABEL);
+        this.titleLabel = new CachedText(titleFont, "Congratulations", Color.WHITE);
+        this.caughtLabel = new CachedText(textFont, "Fish caught!", TEXT_COLOR);
+        this.weightLabel = new CachedText(textFont, "", Color.WHITE);
+        this.nameLabel = new CachedText(textFont);
+        this.rarityLabel = new CachedText(textFont);
+        this.expLabel = new CachedText(textFont, "", Color.YELLOW);
+        this.weightTitleLabel = new CachedText(textFont, "Total Weight:", Color.WHITE);
+        this.totalWeightLabel = new CachedText(textFont, "", Color.WHITE);
+        this.instructionLabel = new CachedText(instructionFont, "Tap empty area to close", Color.WHITE);
+        this.layerCache = LayerCache.getInstance();
+        this.layerCache.register(PANEL_LAYER, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, this::paintPanel);
         this.progressionManager = ProgressionManager.getInstance();
         this.isActive = false;
+        
+        // The fish keeps bobbing while the screen waits for a tap
+        ActivityRegistry.getInstance().registerAmbient(activity);
     }
     
     /**
      * Shows the fish caught screen with the given fish
      */
-    public void show(Fish fish, Callback callback) {
+    public void show(FishCatch fish, Callback callback) {
         this.caughtFish = fish;
         this.callback = callback;
         this.isActive = true;
         this.fishAnimationTimer = 0;
+        this.previousFishAnimationTimer = 0;
         
-        // Log fish added to inventory
-        Gallery.getInstance().updateGallery(this.caughtFish);
-
-        // Add experience for the caught fish
-        this.expGained = 10 * fish.getRarity(); // Base XP calculation
-        progressionManager.addExperienceForFish(fish.getRarity(), fish.getWeight());
+        // The reward itself is handed out by the progression on the event bus
+        this.expGained = ProgressionManager.getExperienceForCatch(fish.getRarity());
+        
+        updateLabels();
+    }
+    
+    /**
+     * Updates the labels for the caught fish, they are laid out again on the next draw
+     */
+    private void updateLabels() {
+        numberText.setLength(0);
+        TextFormat.appendFixed(numberText, caughtFish.getWeight(), 2).append("\nKG");
+        weightLabel.setText(numberText);
+        
+        // Fish name and rarity with the rarity color
+        Color rarityColor;
+        switch (caughtFish.getRarity()) {
+            case 3:
+                rarityColor = LEGENDARY_COLOR;
+                break;
+            case 2:
+                rarityColor = RARE_COLOR;
+                break;
+            default:
+                rarityColor = COMMON_COLOR;
+        }
+        nameLabel.setText(caughtFish.getName()).setColor(rarityColor);
+        rarityLabel.setText(getRarityName(caughtFish.getRarity())).setColor(rarityColor);
+        
+        numberText.setLength(0);
+        numberText.append('+').append(expGained).append(" XP");
+        expLabel.setText(numberText);
+        
+        updateTotalWeight();
+    }
+    
+    /**
+     * The progression adds the catch on its own thread, so the total is refreshed until it shows up
+     */
+    private void updateTotalWeight() {
+        float totalWeight = progressionManager.getTotalWeight();
+        if (totalWeight == shownTotalWeight) return;
+        shownTotalWeight = totalWeight;
+        numberText.setLength(0);
+        TextFormat.appendFixed(numberText, totalWeight, 2).append(" KG");
+        totalWeightLabel.setText(numberText);
     }
     
     /**
@@ -93,7 +161,9 @@ public class FishCaughtScreen {
     public void update(float delta) {
         if (!isActive) return;
         
+        previousFishAnimationTimer = fishAnimationTimer;
         fishAnimationTimer += delta;
+        updateTotalWeight();
     }
     
     /**
@@ -108,110 +178,80 @@ public class FishCaughtScreen {
     }
     
     /**
-     * Draws the fish caught screen
+     * Paints the static overlay and panel background into the cached layer
      */
-    public void draw(SpriteBatch batch) {
-        if (!isActive) return;
-        
-        // Need to end batch to use ShapeRenderer
-        batch.end();
-        
-        // Draw darkened overlay
-        Gdx.gl.glEnable(Gdx.gl.GL_BLEND);
+    private void paintPanel(ShapeRendererManager shapeRenderer) {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        
+        // Darkened overlay
         shapeRenderer.setColor(OVERLAY_COLOR);
         shapeRenderer.getShapeRenderer().rect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
         
-        // Draw panel background
+        // Panel background
         shapeRenderer.setColor(PANEL_COLOR);
         shapeRenderer.getShapeRenderer().rect(PANEL_X, PANEL_Y, PANEL_WIDTH, PANEL_HEIGHT);
         
-        // Draw decorative header banner
+        // Decorative header banner
         shapeRenderer.setColor(TITLE_COLOR);
         shapeRenderer.getShapeRenderer().rect(PANEL_X, PANEL_Y + PANEL_HEIGHT - 60, PANEL_WIDTH, 60);
         
         shapeRenderer.end();
+    }
+    
+    /**
+     * Queues the fish caught screen on the overlay layers
+     */
+    public void draw(DrawQueue queue, float alpha) {
+        if (!isActive) return;
         
-        // Resume batch for text
-        batch.begin();
-        
-        // Draw title
-        titleFont.setColor(Color.WHITE);
-        String title = "Congratulations";
-        layout.setText(titleFont, title);
-        titleFont.draw(batch, title, PANEL_X + (PANEL_WIDTH - layout.width) / 2, PANEL_Y + PANEL_HEIGHT - 20);
+        // Draw overlay and panel background from the cache
+        queue.setLayer(DrawQueue.LAYER_OVERLAY);
+        layerCache.submit(queue, PANEL_LAYER, 1f);
         
-        // Draw "Fish caught" text
-        textFont.setColor(TEXT_COLOR);
-        String caughtText = "Fish caught!";
-        layout.setText(textFont, caughtText);
-        textFont.draw(batch, caughtText, PANEL_X + (PANEL_WIDTH - layout.width) / 2, PANEL_Y + PANEL_HEIGHT - 80);
+        // Everything else goes on top of the panel
+        queue.setLayer(DrawQueue.LAYER_OVERLAY + 1);
+        queue.setShapeType(ShapeRenderer.ShapeType.Filled);
         
-        // Draw fish
+        // Draw fish, before the titles so a large one stays below them
         float fishX = PANEL_X + PANEL_WIDTH / 2;
         float fishY = PANEL_Y + PANEL_HEIGHT / 2 + 20;
         
         // Apply a slight bobbing animation
-        float bobOffset = (float) Math.sin(fishAnimationTimer * 3) * 5;
-        caughtFish.draw(batch, fishX, fishY + bobOffset);
+        float time = MathUtils.lerp(previousFishAnimationTimer, fishAnimationTimer, alpha);
+        float bobOffset = (float) Math.sin(time * 3) * 5;
+        caughtFish.getSpecies().draw(queue, fishX, fishY + bobOffset, time);
+        
+        // Draw title
+        queue.text(titleLabel, PANEL_X + (PANEL_WIDTH - titleLabel.getWidth()) / 2, PANEL_Y + PANEL_HEIGHT - 20);
+        
+        // Draw "Fish caught" text
+        queue.text(caughtLabel, PANEL_X + (PANEL_WIDTH - caughtLabel.getWidth()) / 2, PANEL_Y + PANEL_HEIGHT - 80);
+        
+        // The badge and labels after it are drawn over the fish
+        queue.setShapeType(ShapeRenderer.ShapeType.Filled);
         
         // Draw fish weight with pink circular background
-        batch.end();
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(new Color(0.9f, 0.3f, 0.9f, 1)); // Pink color
-        shapeRenderer.getShapeRenderer().circle(fishX + 80, fishY + 30, 25);
-        shapeRenderer.end();
-        batch.begin();
+        queue.setColor(WEIGHT_BADGE_COLOR);
+        queue.circle(fishX + 80, fishY + 30, 25);
         
         // Weight text
-        textFont.setColor(Color.WHITE);
-        String weightText = String.format("%.2f", caughtFish.getWeight()) + "\nKG";
-        layout.setText(textFont, weightText);
-        textFont.draw(batch, weightText, fishX + 80 - layout.width / 2, fishY + 35);
-        
-        // Get rarity color based on fish rarity
-        Color rarityColor;
-        switch (caughtFish.getRarity()) {
-            case 3:
-                rarityColor = LEGENDARY_COLOR;
-                break;
-            case 2:
-                rarityColor = RARE_COLOR;
-                break;
-            default:
-                rarityColor = COMMON_COLOR;
-        }
+        queue.text(weightLabel, fishX + 80 - weightLabel.getWidth() / 2, fishY + 35);
         
         // Fish name with appropriate rarity color
-        textFont.setColor(rarityColor);
-        layout.setText(textFont, caughtFish.getName());
-        textFont.draw(batch, caughtText = caughtFish.getName(), PANEL_X + (PANEL_WIDTH - layout.width) / 2, PANEL_Y + PANEL_HEIGHT / 2 - 50);
+        queue.text(nameLabel, PANEL_X + (PANEL_WIDTH - nameLabel.getWidth()) / 2, PANEL_Y + PANEL_HEIGHT / 2 - 50);
         
         // Fish rarity text
-        String rarityText = getRarityName(caughtFish.getRarity());
-        layout.setText(textFont, rarityText);
-        textFont.draw(batch, rarityText, PANEL_X + (PANEL_WIDTH - layout.width) / 2, PANEL_Y + PANEL_HEIGHT / 2 - 80);
+        queue.text(rarityLabel, PANEL_X + (PANEL_WIDTH - rarityLabel.getWidth()) / 2, PANEL_Y + PANEL_HEIGHT / 2 - 80);
         
         // Experience gained
-        textFont.setColor(Color.YELLOW);
-        String expText = "+" + expGained + " XP";
-        layout.setText(textFont, expText);
-        textFont.draw(batch, expText, PANEL_X + (PANEL_WIDTH - layout.width) / 2, PANEL_Y + PANEL_HEIGHT / 2 - 110);
+        queue.text(expLabel, PANEL_X + (PANEL_WIDTH - expLabel.getWidth()) / 2, PANEL_Y + PANEL_HEIGHT / 2 - 110);
         
         // Total weight text
-        textFont.setColor(Color.WHITE);
-        String weightTitle = "Total Weight:";
-        layout.setText(textFont, weightTitle);
-        textFont.draw(batch, weightTitle, PANEL_X + 40, PANEL_Y + 70);
-        
-        String totalWeightText = String.format("%.2f KG", progressionManager.getTotalWeight());
-        textFont.draw(batch, totalWeightText, PANEL_X + PANEL_WIDTH - 150, PANEL_Y + 70);
+        queue.text(weightTitleLabel, PANEL_X + 40, PANEL_Y + 70);
+        queue.text(totalWeightLabel, PANEL_X + PANEL_WIDTH - 150, PANEL_Y + 70);
         
         // Instruction text
-        instructionFont.setColor(Color.WHITE);
-        String instruction = "Tap empty area to close";
-        layout.setText(instructionFont, instruction);
-        instructionFont.draw(batch, instruction, PANEL_X + (PANEL_WIDTH - layout.width) / 2, PANEL_Y + 30);
+        queue.text(instructionLabel, PANEL_X + (PANEL_WIDTH - instructionLabel.getWidth()) / 2, PANEL_Y + 30);
     }
     
     /**
@@ -241,17 +281,7 @@ public class FishCaughtScreen {
      * Clean up resources
      */
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (titleFont != null) {
-            titleFont.dispose();
-        }
-        if (textFont != null) {
-            textFont.dispose();
-        }
-        if (instructionFont != null) {
-            instructionFont.dispose();
-        }
+        ActivityRegistry.getInstance().unregister(activity);
+        layerCache.remove(PANEL_LAYER);
     }
 } 
\ No newline at end of file
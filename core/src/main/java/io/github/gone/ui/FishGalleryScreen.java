@@ -3,7 +3,6 @@ package io.github.gone.ui;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
@@ -14,10 +13,18 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Scaling;
+import com.badlogic.gdx.utils.viewport.ScalingViewport;
 import io.github.gone.entities.Gallery;
-import io.github.gone.entities.FishRegistry;
-import io.github.gone.fish.FishFactory;
+import io.github.gone.fish.SpeciesCatalog;
 import io.github.gone.progression.ProgressionManager;
+import io.github.gone.utils.ActivityRegistry;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.LayerCache;
+import io.github.gone.utils.RenderContext;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.FontService.FontSize;
 import io.github.gone.utils.ShapeRendererManager;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
@@ -28,8 +35,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton.TextButtonStyle;
 import io.github.gone.fish.Fish;
 
-import java.util.Map;
-
 /**
  * Screen that displays the fish gallery.
  */
@@ -57,16 +62,20 @@ public class FishGalleryScreen {
     private static final Color BUTTON_COLOR = new Color(0.2f, 0.6f, 0.8f, 1f);
     private static final Color RESET_BUTTON_COLOR = new Color(0.8f, 0.2f, 0.2f, 1f);
     
+    // Cached layer with the overlay and panel background
+    private static final String PANEL_LAYER = "fish-gallery-panel";
+    
     // Content
     private boolean isActive;
     
     // Rendering
     private final ShapeRendererManager shapeRenderer;
-    private final BitmapFont titleFont;
+    private final CachedText titleLabel;
     private final BitmapFont textFont;
     private final BitmapFont buttonFont;
-    private final GlyphLayout layout;
     private final SpriteBatch batch;
+    private final Matrix4 projection;
+    private final LayerCache layerCache;
     
     // Gallery UI elements
     private final Stage stage;
@@ -81,7 +90,6 @@ public class FishGalleryScreen {
 
     // Progression and Gallery managers
     private final Gallery gallery;
-    private final FishFactory fishFactory;
     
     // Callback for when reset is pressed
     public interface Callback {
@@ -90,26 +98,26 @@ public class FishGalleryScreen {
     }
     
     private Callback callback;
+    // Scrolling keeps animating for a moment after the input that started it
+    private final ActivityRegistry.Activity activity = this::isActive;
     
     public FishGalleryScreen() {
-        this.shapeRenderer = new ShapeRendererManager();
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(2f);
-        this.textFont = new BitmapFont();
-        this.textFont.getData().setScale(1.2f);
-        this.buttonFont = new BitmapFont();
-        this.buttonFont.getData().setScale(1.2f);
-        this.layout = new GlyphLayout();
+        this.shapeRenderer = RenderContext.acquire().getShapeRenderer();
+        this.titleLabel = new CachedText(FontService.getInstance().get(FontSize.TITLE), "Fish Gallery", Color.WHITE);
+        this.textFont = FontService.getInstance().get(FontSize.LABEL);
+        this.buttonFont = FontService.getInstance().get(FontSize.LABEL);
         this.gallery = Gallery.getInstance();
-        this.fishFactory = new FishFactory();
         this.isActive = false;
-        this.batch = new SpriteBatch();
+        this.batch = RenderContext.getInstance().getBatch();
+        this.projection = new Matrix4().setToOrtho2D(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        this.layerCache = LayerCache.getInstance();
+        this.layerCache.register(PANEL_LAYER, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, this::paintPanel);
+        ActivityRegistry.getInstance().registerAmbient(activity);
 
         // Setup Scene2D for scrollable list
-        stage = new Stage();
+        stage = new Stage(new ScalingViewport(Scaling.stretch, SCREEN_WIDTH, SCREEN_HEIGHT), batch);
         skin = new Skin();
         // Generate a simple white 1x1 texture for the default Skin
-        skin.add("default-font", textFont, BitmapFont.class);
         LabelStyle labelStyle = new LabelStyle(textFont, TEXT_COLOR);
         skin.add("default", labelStyle);
 
@@ -228,9 +236,6 @@ public class FishGalleryScreen {
     private void populateGallery() {
         scrollTable.clearChildren(); // Clear existing entries
         
-        Map<String, FishRegistry> caughtFish = gallery.getGallery();
-        Map<String, Integer> allFishNames = fishFactory.getAllFishNames(); // Assuming FishFactory can provide all fish names
-
         // Add table headers
         scrollTable.add(new com.badlogic.gdx.scenes.scene2d.ui.Label("Fish Name", skin)).expandX().left().padBottom(5);
         scrollTable.add(new com.badlogic.gdx.scenes.scene2d.ui.Label("Caught", skin)).right().padBottom(5);
@@ -240,10 +245,11 @@ public class FishGalleryScreen {
         scrollTable.row();
 
         // Populate with actual data
-        for (Map.Entry<String, Integer> entry : allFishNames.entrySet()) {
-            String fishName = entry.getKey();
-            if (caughtFish.containsKey(fishName)) {
-                int count = caughtFish.get(fishName).nCaught;
+        for (Fish species : SpeciesCatalog.getInstance().getAll()) {
+            String fishName = species.getName();
+            // The gallery is updated from the event bus, so only ask it for counts
+            int count = gallery.getCaughtCount(fishName);
+            if (count > 0) {
                 scrollTable.add(new com.badlogic.gdx.scenes.scene2d.ui.Label(fishName, skin)).expandX().left().padBottom(5);
                 scrollTable.add(new com.badlogic.gdx.scenes.scene2d.ui.Label(String.valueOf(count), skin)).right().padBottom(5);
             } else {
@@ -255,33 +261,36 @@ public class FishGalleryScreen {
     }
 
     /**
-     * Draw the fish gallery screen
+     * Paints the static overlay and panel background into the cached layer
      */
-    public void draw() {
-        if (!isActive) return;
-        
-        Gdx.gl.glEnable(Gdx.gl.GL_BLEND);
+    private void paintPanel(ShapeRendererManager shapeRenderer) {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         shapeRenderer.setColor(OVERLAY_COLOR);
         shapeRenderer.getShapeRenderer().rect(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
         
-        // Draw panel background
+        // Panel background
         shapeRenderer.setColor(PANEL_COLOR);
         shapeRenderer.getShapeRenderer().rect(PANEL_X, PANEL_Y, PANEL_WIDTH, PANEL_HEIGHT);
         
-        // Draw decorative header banner
+        // Decorative header banner
         shapeRenderer.setColor(TITLE_COLOR);
         shapeRenderer.getShapeRenderer().rect(PANEL_X, PANEL_Y + PANEL_HEIGHT - 60, PANEL_WIDTH, 60);
         
         shapeRenderer.end();
+    }
+    
+    /**
+     * Draw the fish gallery screen
+     */
+    public void draw() {
+        if (!isActive) return;
         
-        // Use this screen's own batch for the title text
+        // The shared batch is set up for the game camera, draw the panel in screen space
+        this.batch.setProjectionMatrix(projection);
         this.batch.begin();
+        layerCache.draw(this.batch, PANEL_LAYER, 1f);
         // Draw title
-        titleFont.setColor(Color.WHITE);
-        String title = "Fish Gallery";
-        layout.setText(titleFont, title);
-        titleFont.draw(this.batch, title, PANEL_X + (PANEL_WIDTH - layout.width) / 2, PANEL_Y + PANEL_HEIGHT - 20);
+        titleLabel.draw(this.batch, PANEL_X + (PANEL_WIDTH - titleLabel.getWidth()) / 2, PANEL_Y + PANEL_HEIGHT - 20);
         this.batch.end();
         
         // Draw the Scene2D stage (which contains the scroll pane and buttons)
@@ -364,18 +373,8 @@ public class FishGalleryScreen {
      * Clean up resources
      */
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (titleFont != null) {
-            titleFont.dispose();
-        }
-        if (textFont != null) {
-            textFont.dispose();
-        }
-        if (buttonFont != null) {
-            buttonFont.dispose();
-        }
+        ActivityRegistry.getInstance().unregister(activity);
+        RenderContext.release();
         if (stage != null) {
             stage.dispose();
         }
@@ -388,9 +387,7 @@ public class FishGalleryScreen {
         if (((TextureRegionDrawable) scrollBackgroundDrawable).getRegion().getTexture() != null) {
             ((TextureRegionDrawable) scrollBackgroundDrawable).getRegion().getTexture().dispose();
         }
-        if (batch != null) {
-            batch.dispose();
-        }
+        layerCache.remove(PANEL_LAYER);
     }
 
     public void toggleVisibility() {
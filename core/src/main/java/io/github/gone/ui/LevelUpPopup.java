@@ -3,10 +3,14 @@ package io.github.gone.ui;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import io.github.gone.progression.ProgressionManager;
+import io.github.gone.utils.ActivityRegistry;
+import io.github.gone.utils.CachedText;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.LayerCache;
+import io.github.gone.utils.FontService;
+import io.github.gone.utils.FontService.FontSize;
 import io.github.gone.utils.ShapeRendererManager;
 
 /**
@@ -23,6 +27,14 @@ public class LevelUpPopup {
     private static final float DISPLAY_DURATION = 3.0f;
     private static final float HIDE_DURATION = 0.5f;
     
+    // Colors
+    private static final Color OVERLAY_COLOR = new Color(0, 0, 0, 0.5f);
+    private static final Color POPUP_COLOR = new Color(0.1f, 0.1f, 0.3f, 0.9f);
+    private static final Color TITLE_BACKGROUND_COLOR = new Color(0.6f, 0.2f, 0.8f, 1f);
+    
+    // Cached layer with the overlay and popup background, faded as a whole
+    private static final String POPUP_LAYER = "level-up-popup";
+    
     // State
     private boolean isActive;
     private float animationTimer;
@@ -34,10 +46,12 @@ public class LevelUpPopup {
     private float y;
     
     // Rendering
-    private final ShapeRendererManager shapeRenderer;
-    private final BitmapFont titleFont;
-    private final BitmapFont textFont;
-    private final GlyphLayout layout;
+    private final CachedText titleLabel;
+    private final CachedText levelLabel;
+    private final CachedText messageLabel;
+    private final CachedText tipsLabel;
+    private final StringBuilder levelText = new StringBuilder();
+    private final LayerCache layerCache;
     
     // Callback
     public interface Callback {
@@ -45,14 +59,15 @@ public class LevelUpPopup {
     }
     
     private Callback callback;
+    private final ActivityRegistry.Activity activity = this::isActive;
     
     public LevelUpPopup() {
-        this.shapeRenderer = new ShapeRendererManager();
-        this.titleFont = new BitmapFont();
-        this.titleFont.getData().setScale(1.8f);
-        this.textFont = new BitmapFont();
-        this.textFont.getData().setScale(1.2f);
-        this.layout = new GlyphLayout();
+        BitmapFont titleFont = FontService.getInstance().get(FontSize.HEADING);
+        BitmapFont textFont = FontService.getInstance().get(FontSize.LABEL);
+        this.titleLabel = new CachedText(titleFont).setText("Level Up!");
+        this.levelLabel = new CachedText(textFont);
+        this.messageLabel = new CachedText(textFont).setText("You can now find new types of fish!");
+        this.tipsLabel = new CachedText(textFont).setText("Keep fishing to discover all kinds of\nunderwater treasures and creatures!");
         
         this.isActive = false;
         this.animationTimer = 0f;
@@ -61,6 +76,10 @@ public class LevelUpPopup {
         // Center the popup
         this.x = (Gdx.graphics.getWidth() - POPUP_WIDTH) / 2;
         this.y = (Gdx.graphics.getHeight() - POPUP_HEIGHT) / 2;
+        
+        this.layerCache = LayerCache.getInstance();
+        this.layerCache.register(POPUP_LAYER, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), this::paintPopup);
+        ActivityRegistry.getInstance().register(activity);
     }
     
     /**
@@ -68,10 +87,14 @@ public class LevelUpPopup {
      */
     public void show(int newLevel, Callback callback) {
         this.newLevel = newLevel;
+        levelText.setLength(0);
+        levelText.append("You are now Level ").append(newLevel).append('!');
+        levelLabel.setText(levelText);
         this.callback = callback;
         this.isActive = true;
         this.animationTimer = 0f;
         this.alpha = 0f;
+        ActivityRegistry.getInstance().requestWake();
     }
     
     /**
@@ -105,34 +128,36 @@ public class LevelUpPopup {
     }
     
     /**
-     * Draws the level up popup
+     * Paints the overlay and popup background at full opacity into the cached layer
      */
-    public void draw(SpriteBatch batch) {
-        if (!isActive || alpha <= 0) return;
-        
-        // End SpriteBatch to use ShapeRenderer
-        batch.end();
-        
-        // Draw popup background with alpha
-        Gdx.gl.glEnable(Gdx.gl.GL_BLEND);
+    private void paintPopup(ShapeRendererManager shapeRenderer) {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         
-        // Draw darkened overlay
-        shapeRenderer.setColor(new Color(0, 0, 0, 0.5f * alpha));
+        // Darkened overlay
+        shapeRenderer.setColor(OVERLAY_COLOR);
         shapeRenderer.getShapeRenderer().rect(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         
-        // Draw popup background
-        shapeRenderer.setColor(new Color(0.1f, 0.1f, 0.3f, 0.9f * alpha));
+        // Popup background
+        shapeRenderer.setColor(POPUP_COLOR);
         shapeRenderer.getShapeRenderer().rect(x, y, POPUP_WIDTH, POPUP_HEIGHT);
         
-        // Draw title background
-        shapeRenderer.setColor(new Color(0.6f, 0.2f, 0.8f, alpha));
+        // Title background
+        shapeRenderer.setColor(TITLE_BACKGROUND_COLOR);
         shapeRenderer.getShapeRenderer().rect(x, y + POPUP_HEIGHT - 50, POPUP_WIDTH, 50);
         
         shapeRenderer.end();
+    }
+    
+    /**
+     * Queues the level up popup on the popup layers
+     */
+    public void draw(DrawQueue queue) {
+        if (!isActive || alpha <= 0) return;
         
-        // Resume SpriteBatch for text
-        batch.begin();
+        // Draw the cached popup background, faded with the popup
+        queue.setLayer(DrawQueue.LAYER_POPUP);
+        layerCache.submit(queue, POPUP_LAYER, alpha);
+        queue.setLayer(DrawQueue.LAYER_POPUP + 1);
         
         // Calculate optimal spacing between text elements
         float titleY = y + POPUP_HEIGHT - 15;  // Title position
@@ -141,35 +166,27 @@ public class LevelUpPopup {
         float tipsY = messageY - 50;           // Tips text (more space for multi-line text)
         
         // Draw title
-        titleFont.setColor(new Color(1, 1, 1, alpha));
-        String titleText = "Level Up!";
-        layout.setText(titleFont, titleText);
-        titleFont.draw(batch, titleText, 
-            x + (POPUP_WIDTH - layout.width) / 2, 
+        titleLabel.setColor(1, 1, 1, alpha);
+        queue.text(titleLabel, 
+            x + (POPUP_WIDTH - titleLabel.getWidth()) / 2, 
             titleY);
         
         // Draw level information
-        textFont.setColor(new Color(1, 1, 0, alpha));
-        String levelText = "You are now Level " + newLevel + "!";
-        layout.setText(textFont, levelText);
-        textFont.draw(batch, levelText,
-            x + (POPUP_WIDTH - layout.width) / 2,
+        levelLabel.setColor(1, 1, 0, alpha);
+        queue.text(levelLabel,
+            x + (POPUP_WIDTH - levelLabel.getWidth()) / 2,
             levelY);
         
         // Draw message about new fish
-        textFont.setColor(new Color(1, 1, 1, alpha));
-        String message = "You can now find new types of fish!";
-        layout.setText(textFont, message);
-        textFont.draw(batch, message,
-            x + (POPUP_WIDTH - layout.width) / 2,
+        messageLabel.setColor(1, 1, 1, alpha);
+        queue.text(messageLabel,
+            x + (POPUP_WIDTH - messageLabel.getWidth()) / 2,
             messageY);
         
         // Draw fishing tips - improved multi-line handling
-        textFont.setColor(new Color(1, 1, 1, alpha));
-        String tipsText = "Keep fishing to discover all kinds of\nunderwater treasures and creatures!";
-        layout.setText(textFont, tipsText);
-        textFont.draw(batch, tipsText,
-            x + (POPUP_WIDTH - layout.width) / 2,
+        tipsLabel.setColor(1, 1, 1, alpha);
+        queue.text(tipsLabel,
+            x + (POPUP_WIDTH - tipsLabel.getWidth()) / 2,
             tipsY);
     }
     
@@ -198,14 +215,7 @@ public class LevelUpPopup {
      * Clean up resources
      */
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
-        if (titleFont != null) {
-            titleFont.dispose();
-        }
-        if (textFont != null) {
-            textFont.dispose();
-        }
+        ActivityRegistry.getInstance().unregister(activity);
+        layerCache.remove(POPUP_LAYER);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,117 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Keeps track of the animations that need new frames and switches the app to
+ * on-demand rendering when none of them do.
+ *
+ * Components register an Activity for each animation. Animations that respond to
+ * the player (minigames, popups, the line moving) keep rendering continuous while
+ * they run. Ambient ones (waves, idle sway) only do so for a while after the last
+ * input, then the game stops rendering until the next input event or requestWake().
+ */
+public class ActivityRegistry {
+    // How long ambient animations keep playing after the last input
+    private static final long AMBIENT_TIMEOUT_MILLIS = 30000;
+
+    /**
+     * An animation that may need new frames
+     */
+    public interface Activity {
+        boolean isAnimating();
+    }
+
+    private static ActivityRegistry instance;
+
+    public static synchronized ActivityRegistry getInstance() {
+        if (instance == null) {
+            instance = new ActivityRegistry();
+        }
+        return instance;
+    }
+
+    private final Array<Activity> activities = new Array<>(false, 16);
+    private final Array<Activity> ambientActivities = new Array<>(false, 16);
+    private long lastInputMillis;
+    private boolean paused;
+
+    private ActivityRegistry() {
+        lastInputMillis = TimeUtils.millis();
+    }
+
+    /**
+     * Registers an animation that keeps rendering continuous while it runs
+     */
+    public void register(Activity activity) {
+        activities.add(activity);
+    }
+
+    /**
+     * Registers an animation that only keeps rendering continuous shortly after input
+     */
+    public void registerAmbient(Activity activity) {
+        ambientActivities.add(activity);
+    }
+
+    public void unregister(Activity activity) {
+        activities.removeValue(activity, true);
+        ambientActivities.removeValue(activity, true);
+    }
+
+    /**
+     * Records player input, which resumes the ambient animations
+     */
+    public void onInput() {
+        lastInputMillis = TimeUtils.millis();
+        requestWake();
+    }
+
+    /**
+     * Asks for at least one more frame, and continuous rendering if something starts animating in it
+     */
+    public void requestWake() {
+        Gdx.graphics.requestRendering();
+    }
+
+    /**
+     * Stops rendering while the app is paused. Resuming counts as input, so the
+     * next frame decides again what keeps animating.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused) {
+            onInput();
+        }
+        apply(!paused);
+    }
+
+    /**
+     * Picks the rendering mode for the next frames. Call at the end of every frame.
+     */
+    public void update() {
+        apply(!paused && isAnimating());
+    }
+
+    /**
+     * Returns true if any registered animation needs the next frame
+     */
+    public boolean isAnimating() {
+        for (int i = 0; i < activities.size; i++) {
+            if (activities.get(i).isAnimating()) return true;
+        }
+        if (TimeUtils.timeSinceMillis(lastInputMillis) > AMBIENT_TIMEOUT_MILLIS) return false;
+        for (int i = 0; i < ambientActivities.size; i++) {
+            if (ambientActivities.get(i).isAnimating()) return true;
+        }
+        return false;
+    }
+
+    private void apply(boolean continuous) {
+        if (Gdx.graphics.isContinuousRendering() != continuous) {
+            Gdx.graphics.setContinuousRendering(continuous);
+        }
+    }
+}
\ No newline at end of file
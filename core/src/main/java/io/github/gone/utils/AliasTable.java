@@ -0,0 +1,97 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.Random;
+
+/**
+ * Samples from a fixed discrete distribution in constant time (Vose's alias method).
+ *
+ * Building the table is O(n). Every draw then picks a column uniformly and flips one
+ * biased coin between the column and its alias, no matter how many outcomes there are.
+ * The table is immutable, so it can be shared between threads as long as each one
+ * draws with its own Random.
+ */
+public class AliasTable {
+    private final float[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights relative weight of each outcome, they don't need to sum to 1
+     */
+    public AliasTable(float[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (float weight : weights) {
+            if (weight < 0) throw new GdxRuntimeException("Negative weight in alias table: " + weight);
+            total += weight;
+        }
+        if (n == 0 || total <= 0) throw new GdxRuntimeException("Alias table needs at least one positive weight");
+
+        probability = new float[n];
+        alias = new int[n];
+
+        // Scale so the average column holds exactly 1, then pair the small columns with large ones
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0, largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding errors
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * Number of outcomes
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Draws one outcome index
+     */
+    public int sample(Random random) {
+        int column = random.nextInt(probability.length);
+        return random.nextFloat() < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Draws n outcome indices into out, starting at index 0
+     */
+    public void sample(int n, Random random, int[] out) {
+        if (n > out.length) throw new GdxRuntimeException("Output holds " + out.length + " samples, asked for " + n);
+        for (int i = 0; i < n; i++) {
+            int column = random.nextInt(probability.length);
+            out[i] = random.nextFloat() < probability[column] ? column : alias[column];
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Debug check that the frame loop doesn't allocate.
+ *
+ * Reads the bytes allocated by the render thread around every frame and warns or
+ * fails when a frame goes over the budget. Configured with system properties:
+ * gone.alloc.mode (off, warn or fail, default off), gone.alloc.budget (bytes per
+ * frame, default 0) and gone.alloc.warmup (frames ignored at startup, default 120).
+ * Only works on JVMs that support per-thread allocation counters.
+ */
+public class AllocationMonitor {
+    public enum Mode {
+        OFF,
+        WARN,
+        FAIL
+    }
+
+    private static AllocationMonitor instance;
+
+    public static synchronized AllocationMonitor getInstance() {
+        if (instance == null) {
+            instance = new AllocationMonitor();
+        }
+        return instance;
+    }
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private Mode mode;
+    private long budget;
+    private int warmupFrames;
+
+    private long frameStartBytes;
+    private long frame;
+    private long lastFrameBytes;
+    private long worstFrameBytes;
+
+    private AllocationMonitor() {
+        this.mode = parseMode(System.getProperty("gone.alloc.mode", "off"));
+        this.budget = Long.getLong("gone.alloc.budget", 0L);
+        this.warmupFrames = Integer.getInteger("gone.alloc.warmup", 120);
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threadBean = (com.sun.management.ThreadMXBean) bean;
+            if (mode != Mode.OFF) {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        } else {
+            this.threadBean = null;
+            if (mode != Mode.OFF) {
+                Gdx.app.error("AllocationMonitor", "Per-thread allocation counters are not supported, monitoring disabled.");
+                mode = Mode.OFF;
+            }
+        }
+    }
+
+    private static Mode parseMode(String value) {
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Mode.OFF;
+        }
+    }
+
+    /**
+     * Call at the very start of a frame
+     */
+    public void beginFrame() {
+        if (mode == Mode.OFF) return;
+        frameStartBytes = threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Call at the very end of a frame, checks the frame against the budget
+     */
+    public void endFrame() {
+        if (mode == Mode.OFF) return;
+        lastFrameBytes = threadBean.getCurrentThreadAllocatedBytes() - frameStartBytes;
+        frame++;
+
+        if (frame <= warmupFrames || lastFrameBytes <= budget) {
+            return;
+        }
+
+        worstFrameBytes = Math.max(worstFrameBytes, lastFrameBytes);
+        if (mode == Mode.FAIL) {
+            throw new GdxRuntimeException("Frame " + frame + " allocated " + lastFrameBytes + " bytes, budget is " + budget);
+        }
+        Gdx.app.error("AllocationMonitor", "Frame " + frame + " allocated " + lastFrameBytes + " bytes, budget is " + budget);
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = threadBean != null ? mode : Mode.OFF;
+        if (threadBean != null && this.mode != Mode.OFF) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setBudget(long bytesPerFrame) {
+        this.budget = bytesPerFrame;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    public void setWarmupFrames(int warmupFrames) {
+        this.warmupFrames = warmupFrames;
+    }
+
+    /**
+     * Bytes allocated during the last measured frame
+     */
+    public long getLastFrameBytes() {
+        return lastFrameBytes;
+    }
+
+    /**
+     * Largest allocation of a frame that went over the budget
+     */
+    public long getWorstFrameBytes() {
+        return worstFrameBytes;
+    }
+}
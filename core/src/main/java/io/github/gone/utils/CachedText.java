@@ -0,0 +1,120 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * A text label that keeps its glyph vertices between frames.
+ *
+ * The text is only laid out again when its characters change, and a color change
+ * only retints the cached vertices. Numbers can be appended into a reused
+ * StringBuilder (see TextFormat) and passed to setText(), which copies them only
+ * if they differ from the current text.
+ */
+public class CachedText {
+    private final BitmapFontCache cache;
+    private final StringBuilder text = new StringBuilder();
+    private final Color color = new Color(Color.WHITE);
+    private float width;
+    private float height;
+    private boolean layoutDirty = true;
+    private boolean colorDirty = false;
+
+    // Position the cached vertices are currently at
+    private float cacheX;
+    private float cacheY;
+
+    public CachedText(BitmapFont font) {
+        this.cache = new BitmapFontCache(font, font.usesIntegerPositions());
+    }
+
+    public CachedText(BitmapFont font, CharSequence text, Color color) {
+        this(font);
+        setText(text);
+        setColor(color);
+    }
+
+    /**
+     * Changes the text, does nothing if it's the same as the current one
+     */
+    public CachedText setText(CharSequence value) {
+        if (equalsText(value)) return this;
+        text.setLength(0);
+        text.append(value);
+        layoutDirty = true;
+        return this;
+    }
+
+    private boolean equalsText(CharSequence value) {
+        int length = value.length();
+        if (length != text.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) != value.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    public CachedText setColor(Color value) {
+        return setColor(value.r, value.g, value.b, value.a);
+    }
+
+    public CachedText setColor(float r, float g, float b, float a) {
+        if (color.r == r && color.g == g && color.b == b && color.a == a) return this;
+        color.set(r, g, b, a);
+        colorDirty = true;
+        return this;
+    }
+
+    public CharSequence getText() {
+        return text;
+    }
+
+    /**
+     * Width of the laid out text
+     */
+    public float getWidth() {
+        validate();
+        return width;
+    }
+
+    /**
+     * Height of the laid out text, from the top of the first line to the baseline of the last
+     */
+    public float getHeight() {
+        validate();
+        return height;
+    }
+
+    private void validate() {
+        if (layoutDirty) {
+            cache.clear();
+            cache.setColor(color);
+            GlyphLayout layout = cache.addText(text, 0, 0);
+            width = layout.width;
+            height = layout.height;
+            cacheX = 0;
+            cacheY = 0;
+            layoutDirty = false;
+            colorDirty = false;
+        } else if (colorDirty) {
+            cache.setColors(color);
+            colorDirty = false;
+        }
+    }
+
+    /**
+     * Draws the text at the same position BitmapFont.draw() would. The batch must be drawing.
+     */
+    public void draw(Batch batch, float x, float y) {
+        validate();
+        if (x != cacheX || y != cacheY) {
+            cache.translate(x - cacheX, y - cacheY);
+            cacheX = x;
+            cacheY = y;
+        }
+        cache.draw(batch);
+    }
+}
\ No newline at end of file
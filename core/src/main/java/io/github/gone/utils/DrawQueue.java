@@ -0,0 +1,406 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Sort;
+
+import java.util.Comparator;
+
+/**
+ * Deferred draw command queue.
+ *
+ * Components submit shapes, sprites and text during the frame instead of switching
+ * between the SpriteBatch and the ShapeRenderer themselves. On flush the commands are
+ * sorted by layer and then by submission order, so everything keeps its painter's order.
+ * Consecutive commands of the same pipeline (filled shapes, line shapes, sprites and text)
+ * are drawn in one run. Submitting a layer's shapes together and its text together keeps
+ * the number of runs low.
+ */
+public class DrawQueue {
+    // Common layers, components may use values in between
+    public static final int LAYER_BACKGROUND = 0;
+    public static final int LAYER_WORLD = 100;
+    public static final int LAYER_HUD = 200;
+    public static final int LAYER_OVERLAY = 300;
+    public static final int LAYER_POPUP = 400;
+
+    // Pipelines, a run ends when the next command needs another one
+    private static final int PIPELINE_FILLED = 0;
+    private static final int PIPELINE_LINE = 1;
+    private static final int PIPELINE_CUSTOM = 2;
+    private static final int PIPELINE_SPRITE = 3;
+    private static final int PIPELINE_TEXT = 4;
+
+    private enum Kind {
+        RECT, CIRCLE, ELLIPSE, TRIANGLE, RECT_LINE, ARC, LINE, CUSTOM, SPRITE, TEXT, CACHED_TEXT
+    }
+
+    /**
+     * Something that draws itself with its own GL state, e.g. a mesh with a custom shader.
+     * Called during flush while neither the batch nor the shape renderer is drawing.
+     */
+    public interface CustomDrawable {
+        void draw(Matrix4 projection);
+    }
+
+    private static class Command implements Pool.Poolable {
+        int layer;
+        int pipeline;
+        int sequence;
+        Kind kind;
+        final Color color = new Color();
+        float a, b, c, d, e, f;
+        int segments;
+
+        // Custom
+        CustomDrawable drawable;
+
+        // Sprite
+        TextureRegion region;
+        boolean premultiplied;
+
+        // Text
+        BitmapFont font;
+        CharSequence text;
+        float scaleX, scaleY;
+        CachedText label;
+
+        @Override
+        public void reset() {
+            drawable = null;
+            region = null;
+            font = null;
+            text = null;
+            label = null;
+        }
+    }
+
+    private static final Comparator<Command> ORDER = (left, right) -> {
+        if (left.layer != right.layer) return Integer.compare(left.layer, right.layer);
+        return Integer.compare(left.sequence, right.sequence);
+    };
+
+    private final Array<Command> commands = new Array<>(false, 256);
+    private final Pool<Command> pool = new Pool<Command>(256) {
+        @Override
+        protected Command newObject() {
+            return new Command();
+        }
+    };
+
+    // Current submission state
+    private int layer = LAYER_BACKGROUND;
+    private ShapeRenderer.ShapeType shapeType = ShapeRenderer.ShapeType.Filled;
+    private final Color color = new Color(Color.WHITE);
+    private int sequence;
+
+    // Scratch state used while flushing
+    private final Color savedColor = new Color();
+
+    // Statistics of the last flush
+    private int lastFlushCount;
+    private int lastRunCount;
+    private int lastCommandCount;
+
+    public void setLayer(int layer) {
+        this.layer = layer;
+    }
+
+    public int getLayer() {
+        return layer;
+    }
+
+    /**
+     * Sets the shape type used by the following shape commands. Only Filled and Line are supported.
+     */
+    public void setShapeType(ShapeRenderer.ShapeType shapeType) {
+        this.shapeType = shapeType;
+    }
+
+    public void setColor(Color color) {
+        this.color.set(color);
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        this.color.set(r, g, b, a);
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public void rect(float x, float y, float width, float height) {
+        shape(Kind.RECT, x, y, width, height, 0, 0, 0);
+    }
+
+    public void circle(float x, float y, float radius) {
+        shape(Kind.CIRCLE, x, y, radius, 0, 0, 0, 0);
+    }
+
+    public void circle(float x, float y, float radius, int segments) {
+        shape(Kind.CIRCLE, x, y, radius, 0, 0, 0, segments);
+    }
+
+    public void ellipse(float x, float y, float width, float height) {
+        shape(Kind.ELLIPSE, x, y, width, height, 0, 0, 0);
+    }
+
+    public void triangle(float x1, float y1, float x2, float y2, float x3, float y3) {
+        shape(Kind.TRIANGLE, x1, y1, x2, y2, x3, y3, 0);
+    }
+
+    public void rectLine(float x1, float y1, float x2, float y2, float width) {
+        shape(Kind.RECT_LINE, x1, y1, x2, y2, width, 0, 0);
+    }
+
+    public void arc(float x, float y, float radius, float start, float degrees) {
+        shape(Kind.ARC, x, y, radius, start, degrees, 0, 0);
+    }
+
+    public void arc(float x, float y, float radius, float start, float degrees, int segments) {
+        shape(Kind.ARC, x, y, radius, start, degrees, 0, segments);
+    }
+
+    public void line(float x1, float y1, float x2, float y2) {
+        shape(Kind.LINE, x1, y1, x2, y2, 0, 0, 0);
+    }
+
+    /**
+     * Queues a custom drawable, drawn in submission order like everything else
+     */
+    public void custom(CustomDrawable drawable) {
+        Command command = obtain(Kind.CUSTOM, PIPELINE_CUSTOM);
+        command.drawable = drawable;
+    }
+
+    /**
+     * Queues a texture region tinted with the current color
+     */
+    public void sprite(TextureRegion region, float x, float y, float width, float height, boolean premultiplied) {
+        Command command = obtain(Kind.SPRITE, PIPELINE_SPRITE);
+        command.region = region;
+        command.premultiplied = premultiplied;
+        command.a = x;
+        command.b = y;
+        command.c = width;
+        command.d = height;
+    }
+
+    /**
+     * Queues text using the font's current color and scale. The text must not be
+     * modified until the queue is flushed.
+     */
+    public void text(BitmapFont font, CharSequence text, float x, float y) {
+        Command command = obtain(Kind.TEXT, PIPELINE_TEXT);
+        command.color.set(font.getColor());
+        command.font = font;
+        command.text = text;
+        command.scaleX = font.getData().scaleX;
+        command.scaleY = font.getData().scaleY;
+        command.a = x;
+        command.b = y;
+    }
+
+    /**
+     * Queues a cached label, which keeps its own color. The label must not be
+     * modified until the queue is flushed.
+     */
+    public void text(CachedText label, float x, float y) {
+        Command command = obtain(Kind.CACHED_TEXT, PIPELINE_TEXT);
+        command.label = label;
+        command.a = x;
+        command.b = y;
+    }
+
+    private void shape(Kind kind, float a, float b, float c, float d, float e, float f, int segments) {
+        int pipeline = shapeType == ShapeRenderer.ShapeType.Line ? PIPELINE_LINE : PIPELINE_FILLED;
+        Command command = obtain(kind, pipeline);
+        command.a = a;
+        command.b = b;
+        command.c = c;
+        command.d = d;
+        command.e = e;
+        command.f = f;
+        command.segments = segments;
+    }
+
+    private Command obtain(Kind kind, int pipeline) {
+        Command command = pool.obtain();
+        command.kind = kind;
+        command.layer = layer;
+        command.pipeline = pipeline;
+        command.sequence = sequence++;
+        command.color.set(color);
+        commands.add(command);
+        return command;
+    }
+
+    /**
+     * Draws all queued commands and clears the queue. The batch must not be drawing.
+     * Shapes are drawn with the batch's projection matrix.
+     */
+    public void flush(SpriteBatch batch, ShapeRendererManager shapes) {
+        lastCommandCount = commands.size;
+        lastFlushCount = 0;
+        lastRunCount = 0;
+
+        Sort.instance().sort(commands, ORDER);
+        shapes.getShapeRenderer().setProjectionMatrix(batch.getProjectionMatrix());
+
+        int srcColor = batch.getBlendSrcFunc();
+        int dstColor = batch.getBlendDstFunc();
+        int srcAlpha = batch.getBlendSrcFuncAlpha();
+        int dstAlpha = batch.getBlendDstFuncAlpha();
+
+        // -1 = nothing begun, otherwise the active pipeline (sprites and text share the batch)
+        int active = -1;
+        for (int i = 0; i < commands.size; i++) {
+            Command command = commands.get(i);
+            int pipeline = command.pipeline == PIPELINE_TEXT ? PIPELINE_SPRITE : command.pipeline;
+
+            if (pipeline == PIPELINE_CUSTOM) {
+                end(active, batch, shapes);
+                active = -1;
+                command.drawable.draw(batch.getProjectionMatrix());
+                lastFlushCount++;
+                lastRunCount++;
+                continue;
+            }
+
+            if (pipeline != active) {
+                end(active, batch, shapes);
+                if (pipeline == PIPELINE_SPRITE) {
+                    batch.begin();
+                } else {
+                    shapes.begin(pipeline == PIPELINE_LINE ? ShapeRenderer.ShapeType.Line : ShapeRenderer.ShapeType.Filled);
+                }
+                active = pipeline;
+                lastRunCount++;
+            }
+
+            if (pipeline == PIPELINE_SPRITE) {
+                drawBatched(command, batch, srcColor, dstColor, srcAlpha, dstAlpha);
+            } else {
+                drawShape(command, shapes);
+            }
+        }
+        end(active, batch, shapes);
+        batch.setBlendFunctionSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
+
+        pool.freeAll(commands);
+        commands.clear();
+        sequence = 0;
+    }
+
+    private void end(int pipeline, SpriteBatch batch, ShapeRendererManager shapes) {
+        if (pipeline == PIPELINE_SPRITE) {
+            batch.end();
+            // Counted since begin(), blend changes between sprites and text flush within the run
+            lastFlushCount += batch.renderCalls;
+        } else if (pipeline >= 0) {
+            shapes.end();
+            lastFlushCount++;
+        }
+    }
+
+    private void drawShape(Command command, ShapeRendererManager shapes) {
+        ShapeRenderer renderer = shapes.getShapeRenderer();
+        shapes.setColor(command.color);
+        switch (command.kind) {
+            case RECT:
+                renderer.rect(command.a, command.b, command.c, command.d);
+                break;
+            case CIRCLE:
+                if (command.segments > 0) {
+                    renderer.circle(command.a, command.b, command.c, command.segments);
+                } else {
+                    renderer.circle(command.a, command.b, command.c);
+                }
+                break;
+            case ELLIPSE:
+                renderer.ellipse(command.a, command.b, command.c, command.d);
+                break;
+            case TRIANGLE:
+                renderer.triangle(command.a, command.b, command.c, command.d, command.e, command.f);
+                break;
+            case RECT_LINE:
+                renderer.rectLine(command.a, command.b, command.c, command.d, command.e);
+                break;
+            case ARC:
+                if (command.segments > 0) {
+                    renderer.arc(command.a, command.b, command.c, command.d, command.e, command.segments);
+                } else {
+                    renderer.arc(command.a, command.b, command.c, command.d, command.e);
+                }
+                break;
+            case LINE:
+                renderer.line(command.a, command.b, command.c, command.d);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void drawBatched(Command command, SpriteBatch batch, int srcColor, int dstColor, int srcAlpha, int dstAlpha) {
+        if (command.kind == Kind.SPRITE) {
+            if (command.premultiplied) {
+                batch.setBlendFunctionSeparate(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            } else {
+                batch.setBlendFunctionSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
+            }
+            batch.setColor(command.color);
+            batch.draw(command.region, command.a, command.b, command.c, command.d);
+            batch.setColor(Color.WHITE);
+            return;
+        }
+
+        // Text is drawn with regular blending and the scale it was submitted with
+        batch.setBlendFunctionSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
+        if (command.kind == Kind.CACHED_TEXT) {
+            command.label.draw(batch, command.a, command.b);
+            return;
+        }
+
+        BitmapFont font = command.font;
+        BitmapFont.BitmapFontData data = font.getData();
+        float scaleX = data.scaleX;
+        float scaleY = data.scaleY;
+        savedColor.set(font.getColor());
+
+        data.setScale(command.scaleX, command.scaleY);
+        font.setColor(command.color);
+        font.draw(batch, command.text, command.a, command.b);
+
+        data.setScale(scaleX, scaleY);
+        font.setColor(savedColor);
+    }
+
+    /**
+     * Number of draw calls made by the last flush: the batch's render calls, one per shape
+     * renderer run and one per custom draw
+     */
+    public int getLastFlushCount() {
+        return lastFlushCount;
+    }
+
+    /**
+     * Number of pipeline runs (batch or shape renderer begin/end pairs and custom draws) in the last flush
+     */
+    public int getLastRunCount() {
+        return lastRunCount;
+    }
+
+    /**
+     * Number of commands drawn by the last flush
+     */
+    public int getLastCommandCount() {
+        return lastCommandCount;
+    }
+}
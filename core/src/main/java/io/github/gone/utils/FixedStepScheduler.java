@@ -0,0 +1,68 @@
+package io.github.gone.utils;
+
+/**
+ * Advances a simulation in fixed time steps, independent of the frame rate.
+ *
+ * Frame time is collected in an accumulator and spent in whole steps, so the game
+ * logic behaves the same at 30, 60 or 144 FPS. The time left over is exposed as an
+ * interpolation alpha that rendering uses to blend the previous and current step.
+ * If a frame would need more than maxStepsPerFrame steps the backlog is dropped,
+ * which slows the game down on very slow frames instead of making them slower still.
+ */
+public class FixedStepScheduler {
+    /**
+     * The simulation advanced by the scheduler
+     */
+    public interface Step {
+        void step(float delta);
+    }
+
+    private final float stepDuration;
+    private final int maxStepsPerFrame;
+    private float accumulator;
+
+    /**
+     * @param stepsPerSecond simulation rate
+     * @param maxStepsPerFrame most steps run for a single frame
+     */
+    public FixedStepScheduler(float stepsPerSecond, int maxStepsPerFrame) {
+        this.stepDuration = 1f / stepsPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Runs as many steps as the frame time allows and returns how many ran
+     */
+    public int advance(float frameDelta, Step step) {
+        accumulator += frameDelta;
+        int steps = 0;
+        while (accumulator >= stepDuration && steps < maxStepsPerFrame) {
+            step.step(stepDuration);
+            accumulator -= stepDuration;
+            steps++;
+        }
+        if (accumulator >= stepDuration) {
+            // Too far behind, keep only the partial step
+            accumulator %= stepDuration;
+        }
+        return steps;
+    }
+
+    /**
+     * How far rendering is between the previous step (0) and the current one (1)
+     */
+    public float getAlpha() {
+        return accumulator / stepDuration;
+    }
+
+    public float getStepDuration() {
+        return stepDuration;
+    }
+
+    /**
+     * Forgets the accumulated time, e.g. after the game was paused
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+}
\ No newline at end of file
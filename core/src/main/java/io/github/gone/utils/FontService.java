@@ -0,0 +1,227 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+
+import java.util.EnumMap;
+
+/**
+ * Generates every font size the game uses once with FreeType and hands out shared
+ * references.
+ *
+ * All sizes are packed into one atlas page, so switching between fonts never switches
+ * textures. The glyphs are rasterized on a background thread started by startLoading(),
+ * only the page upload happens on the render thread. Fonts are shared: set the color
+ * before every use and don't change the scale.
+ */
+public class FontService {
+    private static final String FONT_FILE = "fonts/DejaVuSans.ttf";
+    // Fallback when the TTF is missing or FreeType is unavailable
+    private static final String DEFAULT_FONT = "com/badlogic/gdx/utils/lsans-15.fnt";
+    private static final int DEFAULT_FONT_SIZE = 15;
+    private static final int PAGE_SIZE = 1024;
+
+    /**
+     * Pixel sizes used by the UI
+     */
+    public enum FontSize {
+        CAPTION(14),
+        BODY(15),
+        LABEL(18),
+        SUBTITLE(22),
+        HEADING(27),
+        TITLE(30),
+        DISPLAY(37);
+
+        private final int pixels;
+
+        FontSize(int pixels) {
+            this.pixels = pixels;
+        }
+
+        public int getPixels() {
+            return pixels;
+        }
+    }
+
+    private static FontService instance;
+
+    public static synchronized FontService getInstance() {
+        if (instance == null) {
+            instance = new FontService();
+        }
+        return instance;
+    }
+
+    private final EnumMap<FontSize, BitmapFont> fonts = new EnumMap<>(FontSize.class);
+    private final Array<TextureRegion> pages = new Array<>();
+    private AsyncExecutor executor;
+    private AsyncResult<EnumMap<FontSize, BitmapFont.BitmapFontData>> pending;
+    private PixmapPacker packer;
+    private Texture fallbackTexture;
+
+    private FontService() {
+    }
+
+    /**
+     * Starts rasterizing the glyphs of every size in the background. Does nothing if
+     * loading already started. Call as early as possible at startup.
+     */
+    public synchronized void startLoading() {
+        if (pending != null || !fonts.isEmpty()) return;
+
+        final FileHandle fontFile = Gdx.files.internal(FONT_FILE);
+        if (!fontFile.exists()) {
+            Gdx.app.error("FontService", FONT_FILE + " not found, using the default font");
+            return;
+        }
+
+        // The packer only holds pixmaps until the page is uploaded, so it can be filled off the render thread
+        packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false, new PixmapPacker.SkylineStrategy());
+        executor = new AsyncExecutor(1, "FontService");
+        pending = executor.submit(() -> generate(fontFile));
+    }
+
+    private EnumMap<FontSize, BitmapFont.BitmapFontData> generate(FileHandle fontFile) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        try {
+            EnumMap<FontSize, BitmapFont.BitmapFontData> data = new EnumMap<>(FontSize.class);
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.packer = packer;
+            parameter.minFilter = Texture.TextureFilter.Linear;
+            parameter.magFilter = Texture.TextureFilter.Linear;
+            for (FontSize size : FontSize.values()) {
+                parameter.size = size.getPixels();
+                data.put(size, generator.generateData(parameter));
+            }
+            return data;
+        } finally {
+            generator.dispose();
+        }
+    }
+
+    /**
+     * Returns true once every font is ready. Uploads the atlas page when the
+     * background work finished, so it must be called on the render thread.
+     */
+    public synchronized boolean update() {
+        if (!fonts.isEmpty()) return true;
+        startLoading();
+        if (pending != null && !pending.isDone()) return false;
+        finishLoading();
+        return true;
+    }
+
+    /**
+     * Blocks until every font is ready. Must be called on the render thread.
+     */
+    public synchronized void finishLoading() {
+        if (!fonts.isEmpty()) return;
+        startLoading();
+        if (pending == null) {
+            createFallbackFonts();
+            return;
+        }
+
+        try {
+            EnumMap<FontSize, BitmapFont.BitmapFontData> data = pending.get();
+            packer.updateTextureRegions(pages, Texture.TextureFilter.Linear, Texture.TextureFilter.Linear, false);
+            if (pages.size > 1) {
+                Gdx.app.log("FontService", "Fonts need " + pages.size + " atlas pages, consider a larger PAGE_SIZE");
+            }
+            for (FontSize size : FontSize.values()) {
+                fonts.put(size, new BitmapFont(data.get(size), pages, false));
+            }
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("FontService", "Failed to generate fonts, using the default font", e);
+            createFallbackFonts();
+        } finally {
+            pending = null;
+            executor.dispose();
+            executor = null;
+        }
+    }
+
+    /**
+     * Scales the default bitmap font to every size, sharing its texture
+     */
+    private void createFallbackFonts() {
+        disposePacker();
+        fonts.clear();
+
+        FileHandle fontFile = Gdx.files.classpath(DEFAULT_FONT);
+        BitmapFont baseFont = new BitmapFont(fontFile);
+        fallbackTexture = baseFont.getRegion().getTexture();
+        for (FontSize size : FontSize.values()) {
+            BitmapFont font = new BitmapFont(new BitmapFont.BitmapFontData(fontFile, false), baseFont.getRegions(), true);
+            font.getData().setScale(size.getPixels() / (float) DEFAULT_FONT_SIZE);
+            fonts.put(size, font);
+        }
+    }
+
+    /**
+     * Frees the packer pixmaps and the page textures created from them
+     */
+    private void disposePacker() {
+        if (packer == null) return;
+        for (PixmapPacker.Page page : packer.getPages()) {
+            // The packer only frees pixmaps that were never uploaded
+            if (page.getTexture() != null) {
+                page.getTexture().dispose();
+                page.getPixmap().dispose();
+            }
+        }
+        packer.dispose();
+        packer = null;
+        pages.clear();
+    }
+
+    /**
+     * Returns the shared font for a size, finishing loading first if needed
+     */
+    public BitmapFont get(FontSize size) {
+        if (fonts.isEmpty()) {
+            finishLoading();
+        }
+        return fonts.get(size);
+    }
+
+    /**
+     * Frees the atlas page and every font
+     */
+    public synchronized void dispose() {
+        if (pending != null) {
+            try {
+                pending.get();
+            } catch (GdxRuntimeException ignored) {
+                // Nothing to clean up beyond the packer
+            }
+            pending = null;
+        }
+        if (executor != null) {
+            executor.dispose();
+            executor = null;
+        }
+        disposePacker();
+        if (fallbackTexture != null) {
+            fallbackTexture.dispose();
+            fallbackTexture = null;
+        }
+        fonts.clear();
+        synchronized (FontService.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+}
\ No newline at end of file
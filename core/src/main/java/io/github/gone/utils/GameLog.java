@@ -0,0 +1,463 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured, leveled game log written by a background thread.
+ *
+ * An event is a level, a tag, a constant message and typed key/value fields:
+ *
+ *     log.info("Loot", "Fish caught").with("species", name).with("weight", weight).log();
+ *
+ * Disabled levels return a shared no-op event, so they cost a level check. Enabled
+ * events are copied into a preallocated lock-free ring buffer, primitives without
+ * boxing, and formatted by the drain thread, which echoes them to the console and
+ * appends them to the log file. Nothing is formatted or written on the calling thread.
+ * Object field values are turned into text later on the drain thread, so only pass
+ * immutable ones (strings, enums, numbers). If the buffer is full, events are dropped
+ * and counted rather than blocking the game.
+ */
+public class GameLog {
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    // Ring buffer size, a power of two
+    private static final int CAPACITY = 4096;
+    private static final int MAX_FIELDS = 8;
+    // How long the drain thread sleeps when there is nothing to write
+    private static final long IDLE_PARK_NANOS = 20_000_000L;
+    private static final long FLUSH_TIMEOUT_NANOS = 1_000_000_000L;
+
+    private static final int KIND_LONG = 0;
+    private static final int KIND_DOUBLE = 1;
+    private static final int KIND_FLOAT = 2;
+    private static final int KIND_BOOLEAN = 3;
+    private static final int KIND_OBJECT = 4;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+        DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static GameLog instance;
+
+    public static synchronized GameLog getInstance() {
+        if (instance == null) {
+            instance = new GameLog();
+        }
+        return instance;
+    }
+
+    private final Entry[] ring = new Entry[CAPACITY];
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // Next entry the drain thread reads, only written by it
+    private volatile long consumed;
+
+    private final ThreadLocal<Event> events = ThreadLocal.withInitial(() -> new Event(this));
+    private final Event disabled = new Event(null);
+
+    private volatile Level level = Level.INFO;
+    private volatile boolean console = true;
+    private Writer writer;
+
+    private final Thread drainThread;
+    private volatile boolean running = true;
+
+    // Only used by the drain thread
+    private final StringBuilder line = new StringBuilder(256);
+    private long reportedDrops;
+
+    private GameLog() {
+        for (int i = 0; i < CAPACITY; i++) {
+            ring[i] = new Entry(i);
+        }
+        drainThread = new Thread(this::drainLoop, "GameLog");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Events below this level are ignored
+     */
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public boolean isEnabled(Level level) {
+        return level != Level.OFF && level.ordinal() >= this.level.ordinal();
+    }
+
+    /**
+     * Echoes events to the application log, on by default
+     */
+    public void setConsole(boolean console) {
+        this.console = console;
+    }
+
+    /**
+     * Also appends events to the given file, replacing its previous contents.
+     * Pass null to stop writing to a file.
+     */
+    public synchronized void setFile(FileHandle file) {
+        flush();
+        synchronized (line) {
+            closeWriter();
+            if (file != null) {
+                file.parent().mkdirs();
+                writer = file.writer(false, "UTF-8");
+            }
+        }
+    }
+
+    public Event debug(String tag, String message) {
+        return event(Level.DEBUG, tag, message);
+    }
+
+    public Event info(String tag, String message) {
+        return event(Level.INFO, tag, message);
+    }
+
+    public Event warn(String tag, String message) {
+        return event(Level.WARN, tag, message);
+    }
+
+    public Event error(String tag, String message) {
+        return event(Level.ERROR, tag, message);
+    }
+
+    /**
+     * Starts an event, add fields with with() and finish it with log()
+     */
+    public Event event(Level level, String tag, String message) {
+        if (!isEnabled(level)) return disabled;
+        return events.get().start(level, tag, message);
+    }
+
+    /**
+     * Waits until every event logged so far is written. Call when the game pauses.
+     */
+    public void flush() {
+        long target = claimed.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (consumed < target && drainThread.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(drainThread);
+            Thread.yield();
+        }
+        synchronized (line) {
+            flushWriter();
+        }
+    }
+
+    /**
+     * Writes the remaining events and closes the log file
+     */
+    public synchronized void dispose() {
+        flush();
+        running = false;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (line) {
+            closeWriter();
+        }
+        synchronized (GameLog.class) {
+            if (instance == this) instance = null;
+        }
+    }
+
+    /**
+     * Copies a finished event into the ring buffer, or drops it if the buffer is full
+     */
+    private void publish(Event event) {
+        long position = claimed.get();
+        Entry entry;
+        while (true) {
+            entry = ring[(int) position & (CAPACITY - 1)];
+            long difference = entry.sequence - position;
+            if (difference == 0) {
+                if (claimed.compareAndSet(position, position + 1)) break;
+                position = claimed.get();
+            } else if (difference < 0) {
+                dropped.incrementAndGet();
+                return;
+            } else {
+                position = claimed.get();
+            }
+        }
+
+        entry.copy(event);
+        // Publishing the sequence makes the entry visible to the drain thread
+        entry.sequence = position + 1;
+        if (event.level == Level.ERROR) {
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drain() == 0) {
+                synchronized (line) {
+                    flushWriter();
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+        synchronized (line) {
+            flushWriter();
+        }
+    }
+
+    /**
+     * Writes every published event, returns how many
+     */
+    private int drain() {
+        int count = 0;
+        synchronized (line) {
+            long position = consumed;
+            while (true) {
+                Entry entry = ring[(int) position & (CAPACITY - 1)];
+                if (entry.sequence != position + 1) break;
+                write(entry);
+                entry.clear();
+                // Hands the entry back to the producers for the next lap
+                entry.sequence = position + CAPACITY;
+                position++;
+                consumed = position;
+                count++;
+            }
+
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                line.setLength(0);
+                line.append("Log buffer full, dropped ").append(drops - reportedDrops).append(" events");
+                output(Level.WARN, "GameLog", null);
+                reportedDrops = drops;
+            }
+        }
+        return count;
+    }
+
+    private void write(Entry entry) {
+        line.setLength(0);
+        line.append(entry.message);
+        for (int i = 0; i < entry.fieldCount; i++) {
+            line.append(' ').append(entry.keys[i]).append('=');
+            switch (entry.kinds[i]) {
+                case KIND_LONG: line.append(entry.longs[i]); break;
+                case KIND_DOUBLE: line.append(entry.doubles[i]); break;
+                case KIND_FLOAT: line.append((float) entry.doubles[i]); break;
+                case KIND_BOOLEAN: line.append(entry.longs[i] != 0); break;
+                default: appendValue(entry.objects[i]); break;
+            }
+        }
+        output(entry.level, entry.tag, entry.error, entry.time);
+    }
+
+    private void appendValue(Object value) {
+        String text = String.valueOf(value);
+        if (text.indexOf(' ') < 0 && text.indexOf('"') < 0) {
+            line.append(text);
+        } else {
+            line.append('"').append(text.replace("\"", "\\\"")).append('"');
+        }
+    }
+
+    private void output(Level level, String tag, Throwable error) {
+        output(level, tag, error, System.currentTimeMillis());
+    }
+
+    /**
+     * Sends the formatted line in the builder to the console and the file
+     */
+    private void output(Level level, String tag, Throwable error, long time) {
+        if (console) {
+            String text = line.toString();
+            if (Gdx.app == null) {
+                System.out.println("[" + tag + "] " + text);
+                if (error != null) error.printStackTrace(System.out);
+            } else if (level == Level.ERROR) {
+                Gdx.app.error(tag, text, error);
+            } else if (level == Level.DEBUG) {
+                Gdx.app.debug(tag, text);
+            } else {
+                Gdx.app.log(tag, text);
+            }
+        }
+        if (writer != null) {
+            try {
+                TIME_FORMAT.formatTo(Instant.ofEpochMilli(time), writer);
+                writer.append(' ').append(level.name()).append(' ').append(tag).append(' ').append(line).append('\n');
+                if (error != null) {
+                    writer.append(error.toString()).append('\n');
+                }
+            } catch (IOException e) {
+                // The console still gets the events
+                closeWriter();
+            }
+        }
+    }
+
+    private void flushWriter() {
+        if (writer == null) return;
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            closeWriter();
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            // Nothing left to write to
+        }
+        writer = null;
+    }
+
+    /**
+     * An event being built on the calling thread. Each thread reuses its own.
+     */
+    public static final class Event {
+        private final GameLog log;
+        private Level level;
+        private String tag;
+        private String message;
+        private Throwable error;
+        private int fieldCount;
+        private final String[] keys = new String[MAX_FIELDS];
+        private final int[] kinds = new int[MAX_FIELDS];
+        private final long[] longs = new long[MAX_FIELDS];
+        private final double[] doubles = new double[MAX_FIELDS];
+        private final Object[] objects = new Object[MAX_FIELDS];
+
+        private Event(GameLog log) {
+            this.log = log;
+        }
+
+        private Event start(Level level, String tag, String message) {
+            this.level = level;
+            this.tag = tag;
+            this.message = message;
+            this.error = null;
+            this.fieldCount = 0;
+            return this;
+        }
+
+        private int field(String key, int kind) {
+            if (log == null || fieldCount == MAX_FIELDS) return -1;
+            keys[fieldCount] = key;
+            kinds[fieldCount] = kind;
+            return fieldCount++;
+        }
+
+        public Event with(String key, long value) {
+            int i = field(key, KIND_LONG);
+            if (i >= 0) longs[i] = value;
+            return this;
+        }
+
+        public Event with(String key, double value) {
+            int i = field(key, KIND_DOUBLE);
+            if (i >= 0) doubles[i] = value;
+            return this;
+        }
+
+        public Event with(String key, float value) {
+            int i = field(key, KIND_FLOAT);
+            if (i >= 0) doubles[i] = value;
+            return this;
+        }
+
+        public Event with(String key, boolean value) {
+            int i = field(key, KIND_BOOLEAN);
+            if (i >= 0) longs[i] = value ? 1 : 0;
+            return this;
+        }
+
+        public Event with(String key, Object value) {
+            int i = field(key, KIND_OBJECT);
+            if (i >= 0) objects[i] = value;
+            return this;
+        }
+
+        public Event error(Throwable error) {
+            if (log != null) this.error = error;
+            return this;
+        }
+
+        /**
+         * Hands the event to the log
+         */
+        public void log() {
+            if (log == null) return;
+            log.publish(this);
+            // Don't keep the values alive until the next event
+            for (int i = 0; i < fieldCount; i++) {
+                objects[i] = null;
+            }
+            error = null;
+        }
+    }
+
+    /**
+     * A slot of the ring buffer, its sequence says whose turn it is
+     */
+    private static final class Entry {
+        volatile long sequence;
+        long time;
+        Level level;
+        String tag;
+        String message;
+        Throwable error;
+        int fieldCount;
+        final String[] keys = new String[MAX_FIELDS];
+        final int[] kinds = new int[MAX_FIELDS];
+        final long[] longs = new long[MAX_FIELDS];
+        final double[] doubles = new double[MAX_FIELDS];
+        final Object[] objects = new Object[MAX_FIELDS];
+
+        Entry(long sequence) {
+            this.sequence = sequence;
+        }
+
+        void copy(Event event) {
+            time = System.currentTimeMillis();
+            level = event.level;
+            tag = event.tag;
+            message = event.message;
+            error = event.error;
+            fieldCount = event.fieldCount;
+            System.arraycopy(event.keys, 0, keys, 0, fieldCount);
+            System.arraycopy(event.kinds, 0, kinds, 0, fieldCount);
+            System.arraycopy(event.longs, 0, longs, 0, fieldCount);
+            System.arraycopy(event.doubles, 0, doubles, 0, fieldCount);
+            System.arraycopy(event.objects, 0, objects, 0, fieldCount);
+        }
+
+        void clear() {
+            for (int i = 0; i < fieldCount; i++) {
+                objects[i] = null;
+            }
+            error = null;
+        }
+    }
+}
\ No newline at end of file
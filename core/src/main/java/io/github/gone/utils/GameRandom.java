@@ -0,0 +1,148 @@
+package io.github.gone.utils;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A seedable, splittable random stream (SplitMix64) used instead of the global MathUtils.random.
+ *
+ * Each game session creates one root stream from a seed and derives an independent
+ * stream for every subsystem, so the same seed replays the same catches and fish
+ * moves. A stream is not thread safe. Parallel work should give each thread its own
+ * stream through split() or derive(), which keeps it both safe and deterministic.
+ * It extends Random so it can be passed to anything that takes one.
+ */
+public class GameRandom extends Random {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long STREAM_SALT = 0xd1b54a32d192ed03L;
+
+    // Seeds for streams created without one, each call gets a different seed
+    private static final AtomicLong defaultSeeds = new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    // Not initialized here, Random's constructor sets the state through setSeed()
+    private long state;
+    private long gamma;
+
+    /**
+     * Creates a stream with a seed that differs on every call
+     */
+    public GameRandom() {
+        this(newSeed());
+    }
+
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long gamma) {
+        super(seed);
+        this.state = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Returns a fresh seed for a new session
+     */
+    public static long newSeed() {
+        return mix64(defaultSeeds.getAndAdd(2 * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Returns a new independent stream and advances this one
+     */
+    public GameRandom split() {
+        long seed = nextLong();
+        state += gamma;
+        return new GameRandom(seed, mixGamma(state));
+    }
+
+    /**
+     * Returns the sub-stream with the given id without advancing this one. The same
+     * parent state and id always give the same stream, whatever order they are made in.
+     */
+    public GameRandom derive(long streamId) {
+        long seed = mix64(state ^ mix64(streamId ^ STREAM_SALT));
+        return new GameRandom(seed, mixGamma(seed + GOLDEN_GAMMA));
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        state = seed;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        state += gamma;
+        return mix64(state);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Returns a random number between 0 (inclusive) and 1 (exclusive), like MathUtils.random()
+     */
+    public float random() {
+        return nextFloat();
+    }
+
+    /**
+     * Returns a random number between 0 and range, both inclusive
+     */
+    public int random(int range) {
+        return nextInt(range + 1);
+    }
+
+    /**
+     * Returns a random number between start (inclusive) and end (exclusive)
+     */
+    public float random(float start, float end) {
+        return start + nextFloat() * (end - start);
+    }
+
+    /**
+     * Returns -1 or 1 with equal chance
+     */
+    public int randomSign() {
+        return nextBoolean() ? 1 : -1;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Turns a value into an odd gamma with enough bit transitions to give a good stream
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.nio.IntBuffer;
+
+/**
+ * Caches static scenery and panel backgrounds in offscreen textures.
+ * Each layer is painted once into a FrameBuffer and then drawn as a single
+ * textured quad until it is invalidated (e.g. after a resize).
+ */
+public class LayerCache {
+    private static LayerCache instance;
+
+    public static synchronized LayerCache getInstance() {
+        if (instance == null) {
+            instance = new LayerCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Paints the content of a layer. Coordinates are the same as when drawing directly,
+     * the painter is responsible for calling begin() and end().
+     */
+    public interface LayerPainter {
+        void paint(ShapeRendererManager shapeRenderer);
+    }
+
+    private static class Layer {
+        final float x;
+        final float y;
+        final float width;
+        final float height;
+        final LayerPainter painter;
+        FrameBuffer frameBuffer;
+        TextureRegion region;
+        boolean dirty = true;
+
+        Layer(float x, float y, float width, float height, LayerPainter painter) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.painter = painter;
+        }
+
+        void disposeBuffer() {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+                frameBuffer = null;
+                region = null;
+            }
+        }
+    }
+
+    private final ObjectMap<String, Layer> layers = new ObjectMap<>();
+    private final ShapeRendererManager shapeRenderer;
+
+    // Scratch state reused while painting and drawing layers
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private final Color savedColor = new Color();
+    private final IntBuffer viewport = BufferUtils.newIntBuffer(16);
+
+    // Framebuffer pixels per world unit
+    private float pixelScale = 1f;
+
+    private LayerCache() {
+        shapeRenderer = RenderContext.acquire().getShapeRenderer();
+    }
+
+    /**
+     * Registers a layer covering the given world rectangle. Replaces any layer with the same name.
+     */
+    public void register(String name, float x, float y, float width, float height, LayerPainter painter) {
+        remove(name);
+        layers.put(name, new Layer(x, y, width, height, painter));
+    }
+
+    /**
+     * Removes a layer and frees its framebuffer
+     */
+    public void remove(String name) {
+        Layer layer = layers.remove(name);
+        if (layer != null) {
+            layer.disposeBuffer();
+        }
+    }
+
+    /**
+     * Marks a layer to be repainted the next time it is drawn
+     */
+    public void invalidate(String name) {
+        Layer layer = layers.get(name);
+        if (layer != null) {
+            layer.dirty = true;
+        }
+    }
+
+    public void invalidateAll() {
+        for (Layer layer : layers.values()) {
+            layer.dirty = true;
+        }
+    }
+
+    /**
+     * Updates the framebuffer resolution and repaints every layer on next use.
+     * Should be called from the screen's resize().
+     */
+    public void resize(float pixelScale) {
+        this.pixelScale = Math.max(pixelScale, 0.01f);
+        invalidateAll();
+    }
+
+    /**
+     * Queues a layer as one quad with the given opacity, repainting it first if needed.
+     * Must be called while nothing is being drawn.
+     */
+    public void submit(DrawQueue queue, String name, float alpha) {
+        Layer layer = layers.get(name);
+        if (layer == null) {
+            Gdx.app.error("LayerCache", "No layer registered with name: " + name);
+            return;
+        }
+
+        if (layer.dirty) {
+            paint(layer);
+        }
+
+        // Layer textures hold premultiplied alpha
+        savedColor.set(queue.getColor());
+        queue.setColor(alpha, alpha, alpha, alpha);
+        queue.sprite(layer.region, layer.x, layer.y, layer.width, layer.height, true);
+        queue.setColor(savedColor);
+    }
+
+    /**
+     * Draws a layer as one quad with the given opacity, repainting it first if needed.
+     * The batch may or may not be drawing.
+     */
+    public void draw(SpriteBatch batch, String name, float alpha) {
+        Layer layer = layers.get(name);
+        if (layer == null) {
+            Gdx.app.error("LayerCache", "No layer registered with name: " + name);
+            return;
+        }
+
+        if (layer.dirty) {
+            // Offscreen rendering can't happen while the batch has pending vertices
+            boolean wasDrawing = batch.isDrawing();
+            if (wasDrawing) {
+                batch.end();
+            }
+            paint(layer);
+            if (wasDrawing) {
+                batch.begin();
+            }
+        }
+
+        boolean wasDrawing = batch.isDrawing();
+        if (!wasDrawing) {
+            batch.begin();
+        }
+
+        int srcColor = batch.getBlendSrcFunc();
+        int dstColor = batch.getBlendDstFunc();
+        int srcAlpha = batch.getBlendSrcFuncAlpha();
+        int dstAlpha = batch.getBlendDstFuncAlpha();
+        savedColor.set(batch.getColor());
+
+        // Layer textures hold premultiplied alpha
+        batch.setBlendFunctionSeparate(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.setColor(alpha, alpha, alpha, alpha);
+        batch.draw(layer.region, layer.x, layer.y, layer.width, layer.height);
+
+        batch.setBlendFunctionSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
+        batch.setColor(savedColor);
+
+        if (!wasDrawing) {
+            batch.end();
+        }
+    }
+
+    /**
+     * Paints a layer into its framebuffer, (re)creating the buffer if the size changed
+     */
+    private void paint(Layer layer) {
+        int pixelWidth = Math.max(1, MathUtils.round(layer.width * pixelScale));
+        int pixelHeight = Math.max(1, MathUtils.round(layer.height * pixelScale));
+
+        if (layer.frameBuffer == null
+            || layer.frameBuffer.getWidth() != pixelWidth
+            || layer.frameBuffer.getHeight() != pixelHeight) {
+            layer.disposeBuffer();
+            layer.frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, pixelWidth, pixelHeight, false);
+            Texture texture = layer.frameBuffer.getColorBufferTexture();
+            texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            layer.region = new TextureRegion(texture);
+            // Framebuffer textures are upside down
+            layer.region.flip(false, true);
+        }
+
+        // Remember the current viewport, FrameBuffer.end() would otherwise reset it to the full window
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, viewport);
+
+        layer.frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        savedProjection.set(shapeRenderer.getShapeRenderer().getProjectionMatrix());
+        projection.setToOrtho2D(layer.x, layer.y, layer.width, layer.height);
+        shapeRenderer.getShapeRenderer().setProjectionMatrix(projection);
+
+        // Accumulate alpha so the texture can be composited later with premultiplied blending
+        shapeRenderer.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        layer.painter.paint(shapeRenderer);
+        shapeRenderer.resetBlendFunction();
+
+        shapeRenderer.getShapeRenderer().setProjectionMatrix(savedProjection);
+        layer.frameBuffer.end(viewport.get(0), viewport.get(1), viewport.get(2), viewport.get(3));
+
+        layer.dirty = false;
+    }
+
+    /**
+     * Frees every layer. The cache is recreated on the next getInstance() call.
+     */
+    public void dispose() {
+        for (Layer layer : layers.values()) {
+            layer.disposeBuffer();
+        }
+        layers.clear();
+        RenderContext.release();
+        synchronized (LayerCache.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Shared rendering resources: a single ShapeRenderer, SpriteBatch and draw queue
+ * that every component borrows instead of creating its own. Fonts are shared
+ * through the FontService.
+ *
+ * Owners call acquire() when they are created and release() when they are disposed,
+ * the resources are freed once the last owner releases them. Short lived objects
+ * like fish can use getInstance() without taking a reference.
+ */
+public class RenderContext {
+    private static RenderContext instance;
+    private static int references;
+
+    /**
+     * Takes a reference to the shared context, creating it if needed
+     */
+    public static synchronized RenderContext acquire() {
+        references++;
+        return getInstance();
+    }
+
+    /**
+     * Drops a reference taken with acquire(), disposing the context after the last one
+     */
+    public static synchronized void release() {
+        if (references <= 0) {
+            Gdx.app.error("RenderContext", "Called release() without a corresponding acquire().");
+            return;
+        }
+        references--;
+        if (references == 0 && instance != null) {
+            instance.dispose();
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the shared context without taking a reference
+     */
+    public static synchronized RenderContext getInstance() {
+        if (instance == null) {
+            instance = new RenderContext();
+        }
+        return instance;
+    }
+
+    private final ShapeRendererManager shapeRenderer;
+    private final SpriteBatch batch;
+    private final DrawQueue drawQueue;
+
+    private RenderContext() {
+        shapeRenderer = new ShapeRendererManager();
+        batch = new SpriteBatch();
+        drawQueue = new DrawQueue();
+    }
+
+    public ShapeRendererManager getShapeRenderer() {
+        return shapeRenderer;
+    }
+
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    public DrawQueue getDrawQueue() {
+        return drawQueue;
+    }
+
+    private void dispose() {
+        shapeRenderer.dispose();
+        batch.dispose();
+    }
+}
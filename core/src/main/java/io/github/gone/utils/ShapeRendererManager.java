@@ -13,6 +13,12 @@ public class ShapeRendererManager {
     private final ShapeRenderer shapeRenderer;
     private boolean isDrawing = false;
     
+    // Blend function applied in begin(), defaults to regular alpha blending
+    private int blendSrcColor = GL20.GL_SRC_ALPHA;
+    private int blendDstColor = GL20.GL_ONE_MINUS_SRC_ALPHA;
+    private int blendSrcAlpha = GL20.GL_SRC_ALPHA;
+    private int blendDstAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+    
     public ShapeRendererManager() {
         shapeRenderer = new ShapeRenderer();
     }
@@ -24,7 +30,7 @@ public class ShapeRendererManager {
         }
         
         Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        Gdx.gl.glBlendFuncSeparate(blendSrcColor, blendDstColor, blendSrcAlpha, blendDstAlpha);
         shapeRenderer.begin(shapeType);
         isDrawing = true;
     }
@@ -35,8 +41,8 @@ public class ShapeRendererManager {
             return;
         }
         
+        // Blending is left enabled, everything in the game is drawn blended
         shapeRenderer.end();
-        Gdx.gl.glDisable(GL20.GL_BLEND);
         isDrawing = false;
     }
     
@@ -48,6 +54,24 @@ public class ShapeRendererManager {
         shapeRenderer.setColor(color);
     }
     
+    /**
+     * Overrides the blend function used by begin(), e.g. to keep a usable
+     * alpha channel when drawing into an offscreen buffer.
+     */
+    public void setBlendFunction(int srcColor, int dstColor, int srcAlpha, int dstAlpha) {
+        blendSrcColor = srcColor;
+        blendDstColor = dstColor;
+        blendSrcAlpha = srcAlpha;
+        blendDstAlpha = dstAlpha;
+    }
+    
+    /**
+     * Restores regular alpha blending.
+     */
+    public void resetBlendFunction() {
+        setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+    
     public ShapeRenderer getShapeRenderer() {
         return shapeRenderer;
     }
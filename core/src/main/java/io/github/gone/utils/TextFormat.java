@@ -0,0 +1,34 @@
+package io.github.gone.utils;
+
+/**
+ * Allocation free number formatting for labels that are rebuilt every frame.
+ * Appends to a reused StringBuilder instead of using String.format or concatenation.
+ */
+public final class TextFormat {
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L};
+
+    private TextFormat() {
+    }
+
+    /**
+     * Appends a value with a fixed number of decimals (0-6), rounding half up like "%.nf"
+     */
+    public static StringBuilder appendFixed(StringBuilder builder, float value, int decimals) {
+        long scale = POWERS_OF_TEN[decimals];
+        long scaled = Math.round(Math.abs((double) value) * scale);
+        if (value < 0 && scaled != 0) {
+            builder.append('-');
+        }
+
+        builder.append(scaled / scale);
+        if (decimals > 0) {
+            builder.append('.');
+            long fraction = scaled % scale;
+            for (long digit = scale / 10; digit > 1 && fraction < digit; digit /= 10) {
+                builder.append('0');
+            }
+            builder.append(fraction);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.gone.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Draws animated wave lines on the water from a static mesh.
+ *
+ * The wave shapes are built once from a sine lookup table that holds one wavelength.
+ * Each line covers one extra wavelength and is animated by sliding it sideways in the
+ * vertex shader, so a frame only updates a time uniform and issues a single draw call
+ * no matter how many waves or vertices there are.
+ */
+public class WaveRenderer implements DrawQueue.CustomDrawable {
+    private static final String VERTEX_SHADER =
+        "attribute vec2 a_position;\n" +
+        "attribute float a_speed;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "uniform float u_time;\n" +
+        "uniform float u_wavelength;\n" +
+        "void main() {\n" +
+        "    float shift = mod(u_time * a_speed, u_wavelength);\n" +
+        "    gl_Position = u_projTrans * vec4(a_position.x + shift, a_position.y, 0.0, 1.0);\n" +
+        "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "uniform vec4 u_color;\n" +
+        "void main() {\n" +
+        "    gl_FragColor = u_color;\n" +
+        "}\n";
+
+    private final Mesh mesh;
+    private final ShaderProgram shader;
+    private final Color color;
+    private final float wavelength;
+    private final float loopDuration;
+    private float time;
+
+    /**
+     * @param x left edge of the water
+     * @param y height of the lowest wave
+     * @param width width of the water
+     * @param waveCount number of wave lines
+     * @param spacing vertical distance between wave lines
+     * @param samplesPerWavelength vertices per wavelength, higher is smoother
+     * @param wavelength length of one wave period in world units
+     * @param amplitude height of the waves in world units
+     * @param speed horizontal speed of the slowest waves in world units per second
+     */
+    public WaveRenderer(float x, float y, float width, int waveCount, float spacing,
+                        int samplesPerWavelength, float wavelength, float amplitude, float speed, Color color) {
+        this.color = new Color(color);
+        this.wavelength = wavelength;
+        // Wave speeds are multiples of the base speed, so every line is back at its start after this long
+        this.loopDuration = wavelength / Math.max(Math.abs(speed), 0.0001f);
+
+        // One wavelength of sine values, shared by every line
+        float[] sineTable = new float[samplesPerWavelength];
+        for (int i = 0; i < samplesPerWavelength; i++) {
+            sineTable[i] = MathUtils.sin(i * MathUtils.PI2 / samplesPerWavelength) * amplitude;
+        }
+
+        // Lines start one wavelength left of the water so they still cover it when shifted
+        float step = wavelength / samplesPerWavelength;
+        int pointsPerLine = MathUtils.ceil((width + wavelength) / step) + 1;
+        int vertexCount = waveCount * pointsPerLine;
+        if (vertexCount > Short.MAX_VALUE * 2) {
+            throw new GdxRuntimeException("Too many wave vertices: " + vertexCount);
+        }
+
+        float[] vertices = new float[vertexCount * 3];
+        short[] indices = new short[waveCount * (pointsPerLine - 1) * 2];
+        int v = 0;
+        int i = 0;
+        for (int wave = 0; wave < waveCount; wave++) {
+            float lineY = y + wave * spacing;
+            // Alternate directions and speeds so neighbouring lines don't move in lockstep
+            float lineSpeed = speed * (wave % 3 == 2 ? 2 : 1) * (wave % 2 == 0 ? 1 : -1);
+            // Offset each line by part of a wavelength so the crests don't line up
+            int phase = (wave * samplesPerWavelength / 3) % samplesPerWavelength;
+            int first = wave * pointsPerLine;
+
+            for (int point = 0; point < pointsPerLine; point++) {
+                vertices[v++] = x - wavelength + point * step;
+                vertices[v++] = lineY + sineTable[(point + phase) % samplesPerWavelength];
+                vertices[v++] = lineSpeed;
+
+                if (point > 0) {
+                    indices[i++] = (short) (first + point - 1);
+                    indices[i++] = (short) (first + point);
+                }
+            }
+        }
+
+        mesh = new Mesh(true, vertexCount, indices.length, new VertexAttributes(
+            new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+            new VertexAttribute(VertexAttributes.Usage.Generic, 1, "a_speed")));
+        mesh.setVertices(vertices);
+        mesh.setIndices(indices);
+
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            Gdx.app.error("WaveRenderer", "Failed to compile wave shader: " + shader.getLog());
+        }
+    }
+
+    public void update(float delta) {
+        time = (time + delta) % loopDuration;
+    }
+
+    @Override
+    public void draw(Matrix4 projection) {
+        if (!shader.isCompiled()) return;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        shader.setUniformf("u_time", time);
+        shader.setUniformf("u_wavelength", wavelength);
+        shader.setUniformf("u_color", color);
+        mesh.render(shader, GL20.GL_LINES);
+    }
+
+    public void dispose() {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
\ No newline at end of file
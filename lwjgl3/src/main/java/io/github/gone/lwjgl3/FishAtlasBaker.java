@@ -0,0 +1,143 @@
+package io.github.gone.lwjgl3;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import io.github.gone.fish.Fish;
+import io.github.gone.fish.FishAtlas;
+import io.github.gone.fish.SpeciesCatalog;
+import io.github.gone.utils.DrawQueue;
+import io.github.gone.utils.ShapeRendererManager;
+
+import java.io.File;
+
+/**
+ * Renders every fish species offscreen from its procedural shapes and packs the
+ * results into the fish atlas. Run through the bakeFishAtlas Gradle task.
+ * The only argument is the output directory, usually assets/atlas.
+ */
+public class FishAtlasBaker extends ApplicationAdapter {
+    private final File outputDir;
+
+    public FishAtlasBaker(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: FishAtlasBaker <output directory>");
+            System.exit(1);
+        }
+        if (StartupHelper.startNewJvmIfRequired()) return;
+
+        // A hidden window is enough to get a GL context for offscreen rendering
+        Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
+        configuration.setTitle("Fish Atlas Baker");
+        configuration.setWindowedMode(64, 64);
+        configuration.setInitialVisible(false);
+        configuration.disableAudio(true);
+        new Lwjgl3Application(new FishAtlasBaker(new File(args[0])), configuration);
+    }
+
+    @Override
+    public void create() {
+        FileHandle spritesDir = new FileHandle(new File(outputDir.getParentFile(), "fish-sprites-tmp"));
+        spritesDir.deleteDirectory();
+        spritesDir.mkdirs();
+
+        int pixelSize = MathUtils.round(FishAtlas.CELL_SIZE * FishAtlas.PIXELS_PER_UNIT);
+        FrameBuffer frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, pixelSize, pixelSize, false);
+        SpriteBatch batch = new SpriteBatch();
+        ShapeRendererManager shapeRenderer = new ShapeRendererManager();
+        DrawQueue queue = new DrawQueue();
+
+        // Fish are drawn around the origin of the cell
+        float half = FishAtlas.CELL_SIZE / 2f;
+        batch.getProjectionMatrix().setToOrtho2D(-half, -half, FishAtlas.CELL_SIZE, FishAtlas.CELL_SIZE);
+
+        // Accumulate alpha so the pixels can be turned back into straight alpha afterwards
+        shapeRenderer.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        try {
+            for (Fish fish : SpeciesCatalog.getInstance().getAll()) {
+                String fishName = fish.getName();
+
+                frameBuffer.begin();
+                Gdx.gl.glViewport(0, 0, pixelSize, pixelSize);
+                Gdx.gl.glClearColor(0, 0, 0, 0);
+                Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+                queue.setLayer(DrawQueue.LAYER_WORLD);
+                queue.setShapeType(ShapeRenderer.ShapeType.Filled);
+                fish.drawShapes(queue, 0, 0, 0);
+                queue.flush(batch, shapeRenderer);
+
+                Pixmap pixels = Pixmap.createFromFrameBuffer(0, 0, pixelSize, pixelSize);
+                frameBuffer.end();
+
+                Pixmap sprite = toStraightAlpha(pixels);
+                PixmapIO.writePNG(spritesDir.child(FishAtlas.regionName(fishName) + ".png"), sprite);
+                sprite.dispose();
+                pixels.dispose();
+                Gdx.app.log("FishAtlasBaker", "Baked " + fishName);
+            }
+        } finally {
+            shapeRenderer.dispose();
+            batch.dispose();
+            frameBuffer.dispose();
+        }
+
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        settings.stripWhitespaceX = true;
+        settings.stripWhitespaceY = true;
+        settings.filterMin = Texture.TextureFilter.Linear;
+        settings.filterMag = Texture.TextureFilter.Linear;
+        String atlasName = new File(FishAtlas.ATLAS_PATH).getName().replace(".atlas", "");
+        TexturePacker.process(settings, spritesDir.path(), outputDir.getPath(), atlasName);
+
+        spritesDir.deleteDirectory();
+        Gdx.app.log("FishAtlasBaker", "Wrote " + new File(outputDir, atlasName + ".atlas").getPath());
+        Gdx.app.exit();
+    }
+
+    /**
+     * Flips the framebuffer pixels upright and divides out the premultiplied alpha
+     */
+    private static Pixmap toStraightAlpha(Pixmap pixels) {
+        int width = pixels.getWidth();
+        int height = pixels.getHeight();
+        Pixmap sprite = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+        sprite.setBlending(Pixmap.Blending.None);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgba = pixels.getPixel(x, y);
+                int alpha = rgba & 0xff;
+                if (alpha == 0) {
+                    continue;
+                }
+                int r = Math.min(255, ((rgba >>> 24) & 0xff) * 255 / alpha);
+                int g = Math.min(255, ((rgba >>> 16) & 0xff) * 255 / alpha);
+                int b = Math.min(255, ((rgba >>> 8) & 0xff) * 255 / alpha);
+                sprite.drawPixel(x, height - 1 - y, (r << 24) | (g << 16) | (b << 8) | alpha);
+            }
+        }
+        return sprite;
+    }
+}
\ No newline at end of file
@@ -1,12 +1,26 @@
 package io.github.gone.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Graphics;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3WindowAdapter;
 import io.github.gone.Main;
+import io.github.gone.utils.GameLog;
+
+import java.util.Locale;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
+    // Frame rate while the window is open but not focused
+    private static final int UNFOCUSED_FPS = 10;
+
     public static void main(String[] args) {
+        //// -Dgone.log=debug|info|warn|error|off picks which game events get logged, info by default.
+        String logLevel = System.getProperty("gone.log");
+        if (logLevel != null) {
+            GameLog.getInstance().setLevel(GameLog.Level.valueOf(logLevel.toUpperCase(Locale.ROOT)));
+        }
         createApplication();
     }
 
@@ -17,12 +31,29 @@ public class Lwjgl3Launcher {
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
         Lwjgl3ApplicationConfiguration configuration = new Lwjgl3ApplicationConfiguration();
         configuration.setTitle("Gone Fishing");
-        configuration.useVsync(true);
         //// Limits FPS to the refresh rate of the currently active monitor.
-        configuration.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate);
+        //// -Dgone.fps=<n> renders at a different rate, 0 renders uncapped without Vsync.
+        //// Game logic runs at a fixed rate, so this doesn't change gameplay.
+        int renderFps = Integer.getInteger("gone.fps", Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate);
+        configuration.useVsync(renderFps != 0);
+        configuration.setForegroundFPS(renderFps);
         //// If you remove the above line and set Vsync to false, you can get unlimited FPS, which can be
         //// useful for testing performance, but can also be very stressful to some hardware.
         //// You may also need to configure GPU drivers to fully disable Vsync; this can cause screen tearing.
+        //// Draws only a few frames per second while the window is unfocused. A minimized window
+        //// pauses the game and doesn't render at all. The idle FPS stays at its default, it sets how
+        //// often input is polled while on-demand rendering draws nothing, so lowering it delays input.
+        configuration.setWindowListener(new Lwjgl3WindowAdapter() {
+            @Override
+            public void focusLost() {
+                ((Lwjgl3Graphics) Gdx.graphics).setForegroundFPS(UNFOCUSED_FPS);
+            }
+
+            @Override
+            public void focusGained() {
+                ((Lwjgl3Graphics) Gdx.graphics).setForegroundFPS(renderFps);
+            }
+        });
         configuration.setWindowedMode(480, 800);
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");
         return configuration;